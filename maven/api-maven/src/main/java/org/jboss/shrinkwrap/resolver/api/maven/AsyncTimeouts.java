@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Applies timeouts to futures of asynchronous resolutions run by the default methods of
+ * {@link MavenStrategyStageBase}, as {@code CompletableFuture#orTimeout} is not available on JDK 8.
+ */
+final class AsyncTimeouts {
+
+    /**
+     * No instantiation
+     */
+    private AsyncTimeouts() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Completes given future by a {@link TimeoutException} unless it completes in given time
+     *
+     * @param future The future
+     * @param timeout The maximum time to wait for the future, zero or negative for no limit
+     * @param unit The unit of {@code timeout}
+     * @return The same future
+     */
+    static <T> CompletableFuture<T> orTimeout(final CompletableFuture<T> future, final long timeout,
+            final TimeUnit unit) {
+        if (timeout > 0L) {
+            final ScheduledFuture<?> timer = TimerHolder.TIMER.schedule(() -> future.completeExceptionally(
+                new TimeoutException("Resolution did not complete in " + timeout + " " + unit.toString().toLowerCase())),
+                timeout, unit);
+            future.whenComplete((result, failure) -> timer.cancel(false));
+        }
+        return future;
+    }
+
+    private static final class TimerHolder {
+        private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+        private static ScheduledThreadPoolExecutor createTimer() {
+            final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "shrinkwrap-resolver-api-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+}
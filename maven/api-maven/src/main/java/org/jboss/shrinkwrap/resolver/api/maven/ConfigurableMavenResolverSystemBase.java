@@ -95,6 +95,34 @@ public interface ConfigurableMavenResolverSystemBase<UNCONFIGURABLERESOLVERSYSTE
      */
     PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withMavenCentralRepo(boolean useMavenCentral);
 
+    /**
+     * Sets whether this resolver system may be used to resolve from multiple threads at the same time; defaults to
+     * false. If enabled, every resolution started from this resolver system, such as {@code resolve(...)},
+     * {@code addDependency(...)} or {@code loadPomFromFile(...)}, gets its own resolution context. Such contexts share
+     * settings, configured repositories, the repository system and its caches. Configuration of this resolver system
+     * is expected to be finished before it is used concurrently.
+     * <p>
+     * As every such call starts a new resolution context, calls on this resolver system must be chained, for instance
+     * {@code resolver.addDependency(d).resolve().withTransitivity()}. Calling {@code resolver.addDependency(d)} and
+     * then {@code resolver.resolve()} resolves without {@code d} and fails with no dependencies set.
+     * <p>
+     * Implementations which can not be used concurrently reject enabling it, which is what this method does unless
+     * overridden.
+     *
+     * @param concurrentResolution Whether this resolver system may be used from multiple threads at the same time
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws UnsupportedOperationException If {@code concurrentResolution} is {@code true} and this resolver system
+     *         can not be used concurrently
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withConcurrentResolution(boolean concurrentResolution)
+        throws UnsupportedOperationException {
+        if (concurrentResolution) {
+            throw new UnsupportedOperationException("Concurrent resolution is not supported by " + getClass().getName());
+        }
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
+
     /**
      * Sets whether to consult any remote Maven Repository in resolution; defaults to false.
      * This method is able to override value defined in settings.xml if loaded later.
@@ -119,4 +147,116 @@ public interface ConfigurableMavenResolverSystemBase<UNCONFIGURABLERESOLVERSYSTE
      * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
      */
     PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE useLegacyLocalRepo(boolean useLegacyLocalRepository);
+
+    /**
+     * Sets how many artifacts may be downloaded from a single remote repository at the same time; defaults to 5.
+     * Applies to this resolver system only, overriding {@code aether.connector.basic.threads} system property.
+     * Implementations which can not be tuned ignore this setting, which is what this method does unless overridden.
+     *
+     * @param downloadThreads The number of parallel downloads
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws IllegalArgumentException If {@code downloadThreads} is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withDownloadThreads(int downloadThreads)
+        throws IllegalArgumentException {
+        if (downloadThreads < 1) {
+            throw new IllegalArgumentException("Number of download threads must be at least 1");
+        }
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
+
+    /**
+     * Sets the algorithm collecting the dependency graph; defaults to {@link MavenDependencyCollector#DEPTH_FIRST}.
+     * Applies to this resolver system only, overriding {@code aether.dependencyCollector.impl} system property.
+     * Implementations which can not be tuned ignore this setting, which is what this method does unless overridden.
+     *
+     * @param dependencyCollector The algorithm
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws IllegalArgumentException If {@code dependencyCollector} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withDependencyCollector(MavenDependencyCollector dependencyCollector)
+        throws IllegalArgumentException {
+        if (dependencyCollector == null) {
+            throw new IllegalArgumentException("Dependency collector must be specified");
+        }
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
+
+    /**
+     * Sets how many artifact descriptors {@link MavenDependencyCollector#BREADTH_FIRST} collector may read at the same
+     * time; defaults to 5. Applies to this resolver system only, overriding
+     * {@code aether.dependencyCollector.bf.threads} system property.
+     * Implementations which can not be tuned ignore this setting, which is what this method does unless overridden.
+     *
+     * @param collectorThreads The number of descriptors read in parallel
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws IllegalArgumentException If {@code collectorThreads} is less than 2
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withCollectorThreads(int collectorThreads)
+        throws IllegalArgumentException {
+        if (collectorThreads < 2) {
+            throw new IllegalArgumentException("Number of collector threads must be at least 2");
+        }
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
+
+    /**
+     * Sets how many HTTP connections may be open to any remote repository at the same time; defaults to 50. Applies to
+     * this resolver system only, overriding {@code aether.connector.http.maxConnectionsPerRoute} system property.
+     * Implementations which can not be tuned ignore this setting, which is what this method does unless overridden.
+     *
+     * @param maxConnections The maximum number of connections to a repository
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws IllegalArgumentException If {@code maxConnections} is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withMaxConnectionsPerRepository(int maxConnections)
+        throws IllegalArgumentException {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Maximum number of connections must be at least 1");
+        }
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
+
+    /**
+     * Sets how many HTTP connections may be open to the remote repository of given id at the same time, taking
+     * precedence over {@link #withMaxConnectionsPerRepository(int)}.
+     * Implementations which can not be tuned ignore this setting, which is what this method does unless overridden.
+     *
+     * @param repositoryId The id of the repository, such as "central"
+     * @param maxConnections The maximum number of connections to the repository
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     * @throws IllegalArgumentException If {@code repositoryId} is {@code null} or empty, or if {@code maxConnections}
+     *         is less than 1
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withMaxConnectionsPerRepository(String repositoryId,
+        int maxConnections) throws IllegalArgumentException {
+        if (repositoryId == null || repositoryId.isEmpty()) {
+            throw new IllegalArgumentException("Repository id must be specified");
+        }
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Maximum number of connections must be at least 1");
+        }
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
+
+    /**
+     * Sets whether resolution only collects the dependency graph and downloads the file of a resolved artifact on its
+     * first access, such as {@link MavenResolvedArtifact#asFile()}; defaults to false. Converting all the artifacts at
+     * once by {@link MavenFormatStage} downloads the missing files in parallel. Applies to this resolver system only,
+     * overriding {@code org.jboss.shrinkwrap.resolver.maven.lazy-download} system property. Implementations which can
+     * not download lazily ignore this setting and download artifacts during resolution, which is what this method does
+     * unless overridden.
+     *
+     * @param lazyDownload Whether to download artifacts on their first access
+     * @return Modified instance of {@code PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE}
+     */
+    @SuppressWarnings("unchecked")
+    default PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE withLazyDownload(boolean lazyDownload) {
+        return (PARTIALLYCONFIGUREDRESOLVERSYSTEMTYPE) this;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven;
+
+/**
+ * Algorithms collecting the dependency graph of a resolution
+ */
+public enum MavenDependencyCollector {
+    /**
+     * Walk the graph depth-first, reading artifact descriptors one by one. This is the default.
+     */
+    DEPTH_FIRST("df"),
+    /**
+     * Walk the graph breadth-first, reading artifact descriptors of each level in parallel and skipping subtrees which
+     * were already collected.
+     */
+    BREADTH_FIRST("bf");
+
+    private final String apiValue;
+
+    MavenDependencyCollector(String apiValue) {
+        this.apiValue = apiValue;
+    }
+
+    public String apiValue() {
+        return apiValue;
+    }
+}
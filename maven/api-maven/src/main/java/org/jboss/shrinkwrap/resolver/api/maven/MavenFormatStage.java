@@ -17,6 +17,7 @@
 package org.jboss.shrinkwrap.resolver.api.maven;
 
 import org.jboss.shrinkwrap.resolver.api.FormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 
 /**
  * Represents the formatting stage of Maven-based resolution in which the resolved artifact is returned in the desired
@@ -27,4 +28,12 @@ import org.jboss.shrinkwrap.resolver.api.FormatStage;
  */
 public interface MavenFormatStage extends FormatStage<MavenResolvedArtifact> {
 
+    /**
+     * Returns metrics of the resolution which produced this stage
+     *
+     * @return The metrics, {@link ResolutionMetrics#EMPTY} if they were not recorded
+     */
+    default ResolutionMetrics getResolutionMetrics() {
+        return ResolutionMetrics.EMPTY;
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven;
 
+import java.io.File;
+
 import org.jboss.shrinkwrap.resolver.api.ResolvedArtifact;
 
 /**
@@ -26,5 +28,15 @@ import org.jboss.shrinkwrap.resolver.api.ResolvedArtifact;
  * @author <a href="mailto:mmatloka@gmail.com">Michal Matloka</a>
  */
 public interface MavenResolvedArtifact extends MavenArtifactInfo, ResolvedArtifact<MavenResolvedArtifact> {
-    /* empty */
+
+    /**
+     * Returns the directory this artifact consists of, if it was resolved from a module of the current reactor, such
+     * as {@code target/classes} of the module. Unlike {@link #asFile()}, this does not require the directory to be
+     * packaged into an archive first.
+     *
+     * @return The directory, or {@code null} if the artifact is not resolved from a reactor module
+     */
+    default File getExplodedDirectory() {
+        return null;
+    }
 }
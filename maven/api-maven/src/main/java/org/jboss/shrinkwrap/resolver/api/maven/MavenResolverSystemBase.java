@@ -16,8 +16,15 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.CoordinateParseException;
+import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.ResolverSystem;
 import org.jboss.shrinkwrap.resolver.api.Resolvers;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
 
 /**
  * Entry point of a Maven-based Resolver system which does not support configuration. To create a new instance, pass in
@@ -29,4 +36,40 @@ import org.jboss.shrinkwrap.resolver.api.Resolvers;
 public interface MavenResolverSystemBase<EQUIPPEDRESOLVESTAGETYPE extends PomEquippedResolveStageBase<EQUIPPEDRESOLVESTAGETYPE, STRATEGYSTAGETYPE, FORMATSTAGETYPE>, UNEQUIPPEDRESOLVESTAGETYPE extends PomlessResolveStageBase<EQUIPPEDRESOLVESTAGETYPE, UNEQUIPPEDRESOLVESTAGETYPE, STRATEGYSTAGETYPE, FORMATSTAGETYPE>, STRATEGYSTAGETYPE extends MavenStrategyStageBase<STRATEGYSTAGETYPE, FORMATSTAGETYPE>, FORMATSTAGETYPE extends MavenFormatStage>
     extends ResolverSystem,
     PomlessResolveStageBase<EQUIPPEDRESOLVESTAGETYPE, UNEQUIPPEDRESOLVESTAGETYPE, STRATEGYSTAGETYPE, FORMATSTAGETYPE> {
+
+    /**
+     * Resolves several independent sets of dependencies in a single call. Each set is resolved as if it was passed to
+     * {@link #resolve(Collection)} on its own and resolved using given strategy. Sets are however collected together,
+     * so that dependency subgraphs they have in common are read only once, and artifacts of all the sets are downloaded
+     * in parallel. Dependencies added to this resolver before are not part of any set.
+     * <p>
+     * Implementations which can not collect the sets together resolve them one after another by
+     * {@link #resolve(Collection)} instead, which is what this method does unless overridden.
+     *
+     * @param dependencySets The sets of dependencies in canonical form, by their names
+     * @param strategy The strategy used for every set
+     * @return The next {@link MavenFormatStage} of each set, by its name, in the iteration order of
+     *         {@code dependencySets}
+     * @throws IllegalArgumentException If no sets or no strategy are specified, or if any of the sets is empty
+     * @throws CoordinateParseException If any of the dependencies is not in a valid canonical form
+     * @throws ResolutionException If any of the sets could not be resolved
+     */
+    default Map<String, FORMATSTAGETYPE> resolveAll(Map<String, ? extends Collection<String>> dependencySets,
+        MavenResolutionStrategy strategy) throws IllegalArgumentException, CoordinateParseException,
+        ResolutionException {
+        if (dependencySets == null || dependencySets.isEmpty()) {
+            throw new IllegalArgumentException("At least one dependency set must be specified");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy must be specified");
+        }
+        final Map<String, FORMATSTAGETYPE> formatStages = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends Collection<String>> entry : dependencySets.entrySet()) {
+            if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                throw new IllegalArgumentException("No dependencies were set for resolution of " + entry.getKey());
+            }
+            formatStages.put(entry.getKey(), resolve(entry.getValue()).using(strategy));
+        }
+        return formatStages;
+    }
 }
@@ -16,11 +16,19 @@
  */
 package org.jboss.shrinkwrap.resolver.api.maven;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.jboss.shrinkwrap.resolver.api.ResolutionStrategy;
 import org.jboss.shrinkwrap.resolver.api.TransitiveStrategyStage;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
 import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
 
 /**
  * Provides support for Maven-based {@link ResolutionStrategy}s in artifact resolution
@@ -31,4 +39,131 @@ import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
  */
 public interface MavenStrategyStageBase<STRATEGYSTAGETYPE extends MavenStrategyStageBase<STRATEGYSTAGETYPE, FORMATSTAGETYPE>, FORMATSTAGETYPE extends MavenFormatStage>
     extends TransitiveStrategyStage<MavenDependency, MavenResolutionFilter, MavenResolvedArtifact, FORMATSTAGETYPE, MavenResolutionStrategy> {
+
+    /**
+     * Alias to {@link #using(ResolutionStrategy)} with {@code NonTransitiveStrategy.INSTANCE} as argument.
+     * <p>
+     * Only the direct dependencies of the resolved artifacts are collected, so that the rest of the dependency graph
+     * is never fetched. As a result, {@link MavenResolvedArtifact#getDependencies()} of a resolved artifact lists its
+     * direct dependencies, but these report no dependencies of their own.
+     *
+     * @return The next {@link MavenFormatStage}
+     */
+    FORMATSTAGETYPE withoutTransitivity();
+
+    /**
+     * Collects the dependency graph the same way {@link #withTransitivity()} does, but does not download any artifact
+     * other than the POM files needed to build the graph. Useful for dependency tree rendering, license scanning or
+     * conflict reports, which do not need the artifact files at all.
+     *
+     * @return Information about the artifacts {@link #withTransitivity()} would resolve, in the same order, together
+     * with their dependencies
+     * @see #collect(MavenResolutionStrategy)
+     */
+    default MavenArtifactInfo[] collect() {
+        return collect(TransitiveStrategy.INSTANCE);
+    }
+
+    /**
+     * Collects the dependency graph the same way {@link #using(ResolutionStrategy)} does, but does not download any
+     * artifact other than the POM files needed to build the graph. Implementations which can not collect the graph
+     * only resolve the artifacts instead, which is what this method does unless overridden.
+     *
+     * @param strategy The strategy
+     * @return Information about the artifacts {@link #using(ResolutionStrategy)} would resolve, in the same order,
+     * together with their dependencies
+     * @throws IllegalArgumentException If there are no dependencies to be collected
+     */
+    default MavenArtifactInfo[] collect(MavenResolutionStrategy strategy) throws IllegalArgumentException {
+        return using(strategy).asResolvedArtifact();
+    }
+
+    /**
+     * Asynchronous variant of {@link #withTransitivity()}, run by the default executor. The default executor of the
+     * implementation shipped with ShrinkWrap Resolver uses virtual threads if the JVM supports them, daemon threads
+     * otherwise; other implementations use {@link ForkJoinPool#commonPool()} unless they override this method.
+     *
+     * @return A future completed by the next {@link MavenFormatStage}
+     * @see #usingAsync(MavenResolutionStrategy, Executor, long, TimeUnit)
+     */
+    default CompletableFuture<FORMATSTAGETYPE> withTransitivityAsync() {
+        return withTransitivityAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Asynchronous variant of {@link #withTransitivity()}, run by given executor.
+     *
+     * @param executor The executor to run the resolution
+     * @return A future completed by the next {@link MavenFormatStage}
+     * @see #usingAsync(MavenResolutionStrategy, Executor, long, TimeUnit)
+     */
+    default CompletableFuture<FORMATSTAGETYPE> withTransitivityAsync(Executor executor) {
+        return usingAsync(TransitiveStrategy.INSTANCE, executor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #withoutTransitivity()}, run by the default executor.
+     *
+     * @return A future completed by the next {@link MavenFormatStage}
+     * @see #withTransitivityAsync()
+     */
+    default CompletableFuture<FORMATSTAGETYPE> withoutTransitivityAsync() {
+        return withoutTransitivityAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Asynchronous variant of {@link #withoutTransitivity()}, run by given executor.
+     *
+     * @param executor The executor to run the resolution
+     * @return A future completed by the next {@link MavenFormatStage}
+     * @see #usingAsync(MavenResolutionStrategy, Executor, long, TimeUnit)
+     */
+    default CompletableFuture<FORMATSTAGETYPE> withoutTransitivityAsync(Executor executor) {
+        return usingAsync(NonTransitiveStrategy.INSTANCE, executor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #using(ResolutionStrategy)}, run by given executor.
+     *
+     * @param strategy The strategy
+     * @param executor The executor to run the resolution
+     * @return A future completed by the next {@link MavenFormatStage}
+     * @see #usingAsync(MavenResolutionStrategy, Executor, long, TimeUnit)
+     */
+    default CompletableFuture<FORMATSTAGETYPE> usingAsync(MavenResolutionStrategy strategy, Executor executor) {
+        return usingAsync(strategy, executor, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Asynchronous variant of {@link #using(ResolutionStrategy)}, run by given executor.
+     * <p>
+     * The dependencies to be resolved are taken over when this method is called, so that the resolver may be used for
+     * another resolution right away. Independent resolutions run concurrently. Cancelling the returned future
+     * interrupts the resolution if it is running. If the resolution does not complete in time, the future is
+     * completed by a {@link TimeoutException} and the resolution is interrupted.
+     * <p>
+     * Implementations which can not resolve asynchronously run {@link #using(ResolutionStrategy)} by given executor.
+     * They resolve the dependencies known when the executor runs the resolution, and neither cancellation nor the
+     * timeout interrupts a resolution which is already running.
+     *
+     * @param strategy The strategy
+     * @param executor The executor to run the resolution
+     * @param timeout The maximum time to wait for the resolution, zero or negative for no limit
+     * @param unit The unit of {@code timeout}
+     * @return A future completed by the next {@link MavenFormatStage}
+     * @throws IllegalArgumentException If there are no dependencies to be resolved
+     */
+    default CompletableFuture<FORMATSTAGETYPE> usingAsync(MavenResolutionStrategy strategy, Executor executor,
+        long timeout, TimeUnit unit) throws IllegalArgumentException {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy must be specified");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must be specified");
+        }
+        if (unit == null) {
+            throw new IllegalArgumentException("Time unit must be specified");
+        }
+        return AsyncTimeouts.orTimeout(CompletableFuture.supplyAsync(() -> using(strategy), executor), timeout, unit);
+    }
 }
@@ -41,4 +41,14 @@ public enum AcceptAllFilter implements MavenResolutionFilter {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter#requiresAncestors()
+     */
+    @Override
+    public boolean requiresAncestors() {
+        return false;
+    }
+
 }
@@ -45,4 +45,15 @@ public interface MavenResolutionFilter extends ResolutionFilter {
      */
     boolean accepts(MavenDependency dependency, List<MavenDependency> dependenciesForResolution, List<MavenDependency> dependencyAncestors);
 
+    /**
+     * Determines whether this filter consults the ancestors of the candidate for inclusion. If it does not, the
+     * resolution might skip computing them and pass an empty list to {@link #accepts(MavenDependency, List, List)}
+     * instead.
+     *
+     * @return Whether {@code dependencyAncestors} are needed by this filter, {@code true} by default
+     */
+    default boolean requiresAncestors() {
+        return true;
+    }
+
 }
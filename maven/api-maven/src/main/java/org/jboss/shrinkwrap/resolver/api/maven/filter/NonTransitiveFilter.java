@@ -49,4 +49,14 @@ public enum NonTransitiveFilter implements MavenResolutionFilter {
 
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter#requiresAncestors()
+     */
+    @Override
+    public boolean requiresAncestors() {
+        return false;
+    }
 }
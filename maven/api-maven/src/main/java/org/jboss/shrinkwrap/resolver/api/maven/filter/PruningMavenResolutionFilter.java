@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.filter;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+
+/**
+ * A {@link MavenResolutionFilter} which is able to reject a dependency together with all its transitive dependencies
+ * while the dependency graph is being collected, that is before descriptors of these dependencies are fetched.
+ * <p>
+ * A pruned dependency does not take part in version mediation, same as if it was excluded. Its transitive dependencies
+ * reachable via other paths in the graph are still collected there. Only filters which ban dependencies from the graph
+ * should prune therefore. Filters which merely leave dependencies out of the result, such as {@link ScopeFilter}, must
+ * not prune, as the versions and scopes of the other dependencies might depend on the subtree.
+ */
+public interface PruningMavenResolutionFilter extends MavenResolutionFilter {
+
+    /**
+     * Determines whether a {@link MavenDependency} and all its transitive dependencies are to be left out of the
+     * collected dependency graph. This must be the case only if
+     * {@link #accepts(MavenDependency, List, List)} would reject the dependency as well as all its transitive
+     * dependencies.
+     * <p>
+     * The dependency is passed as declared, dependency management is not applied to it yet. If
+     * {@link #requiresAncestors()} returns {@code false}, the filter must not consult anything else about the ancestors
+     * than whether there are any.
+     *
+     * @param dependency
+     *            Candidate for collection
+     * @param dependencyAncestors
+     *            A list of ancestors of the candidate for collection, the closest first. The list is empty for the
+     *            dependencies requested for resolution.
+     * @return Whether the {@link MavenDependency} is to be left out of the dependency graph with all its transitive
+     *         dependencies.
+     */
+    boolean prunes(MavenDependency dependency, List<MavenDependency> dependencyAncestors);
+}
@@ -34,7 +34,7 @@ import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  * @author <a href="mailto:alr@jboss.org">Andrew Lee Rubinger</a>
  */
-public class RejectDependenciesFilter implements MavenResolutionFilter {
+public class RejectDependenciesFilter implements PruningMavenResolutionFilter {
 
     private final Set<MavenDependency> bannedDependencies;
 
@@ -84,4 +84,27 @@ public class RejectDependenciesFilter implements MavenResolutionFilter {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter#requiresAncestors()
+     */
+    @Override
+    public boolean requiresAncestors() {
+        return rejectTransitives;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A banned dependency is pruned if transitive dependencies are to be rejected as well.
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.filter.PruningMavenResolutionFilter#prunes(org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency,
+     * java.util.List)
+     */
+    @Override
+    public boolean prunes(final MavenDependency dependency, final List<MavenDependency> dependencyAncestors) {
+        return rejectTransitives && bannedDependencies.contains(dependency);
+    }
+
 }
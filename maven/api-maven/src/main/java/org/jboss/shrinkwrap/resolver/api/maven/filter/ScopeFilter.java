@@ -70,6 +70,16 @@ public class ScopeFilter implements MavenResolutionFilter {
         return allowedScopes.contains(dependency.getScope());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter#requiresAncestors()
+     */
+    @Override
+    public boolean requiresAncestors() {
+        return false;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("ScopeFilter [");
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ResolutionMetricsListener} which keeps metrics of all the resolutions it was notified about in memory, so that
+ * they can be inspected or exported at any time. This class is thread-safe.
+ */
+public class InMemoryResolutionMetrics implements ResolutionMetricsListener {
+
+    private long resolutionCount;
+    private ResolutionMetrics total = ResolutionMetrics.EMPTY;
+    private ResolutionMetrics last = ResolutionMetrics.EMPTY;
+
+    @Override
+    public synchronized void resolutionCompleted(final ResolutionMetrics metrics) {
+        resolutionCount++;
+        total = total.plus(metrics);
+        last = metrics;
+    }
+
+    /**
+     * Returns the number of resolutions completed since creation or since the last {@link #reset()}
+     *
+     * @return The number of resolutions
+     */
+    public synchronized long getResolutionCount() {
+        return resolutionCount;
+    }
+
+    /**
+     * Returns the metrics of all the resolutions aggregated
+     *
+     * @return The aggregated metrics, {@link ResolutionMetrics#EMPTY} if there was no resolution
+     */
+    public synchronized ResolutionMetrics getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the metrics of the resolution completed last
+     *
+     * @return The metrics, {@link ResolutionMetrics#EMPTY} if there was no resolution
+     */
+    public synchronized ResolutionMetrics getLast() {
+        return last;
+    }
+
+    /**
+     * Forgets all the resolutions
+     */
+    public synchronized void reset() {
+        resolutionCount = 0L;
+        total = ResolutionMetrics.EMPTY;
+        last = ResolutionMetrics.EMPTY;
+    }
+
+    /**
+     * Returns the aggregated metrics together with the number of resolutions as flat name-value pairs, see
+     * {@link ResolutionMetrics#toMap()}
+     *
+     * @return The metrics by their names
+     */
+    public synchronized Map<String, Long> export() {
+        final Map<String, Long> map = new LinkedHashMap<>();
+        map.put("resolutions", resolutionCount);
+        map.putAll(total.toMap());
+        return map;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of what a resolution cost: time spent collecting the dependency graph and resolving its artifacts,
+ * number of artifact descriptors read, artifacts found locally versus downloaded, bytes downloaded from each
+ * repository and latency of each download.
+ * <p>
+ * Snapshots of several resolutions are aggregated by {@link #plus(ResolutionMetrics)}.
+ */
+public final class ResolutionMetrics {
+
+    /**
+     * Metrics of a resolution which did not do anything
+     */
+    public static final ResolutionMetrics EMPTY = new Builder().build();
+
+    private final long collectTimeNanos;
+    private final long resolveTimeNanos;
+    private final int descriptorCount;
+    private final int resolvedArtifactCount;
+    private final int downloadedArtifactCount;
+    private final int failedTransferCount;
+    private final Map<String, Long> downloadedBytesByRepository;
+    private final Map<String, Long> transferTimesMillis;
+
+    private ResolutionMetrics(final Builder builder) {
+        this.collectTimeNanos = builder.collectTimeNanos;
+        this.resolveTimeNanos = builder.resolveTimeNanos;
+        this.descriptorCount = builder.descriptorCount;
+        this.resolvedArtifactCount = builder.resolvedArtifactCount;
+        this.downloadedArtifactCount = builder.downloadedArtifactCount;
+        this.failedTransferCount = builder.failedTransferCount;
+        this.downloadedBytesByRepository = Collections.unmodifiableMap(new LinkedHashMap<>(
+            builder.downloadedBytesByRepository));
+        this.transferTimesMillis = Collections.unmodifiableMap(new LinkedHashMap<>(builder.transferTimesMillis));
+    }
+
+    /**
+     * Returns time spent collecting the dependency graph, that is resolving versions and reading artifact descriptors
+     *
+     * @return The time in nanoseconds
+     */
+    public long getCollectTimeNanos() {
+        return collectTimeNanos;
+    }
+
+    /**
+     * Returns time spent resolving artifacts of the collected dependency graph
+     *
+     * @return The time in nanoseconds
+     */
+    public long getResolveTimeNanos() {
+        return resolveTimeNanos;
+    }
+
+    /**
+     * Returns the number of artifact descriptors, that is POM files, resolved
+     *
+     * @return The number of artifact descriptors
+     */
+    public int getDescriptorCount() {
+        return descriptorCount;
+    }
+
+    /**
+     * Returns the number of artifacts resolved, including artifact descriptors
+     *
+     * @return The number of resolved artifacts
+     */
+    public int getResolvedArtifactCount() {
+        return resolvedArtifactCount;
+    }
+
+    /**
+     * Returns the number of resolved artifacts which had to be downloaded from a remote repository
+     *
+     * @return The number of downloaded artifacts
+     */
+    public int getDownloadedArtifactCount() {
+        return downloadedArtifactCount;
+    }
+
+    /**
+     * Returns the number of resolved artifacts which were found without downloading them, for instance in the local
+     * repository
+     *
+     * @return The number of artifacts found locally
+     */
+    public int getLocalArtifactCount() {
+        return Math.max(0, resolvedArtifactCount - downloadedArtifactCount);
+    }
+
+    /**
+     * Returns the number of transfers which failed, including transfers of files not present in a repository
+     *
+     * @return The number of failed transfers
+     */
+    public int getFailedTransferCount() {
+        return failedTransferCount;
+    }
+
+    /**
+     * Returns the number of bytes downloaded from all the repositories
+     *
+     * @return The number of bytes
+     */
+    public long getDownloadedBytes() {
+        long bytes = 0L;
+        for (Long repositoryBytes : downloadedBytesByRepository.values()) {
+            bytes += repositoryBytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the number of bytes downloaded from each repository
+     *
+     * @return Unmodifiable map of the number of bytes by repository ID
+     */
+    public Map<String, Long> getDownloadedBytesByRepository() {
+        return downloadedBytesByRepository;
+    }
+
+    /**
+     * Returns how long each download took
+     *
+     * @return Unmodifiable map of time in milliseconds by URL of the downloaded file
+     */
+    public Map<String, Long> getTransferTimesMillis() {
+        return transferTimesMillis;
+    }
+
+    /**
+     * Aggregates these metrics with metrics of another resolution. Times and counts are summed, including the
+     * download times of the files downloaded by both resolutions.
+     *
+     * @param other The metrics to be added
+     * @return The aggregated metrics
+     */
+    public ResolutionMetrics plus(final ResolutionMetrics other) {
+        final Builder builder = new Builder().collectTimeNanos(collectTimeNanos + other.collectTimeNanos)
+            .resolveTimeNanos(resolveTimeNanos + other.resolveTimeNanos)
+            .descriptorCount(descriptorCount + other.descriptorCount)
+            .resolvedArtifactCount(resolvedArtifactCount + other.resolvedArtifactCount)
+            .downloadedArtifactCount(downloadedArtifactCount + other.downloadedArtifactCount)
+            .failedTransferCount(failedTransferCount + other.failedTransferCount);
+        for (ResolutionMetrics metrics : new ResolutionMetrics[] { this, other }) {
+            for (Map.Entry<String, Long> entry : metrics.downloadedBytesByRepository.entrySet()) {
+                builder.downloadedBytes(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, Long> entry : metrics.transferTimesMillis.entrySet()) {
+                builder.transferTimeMillis(entry.getKey(), entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the metrics as flat name-value pairs, suitable for export. Download times of individual files are not
+     * included.
+     *
+     * @return Unmodifiable map of values by metric name
+     */
+    public Map<String, Long> toMap() {
+        final Map<String, Long> map = new LinkedHashMap<>();
+        map.put("collect.time.nanos", collectTimeNanos);
+        map.put("resolve.time.nanos", resolveTimeNanos);
+        map.put("descriptors", (long) descriptorCount);
+        map.put("artifacts.resolved", (long) resolvedArtifactCount);
+        map.put("artifacts.downloaded", (long) downloadedArtifactCount);
+        map.put("artifacts.local", (long) getLocalArtifactCount());
+        map.put("transfers.failed", (long) failedTransferCount);
+        map.put("bytes.downloaded", getDownloadedBytes());
+        for (Map.Entry<String, Long> entry : downloadedBytesByRepository.entrySet()) {
+            map.put("bytes.downloaded." + entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+        return "ResolutionMetrics " + toMap();
+    }
+
+    /**
+     * Builds {@link ResolutionMetrics}. Not thread-safe.
+     */
+    public static final class Builder {
+        private long collectTimeNanos;
+        private long resolveTimeNanos;
+        private int descriptorCount;
+        private int resolvedArtifactCount;
+        private int downloadedArtifactCount;
+        private int failedTransferCount;
+        private final Map<String, Long> downloadedBytesByRepository = new LinkedHashMap<>();
+        private final Map<String, Long> transferTimesMillis = new LinkedHashMap<>();
+
+        public Builder collectTimeNanos(final long collectTimeNanos) {
+            this.collectTimeNanos = collectTimeNanos;
+            return this;
+        }
+
+        public Builder resolveTimeNanos(final long resolveTimeNanos) {
+            this.resolveTimeNanos = resolveTimeNanos;
+            return this;
+        }
+
+        public Builder descriptorCount(final int descriptorCount) {
+            this.descriptorCount = descriptorCount;
+            return this;
+        }
+
+        public Builder resolvedArtifactCount(final int resolvedArtifactCount) {
+            this.resolvedArtifactCount = resolvedArtifactCount;
+            return this;
+        }
+
+        public Builder downloadedArtifactCount(final int downloadedArtifactCount) {
+            this.downloadedArtifactCount = downloadedArtifactCount;
+            return this;
+        }
+
+        public Builder failedTransferCount(final int failedTransferCount) {
+            this.failedTransferCount = failedTransferCount;
+            return this;
+        }
+
+        /**
+         * Adds bytes downloaded from a repository to the ones added before
+         *
+         * @param repositoryId The ID of the repository
+         * @param bytes The number of bytes
+         * @return Modified instance
+         */
+        public Builder downloadedBytes(final String repositoryId, final long bytes) {
+            downloadedBytesByRepository.merge(repositoryId, bytes, Long::sum);
+            return this;
+        }
+
+        /**
+         * Adds time a download took to the time added before for the same file
+         *
+         * @param url The URL of the downloaded file
+         * @param millis The time in milliseconds
+         * @return Modified instance
+         */
+        public Builder transferTimeMillis(final String url, final long millis) {
+            transferTimesMillis.merge(url, millis, Long::sum);
+            return this;
+        }
+
+        public ResolutionMetrics build() {
+            return new ResolutionMetrics(this);
+        }
+    }
+}
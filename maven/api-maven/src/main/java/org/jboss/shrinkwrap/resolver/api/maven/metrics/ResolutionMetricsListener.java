@@ -0,0 +1,33 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+/**
+ * Listener notified about metrics of every resolution in the JVM, see {@link ResolutionMetricsListeners}.
+ * <p>
+ * Listeners are notified synchronously by the thread which did the resolution, so they are expected to return quickly
+ * and to be thread-safe.
+ */
+public interface ResolutionMetricsListener {
+
+    /**
+     * Called when a resolution completes, whether successfully or not
+     *
+     * @param metrics The metrics of the resolution
+     */
+    void resolutionCompleted(ResolutionMetrics metrics);
+}
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of {@link ResolutionMetricsListener}s notified about every resolution in the JVM. No listener is registered
+ * by default.
+ */
+public final class ResolutionMetricsListeners {
+
+    private static final Logger log = Logger.getLogger(ResolutionMetricsListeners.class.getName());
+
+    private static final CopyOnWriteArrayList<ResolutionMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * No instantiation
+     */
+    private ResolutionMetricsListeners() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Registers a listener, unless it is already registered
+     *
+     * @param listener The listener
+     * @throws IllegalArgumentException If the listener is {@code null}
+     */
+    public static void register(final ResolutionMetricsListener listener) throws IllegalArgumentException {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must be specified");
+        }
+        listeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Unregisters a listener
+     *
+     * @param listener The listener
+     */
+    public static void unregister(final ResolutionMetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Checks whether any listener is registered
+     *
+     * @return {@code true} if there is at least one listener, {@code false} otherwise
+     */
+    public static boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Notifies all the registered listeners. A failure of a listener is logged and does not prevent other listeners
+     * from being notified.
+     *
+     * @param metrics The metrics of a completed resolution
+     */
+    public static void notifyListeners(final ResolutionMetrics metrics) {
+        for (ResolutionMetricsListener listener : listeners) {
+            try {
+                listener.resolutionCompleted(metrics);
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Resolution metrics listener " + listener + " failed", e);
+            }
+        }
+    }
+}
@@ -21,7 +21,8 @@ import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
 import org.jboss.shrinkwrap.resolver.api.maven.filter.NonTransitiveFilter;
 
 /**
- * {@link MavenResolutionStrategy} implementation where only explicitly-defined {@link MavenDependency}s are accepted
+ * {@link MavenResolutionStrategy} implementation where only explicitly-defined {@link MavenDependency}s are accepted.
+ * The dependency graph is not collected beyond the direct dependencies of these.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  * @author <a href="mailto:alr@jboss.org">Andrew Lee Rubinger</a>
@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.metrics;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Ensures that {@link ResolutionMetrics} are aggregated and exported as expected
+ */
+public class ResolutionMetricsTestCase {
+
+    @Test
+    public void metricsAreAggregated() {
+        final ResolutionMetrics first = new ResolutionMetrics.Builder().collectTimeNanos(10L).resolveTimeNanos(20L)
+            .descriptorCount(2).resolvedArtifactCount(4).downloadedArtifactCount(3).failedTransferCount(1)
+            .downloadedBytes("central", 100L).transferTimeMillis("https://repo/a.jar", 5L).build();
+        final ResolutionMetrics second = new ResolutionMetrics.Builder().collectTimeNanos(1L).resolvedArtifactCount(2)
+            .downloadedBytes("central", 50L).downloadedBytes("jboss", 25L).transferTimeMillis("https://repo/a.jar", 7L)
+            .build();
+
+        final ResolutionMetrics total = first.plus(second);
+        Assert.assertEquals(11L, total.getCollectTimeNanos());
+        Assert.assertEquals(20L, total.getResolveTimeNanos());
+        Assert.assertEquals(2, total.getDescriptorCount());
+        Assert.assertEquals(6, total.getResolvedArtifactCount());
+        Assert.assertEquals(3, total.getDownloadedArtifactCount());
+        Assert.assertEquals(3, total.getLocalArtifactCount());
+        Assert.assertEquals(1, total.getFailedTransferCount());
+        Assert.assertEquals(175L, total.getDownloadedBytes());
+        Assert.assertEquals(Long.valueOf(150L), total.getDownloadedBytesByRepository().get("central"));
+        Assert.assertEquals(Long.valueOf(12L), total.getTransferTimesMillis().get("https://repo/a.jar"));
+
+        // operands are left untouched
+        Assert.assertEquals(100L, first.getDownloadedBytes());
+        Assert.assertEquals(75L, second.getDownloadedBytes());
+    }
+
+    @Test
+    public void metricsAreExported() {
+        final Map<String, Long> exported = new ResolutionMetrics.Builder().resolvedArtifactCount(3)
+            .downloadedArtifactCount(1).downloadedBytes("central", 100L).build().toMap();
+
+        Assert.assertEquals(Long.valueOf(3L), exported.get("artifacts.resolved"));
+        Assert.assertEquals(Long.valueOf(1L), exported.get("artifacts.downloaded"));
+        Assert.assertEquals(Long.valueOf(2L), exported.get("artifacts.local"));
+        Assert.assertEquals(Long.valueOf(100L), exported.get("bytes.downloaded"));
+        Assert.assertEquals(Long.valueOf(100L), exported.get("bytes.downloaded.central"));
+    }
+
+    @Test
+    public void inMemoryListenerAggregatesResolutions() {
+        final InMemoryResolutionMetrics listener = new InMemoryResolutionMetrics();
+        final ResolutionMetrics metrics = new ResolutionMetrics.Builder().resolvedArtifactCount(2).build();
+        listener.resolutionCompleted(metrics);
+        listener.resolutionCompleted(metrics);
+
+        Assert.assertEquals(2L, listener.getResolutionCount());
+        Assert.assertSame(metrics, listener.getLast());
+        Assert.assertEquals(4, listener.getTotal().getResolvedArtifactCount());
+        Assert.assertEquals(Long.valueOf(2L), listener.export().get("resolutions"));
+    }
+
+    @Test
+    public void failingListenerDoesNotPreventNotification() {
+        final InMemoryResolutionMetrics listener = new InMemoryResolutionMetrics();
+        final ResolutionMetricsListener failing = metrics -> {
+            throw new IllegalStateException("Expected failure");
+        };
+        ResolutionMetricsListeners.register(failing);
+        ResolutionMetricsListeners.register(listener);
+        try {
+            ResolutionMetricsListeners.notifyListeners(ResolutionMetrics.EMPTY);
+        } finally {
+            ResolutionMetricsListeners.unregister(failing);
+            ResolutionMetricsListeners.unregister(listener);
+        }
+        Assert.assertEquals(1L, listener.getResolutionCount());
+        Assert.assertFalse(ResolutionMetricsListeners.hasListeners());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Resolves dependencies of many micro-deployments, which share most of their dependency graphs.
+ * <p>
+ * {@link #sequential()} resolves each deployment on its own, as a test suite building its deployments one by one
+ * does, while {@link #batch()} resolves all of them via a single
+ * {@link org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystemBase#resolveAll(Map,
+ * org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy)} call. Every invocation starts with an
+ * empty local repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BatchResolutionBenchmark {
+
+    private static final int STACKS = 10;
+    private static final int LIBRARIES_PER_STACK = 8;
+
+    /**
+     * Number of deployments, each of them depends on two stacks shared with other deployments and on a library of its
+     * own
+     */
+    @Param({ "50", "100" })
+    public int deployments;
+
+    private Path remoteRepository;
+    private String remoteRepositoryUrl;
+    private Path localRepository;
+    private Map<String, List<String>> dependencySets;
+
+    @Setup(Level.Trial)
+    public void setUpRepository() throws IOException {
+        remoteRepository = Files.createTempDirectory("benchmark-remote");
+        final SyntheticRepository repository = new SyntheticRepository(remoteRepository);
+
+        repository.add("platform-util");
+        for (int i = 0; i < STACKS; i++) {
+            final List<String> libraries = new ArrayList<>();
+            for (int j = 0; j < LIBRARIES_PER_STACK; j++) {
+                final String library = "stack-" + i + "-library-" + j;
+                repository.add(library, "platform-util");
+                libraries.add(library);
+            }
+            repository.add("stack-" + i, libraries);
+        }
+
+        dependencySets = new LinkedHashMap<>();
+        for (int i = 0; i < deployments; i++) {
+            final String deployment = "deployment-" + i;
+            repository.add(deployment + "-library");
+            repository.add(deployment, "stack-" + (i % STACKS), "stack-" + ((i + 3) % STACKS),
+                deployment + "-library");
+            dependencySets.put(deployment, Collections.singletonList(SyntheticRepository.GROUP_ID + ":" + deployment
+                + ":" + SyntheticRepository.VERSION));
+        }
+        remoteRepositoryUrl = repository.getUrl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRepository() throws IOException {
+        SyntheticRepository.delete(remoteRepository);
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpLocalRepository() throws IOException {
+        localRepository = Files.createTempDirectory("benchmark-local");
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, localRepository.toString());
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownLocalRepository() throws IOException {
+        SyntheticRepository.delete(localRepository);
+    }
+
+    @Benchmark
+    public void sequential(final Blackhole blackhole) {
+        for (List<String> dependencySet : dependencySets.values()) {
+            blackhole.consume(resolver().resolve(dependencySet).withTransitivity().asFile());
+        }
+    }
+
+    @Benchmark
+    public void batch(final Blackhole blackhole) {
+        final Map<String, MavenFormatStage> resolved = resolver().resolveAll(dependencySets,
+            TransitiveStrategy.INSTANCE);
+        for (MavenFormatStage formatStage : resolved.values()) {
+            blackhole.consume(formatStage.asFile());
+        }
+    }
+
+    private ConfigurableMavenResolverSystem resolver() {
+        return Maven.configureResolver()
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo("synthetic", remoteRepositoryUrl, "default");
+    }
+}
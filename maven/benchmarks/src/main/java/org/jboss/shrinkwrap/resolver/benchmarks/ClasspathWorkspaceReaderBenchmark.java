@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.aether.ClasspathWorkspaceReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks artifacts up on a synthetic class path via {@link ClasspathWorkspaceReader#findArtifact(Artifact)}.
+ * <p>
+ * Every other class path entry is a jar file, the others are {@code target/classes} directories of modules with a
+ * pom.xml. {@link #findArtifact(Blackhole)} looks up a jar, a module pom.xml, a module jar and a missing artifact in a
+ * reader which already indexed the class path, while {@link #indexAndFindArtifact(Blackhole)} does the same in a new
+ * reader, as each resolver created by a test does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClasspathWorkspaceReaderBenchmark {
+
+    /**
+     * The class path is passed the same way Surefire passes the test class path
+     */
+    private static final String SUREFIRE_CLASS_PATH_KEY = "surefire.test.class.path";
+
+    /**
+     * Number of class path entries
+     */
+    @Param({ "10", "100", "1000" })
+    public int entries;
+
+    private Path classPathRoot;
+    private ClasspathWorkspaceReader reader;
+    private Artifact jar;
+    private Artifact modulePom;
+    private Artifact moduleJar;
+    private Artifact missing;
+
+    @Setup(Level.Trial)
+    public void setUpClassPath() throws IOException {
+        classPathRoot = Files.createTempDirectory("benchmark-classpath");
+        final StringBuilder classPath = new StringBuilder();
+        for (int i = 0; i < entries; i++) {
+            final Path entry;
+            if (i % 2 == 0) {
+                entry = classPathRoot.resolve("library-" + i + "-" + SyntheticRepository.VERSION + ".jar");
+                Files.createFile(entry);
+            } else {
+                final Path module = classPathRoot.resolve("module-" + i);
+                entry = Files.createDirectories(module.resolve("target").resolve("classes"));
+                Files.write(module.resolve("pom.xml"), pom("module-" + i).getBytes(StandardCharsets.UTF_8));
+            }
+            if (classPath.length() > 0) {
+                classPath.append(File.pathSeparatorChar);
+            }
+            classPath.append(entry);
+        }
+        System.setProperty(SUREFIRE_CLASS_PATH_KEY, classPath.toString());
+
+        // artifacts are looked up in the second half of the class path
+        final int library = entries / 2 + (entries / 2) % 2;
+        final int module = library + 1;
+        jar = new DefaultArtifact(SyntheticRepository.GROUP_ID, "library-" + library, "jar", SyntheticRepository.VERSION);
+        modulePom = new DefaultArtifact(SyntheticRepository.GROUP_ID, "module-" + module, "pom",
+            SyntheticRepository.VERSION);
+        moduleJar = new DefaultArtifact(SyntheticRepository.GROUP_ID, "module-" + module, "jar",
+            SyntheticRepository.VERSION);
+        missing = new DefaultArtifact(SyntheticRepository.GROUP_ID, "missing", "jar", SyntheticRepository.VERSION);
+
+        reader = new ClasspathWorkspaceReader();
+        reader.findArtifact(missing);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownClassPath() throws IOException {
+        System.clearProperty(SUREFIRE_CLASS_PATH_KEY);
+        SyntheticRepository.delete(classPathRoot);
+    }
+
+    @Benchmark
+    public void findArtifact(final Blackhole blackhole) {
+        find(reader, blackhole);
+    }
+
+    @Benchmark
+    public void indexAndFindArtifact(final Blackhole blackhole) {
+        find(new ClasspathWorkspaceReader(), blackhole);
+    }
+
+    private void find(final ClasspathWorkspaceReader reader, final Blackhole blackhole) {
+        blackhole.consume(reader.findArtifact(jar));
+        blackhole.consume(reader.findArtifact(modulePom));
+        blackhole.consume(reader.findArtifact(moduleJar));
+        blackhole.consume(reader.findArtifact(missing));
+    }
+
+    private static String pom(final String artifactId) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "    <modelVersion>4.0.0</modelVersion>\n"
+            + "    <groupId>" + SyntheticRepository.GROUP_ID + "</groupId>\n"
+            + "    <artifactId>" + artifactId + "</artifactId>\n"
+            + "    <version>" + SyntheticRepository.VERSION + "</version>\n"
+            + "</project>\n";
+    }
+}
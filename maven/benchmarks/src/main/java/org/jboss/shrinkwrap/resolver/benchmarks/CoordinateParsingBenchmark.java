@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses coordinates in each of their canonical forms via {@link MavenCoordinates#createCoordinate(String)}, which is
+ * done for every dependency requested by a user and for every resolved artifact.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoordinateParsingBenchmark {
+
+    @Param({ "org.jboss.shrinkwrap.resolver:shrinkwrap-resolver-api",
+        "org.jboss.shrinkwrap.resolver:shrinkwrap-resolver-api:3.3.1-SNAPSHOT",
+        "org.jboss.shrinkwrap.resolver:shrinkwrap-resolver-api:jar:3.3.1-SNAPSHOT",
+        "org.jboss.shrinkwrap.resolver:shrinkwrap-resolver-api:test-jar:tests:3.3.1-SNAPSHOT" })
+    public String canonicalForm;
+
+    @Benchmark
+    public MavenCoordinate createCoordinate() {
+        return MavenCoordinates.createCoordinate(canonicalForm);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.File;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathFactoryConfigurationException;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.w3c.dom.Document;
+
+/**
+ * DOM and XPath based extraction of project coordinates, as formerly done by ClasspathWorkspaceReader. Serves as a
+ * baseline for {@link org.jboss.shrinkwrap.resolver.impl.maven.aether.PomCoordinatesExtractor}. Instances are not
+ * thread-safe.
+ */
+final class DomPomCoordinatesExtractor {
+
+    private final DocumentBuilder documentBuilder;
+    private final XPathExpression parentGroupId;
+    private final XPathExpression groupId;
+    private final XPathExpression artifactId;
+    private final XPathExpression type;
+    private final XPathExpression version;
+    private final XPathExpression parentVersion;
+
+    DomPomCoordinatesExtractor() throws Exception {
+        this.documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+
+        XPathFactory factory;
+        try {
+            factory = XPathFactory.newInstance(XPathFactory.DEFAULT_OBJECT_MODEL_URI,
+                                               "com.sun.org.apache.xpath.internal.jaxp.XPathFactoryImpl",
+                                               ClassLoader.getSystemClassLoader());
+        } catch (XPathFactoryConfigurationException e) {
+            factory = XPathFactory.newInstance();
+        }
+        final XPath xPath = factory.newXPath();
+        this.parentGroupId = xPath.compile("/project/parent/groupId");
+        this.groupId = xPath.compile("/project/groupId");
+        this.artifactId = xPath.compile("/project/artifactId");
+        this.type = xPath.compile("/project/packaging");
+        this.version = xPath.compile("/project/version");
+        this.parentVersion = xPath.compile("/project/parent/version");
+    }
+
+    Artifact extract(final File pomFile) throws Exception {
+        final Document pom = documentBuilder.parse(pomFile);
+
+        String groupId = this.groupId.evaluate(pom);
+        String artifactId = this.artifactId.evaluate(pom);
+        String type = this.type.evaluate(pom);
+        String version = this.version.evaluate(pom);
+
+        if (groupId == null || groupId.isEmpty()) {
+            groupId = parentGroupId.evaluate(pom);
+        }
+        if (type == null || type.isEmpty()) {
+            type = "jar";
+        }
+        if (version == null || version.isEmpty()) {
+            version = parentVersion.evaluate(pom);
+        }
+
+        return new DefaultArtifact(groupId + ":" + artifactId + ":" + type + ":" + version);
+    }
+}
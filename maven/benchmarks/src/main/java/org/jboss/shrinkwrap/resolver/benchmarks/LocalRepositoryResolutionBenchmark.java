@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves an application whose whole dependency graph is already present in the local repository, which is the
+ * common case of a test suite run on a developer machine. This covers the full resolution, that is session bootstrap,
+ * graph collection, filtering, artifact resolution and format conversion, but no transfers.
+ * <p>
+ * The local repository is populated from a generated file-based repository once per trial, resolution then runs
+ * offline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalRepositoryResolutionBenchmark {
+
+    private static final String APPLICATION = SyntheticRepository.GROUP_ID + ":application:"
+        + SyntheticRepository.VERSION;
+
+    /**
+     * Number of direct dependencies of the application, each of them brings two libraries of its own and a library
+     * shared by all of them
+     */
+    @Param({ "50", "300" })
+    public int width;
+
+    private Path remoteRepository;
+    private String remoteRepositoryUrl;
+    private Path localRepository;
+
+    @Setup(Level.Trial)
+    public void setUpRepositories() throws IOException {
+        remoteRepository = Files.createTempDirectory("benchmark-remote");
+        final SyntheticRepository repository = new SyntheticRepository(remoteRepository);
+
+        repository.add("platform-util");
+        final List<String> modules = new ArrayList<>();
+        for (int i = 0; i < width; i++) {
+            final String module = "module-" + i;
+            repository.add(module + "-api", "platform-util");
+            repository.add(module + "-impl", module + "-api", "platform-util");
+            repository.add(module, module + "-api", module + "-impl");
+            modules.add(module);
+        }
+        repository.add("application", modules);
+        remoteRepositoryUrl = repository.getUrl();
+
+        localRepository = Files.createTempDirectory("benchmark-local");
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, localRepository.toString());
+        resolver().resolve(APPLICATION).withTransitivity().asFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRepositories() throws IOException {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        SyntheticRepository.delete(localRepository);
+        SyntheticRepository.delete(remoteRepository);
+    }
+
+    @Benchmark
+    public File[] resolve() {
+        return resolver().workOffline().resolve(APPLICATION).withTransitivity().asFile();
+    }
+
+    private ConfigurableMavenResolverSystem resolver() {
+        return Maven.configureResolver()
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo("synthetic", remoteRepositoryUrl, "default");
+    }
+}
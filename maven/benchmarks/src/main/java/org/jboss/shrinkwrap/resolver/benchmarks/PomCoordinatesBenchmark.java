@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.aether.PomCoordinatesExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares extraction of project coordinates from pom.xml files by DOM and XPath with the streaming
+ * {@link PomCoordinatesExtractor}.
+ * <p>
+ * The pom.xml files are shaped after real world ones: coordinates and parent come first, followed by properties,
+ * dependency management, dependencies and build sections, which make up the bulk of the file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PomCoordinatesBenchmark {
+
+    /**
+     * Approximate size of the pom.xml file in kilobytes
+     */
+    @Param({ "5", "50", "500" })
+    public int sizeKb;
+
+    /**
+     * Whether the pom.xml declares packaging next to its coordinates. If not, the whole file has to be read to find out
+     * that the default one is to be used.
+     */
+    @Param({ "true", "false" })
+    public boolean declaresPackaging;
+
+    private File pomFile;
+    private DomPomCoordinatesExtractor domExtractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        pomFile = File.createTempFile("benchmark-pom", ".xml");
+        Files.write(pomFile.toPath(), createPom(sizeKb * 1024, declaresPackaging).getBytes(StandardCharsets.UTF_8));
+        domExtractor = new DomPomCoordinatesExtractor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(pomFile.toPath());
+    }
+
+    @Benchmark
+    public Artifact dom() throws Exception {
+        return domExtractor.extract(pomFile);
+    }
+
+    @Benchmark
+    public Artifact stax() throws Exception {
+        return PomCoordinatesExtractor.extract(pomFile);
+    }
+
+    static String createPom(final int size, final boolean declaresPackaging) {
+        final StringBuilder sb = new StringBuilder(size + 1024);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+            .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" ")
+            .append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ")
+            .append("xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 ")
+            .append("http://maven.apache.org/maven-v4_0_0.xsd\">\n")
+            .append("    <modelVersion>4.0.0</modelVersion>\n")
+            .append("    <parent>\n")
+            .append("        <groupId>org.jboss.shrinkwrap.benchmark</groupId>\n")
+            .append("        <artifactId>benchmark-parent</artifactId>\n")
+            .append("        <version>1.0.0</version>\n")
+            .append("    </parent>\n")
+            .append("    <artifactId>benchmark-child</artifactId>\n");
+        if (declaresPackaging) {
+            sb.append("    <packaging>jar</packaging>\n");
+        }
+        sb.append("    <name>Benchmark child</name>\n")
+            .append("    <properties>\n")
+            .append("        <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n")
+            .append("    </properties>\n")
+            .append("    <dependencies>\n");
+
+        final String closing = "    </dependencies>\n"
+            + "    <build>\n"
+            + "        <plugins>\n"
+            + "            <plugin>\n"
+            + "                <artifactId>maven-compiler-plugin</artifactId>\n"
+            + "                <configuration><release>8</release></configuration>\n"
+            + "            </plugin>\n"
+            + "        </plugins>\n"
+            + "    </build>\n"
+            + "</project>\n";
+
+        int i = 0;
+        while (sb.length() + closing.length() < size) {
+            sb.append("        <dependency>\n")
+                .append("            <groupId>org.example.group").append(i % 17).append("</groupId>\n")
+                .append("            <artifactId>artifact-").append(i).append("</artifactId>\n")
+                .append("            <version>1.").append(i).append(".0</version>\n")
+                .append("            <exclusions>\n")
+                .append("                <exclusion>\n")
+                .append("                    <groupId>*</groupId>\n")
+                .append("                    <artifactId>*</artifactId>\n")
+                .append("                </exclusion>\n")
+                .append("            </exclusions>\n")
+                .append("        </dependency>\n");
+            i++;
+        }
+        return sb.append(closing).toString();
+    }
+}
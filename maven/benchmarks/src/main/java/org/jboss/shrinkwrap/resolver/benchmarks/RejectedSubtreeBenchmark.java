@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.RejectDependenciesFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.DefaultTransitiveExclusionPolicy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.RejectDependenciesStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveExclusionPolicy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves an application depending on a large framework, which is rejected via {@link RejectDependenciesStrategy}.
+ * <p>
+ * {@link #pruned()} lets the strategy prune the framework subtree during collection, while {@link #filtered()} applies
+ * the very same filter only after the whole graph was collected. Every invocation starts with an empty local
+ * repository, so the {@code descriptors} counter reports how many POM files were fetched from the remote repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class RejectedSubtreeBenchmark {
+
+    private static final String FRAMEWORK = SyntheticRepository.GROUP_ID + ":framework";
+    private static final String APPLICATION = SyntheticRepository.GROUP_ID + ":application:"
+        + SyntheticRepository.VERSION;
+
+    /**
+     * Number of framework modules, each of them brings four libraries
+     */
+    @Param({ "50", "200" })
+    public int frameworkModules;
+
+    private Path remoteRepository;
+    private String remoteRepositoryUrl;
+    private Path localRepository;
+
+    /**
+     * Reports descriptors fetched to the local repository
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Fetches {
+        public long descriptors;
+    }
+
+    @Setup(Level.Trial)
+    public void setUpRepository() throws IOException {
+        remoteRepository = Files.createTempDirectory("benchmark-remote");
+        final SyntheticRepository repository = new SyntheticRepository(remoteRepository);
+
+        final List<String> modules = new ArrayList<>();
+        for (int i = 0; i < frameworkModules; i++) {
+            final String module = "framework-module-" + i;
+            final List<String> libraries = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                libraries.add(module + "-library-" + j);
+                repository.add(module + "-library-" + j);
+            }
+            repository.add(module, libraries);
+            modules.add(module);
+        }
+        repository.add("framework", modules);
+        repository.add("library-util");
+        repository.add("library", "library-util");
+        repository.add("application", "framework", "library");
+        remoteRepositoryUrl = repository.getUrl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRepository() throws IOException {
+        SyntheticRepository.delete(remoteRepository);
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpLocalRepository() throws IOException {
+        localRepository = Files.createTempDirectory("benchmark-local");
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, localRepository.toString());
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownLocalRepository(final Fetches fetches) throws IOException {
+        fetches.descriptors += SyntheticRepository.countFiles(localRepository, ".pom");
+        SyntheticRepository.delete(localRepository);
+    }
+
+    @Benchmark
+    public File[] pruned() {
+        return resolve(new RejectDependenciesStrategy(FRAMEWORK));
+    }
+
+    @Benchmark
+    public File[] filtered() {
+        return resolve(new FilteringOnlyStrategy(new RejectDependenciesFilter(FRAMEWORK)));
+    }
+
+    private File[] resolve(final MavenResolutionStrategy strategy) {
+        return Maven.configureResolver()
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo("synthetic", remoteRepositoryUrl, "default")
+            .resolve(APPLICATION)
+            .using(strategy)
+            .asFile();
+    }
+
+    /**
+     * Applies a filter after the collection only, as any filter did before filters were able to prune the graph
+     */
+    private static final class FilteringOnlyStrategy implements MavenResolutionStrategy {
+        private final MavenResolutionFilter[] filters;
+
+        private FilteringOnlyStrategy(final MavenResolutionFilter filter) {
+            this.filters = new MavenResolutionFilter[] { new MavenResolutionFilter() {
+                @Override
+                public boolean accepts(MavenDependency dependency, List<MavenDependency> dependenciesForResolution,
+                    List<MavenDependency> dependencyAncestors) {
+                    return filter.accepts(dependency, dependenciesForResolution, dependencyAncestors);
+                }
+
+                @Override
+                public boolean requiresAncestors() {
+                    return filter.requiresAncestors();
+                }
+            } };
+        }
+
+        @Override
+        public MavenResolutionFilter[] getResolutionFilters() {
+            return filters;
+        }
+
+        @Override
+        public TransitiveExclusionPolicy getTransitiveExclusionPolicy() {
+            return DefaultTransitiveExclusionPolicy.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A Maven repository generated on disk, so that benchmarks resolve the same dependency graphs without any network
+ * access. Use it as a remote repository via its {@code file:} URL.
+ */
+final class SyntheticRepository {
+
+    static final String GROUP_ID = "org.jboss.shrinkwrap.benchmark";
+
+    static final String VERSION = "1.0.0";
+
+    private final Path root;
+
+    SyntheticRepository(final Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the URL of this repository
+     *
+     * @return The {@code file:} URL
+     */
+    String getUrl() {
+        return root.toUri().toString();
+    }
+
+    /**
+     * Adds a jar artifact of {@link #GROUP_ID} and {@link #VERSION} with given compile dependencies
+     *
+     * @param artifactId The artifactId
+     * @param dependencies ArtifactIds of dependencies, of {@link #GROUP_ID} and {@link #VERSION} as well
+     * @return This repository
+     * @throws IOException If the artifact could not be written
+     */
+    SyntheticRepository add(final String artifactId, final String... dependencies) throws IOException {
+        return add(artifactId, Arrays.asList(dependencies));
+    }
+
+    SyntheticRepository add(final String artifactId, final List<String> dependencies) throws IOException {
+        final Path dir = root.resolve(GROUP_ID.replace('.', '/')).resolve(artifactId).resolve(VERSION);
+        Files.createDirectories(dir);
+
+        final StringBuilder pom = new StringBuilder()
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+            .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+            .append("    <modelVersion>4.0.0</modelVersion>\n")
+            .append("    <groupId>").append(GROUP_ID).append("</groupId>\n")
+            .append("    <artifactId>").append(artifactId).append("</artifactId>\n")
+            .append("    <version>").append(VERSION).append("</version>\n")
+            .append("    <dependencies>\n");
+        for (final String dependency : dependencies) {
+            pom.append("        <dependency>\n")
+                .append("            <groupId>").append(GROUP_ID).append("</groupId>\n")
+                .append("            <artifactId>").append(dependency).append("</artifactId>\n")
+                .append("            <version>").append(VERSION).append("</version>\n")
+                .append("        </dependency>\n");
+        }
+        pom.append("    </dependencies>\n").append("</project>\n");
+
+        final String baseName = artifactId + "-" + VERSION;
+        Files.write(dir.resolve(baseName + ".pom"), pom.toString().getBytes(StandardCharsets.UTF_8));
+        try (OutputStream out = Files.newOutputStream(dir.resolve(baseName + ".jar"));
+            ZipOutputStream jar = new ZipOutputStream(out)) {
+            jar.putNextEntry(new ZipEntry("META-INF/" + artifactId + ".txt"));
+            jar.write(artifactId.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+        return this;
+    }
+
+    /**
+     * Counts files with given extension in a directory tree, for instance descriptors downloaded to a local repository
+     *
+     * @param dir The directory
+     * @param extension The extension, such as {@code .pom}
+     * @return Number of files
+     * @throws IOException If the directory could not be read
+     */
+    static long countFiles(final Path dir, final String extension) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(extension)).count();
+        }
+    }
+
+    /**
+     * Deletes a directory tree
+     *
+     * @param dir The directory
+     * @throws IOException If the directory could not be deleted
+     */
+    static void delete(final Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException exc) throws IOException {
+                Files.delete(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenDependencyCollector;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves an application with a wide dependency graph, using the dependency collector and the number of threads
+ * configured via {@link org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystem}. The same number of
+ * threads is used to read descriptors and to download artifacts. Every invocation starts with an empty local
+ * repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class WideGraphTuningBenchmark {
+
+    private static final String APPLICATION = SyntheticRepository.GROUP_ID + ":application:"
+        + SyntheticRepository.VERSION;
+
+    /**
+     * Number of direct dependencies of the application, each of them brings two libraries of its own
+     */
+    @Param({ "300" })
+    public int width;
+
+    @Param({ "DEPTH_FIRST", "BREADTH_FIRST" })
+    public MavenDependencyCollector collector;
+
+    @Param({ "2", "8" })
+    public int threads;
+
+    private Path remoteRepository;
+    private String remoteRepositoryUrl;
+    private Path localRepository;
+
+    @Setup(Level.Trial)
+    public void setUpRepository() throws IOException {
+        remoteRepository = Files.createTempDirectory("benchmark-remote");
+        final SyntheticRepository repository = new SyntheticRepository(remoteRepository);
+
+        final List<String> modules = new ArrayList<>();
+        for (int i = 0; i < width; i++) {
+            final String module = "module-" + i;
+            repository.add(module + "-api");
+            repository.add(module + "-util");
+            repository.add(module, module + "-api", module + "-util");
+            modules.add(module);
+        }
+        repository.add("application", modules);
+        remoteRepositoryUrl = repository.getUrl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRepository() throws IOException {
+        SyntheticRepository.delete(remoteRepository);
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpLocalRepository() throws IOException {
+        localRepository = Files.createTempDirectory("benchmark-local");
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, localRepository.toString());
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownLocalRepository() throws IOException {
+        SyntheticRepository.delete(localRepository);
+    }
+
+    @Benchmark
+    public File[] resolve() {
+        return Maven.configureResolver()
+            .withClassPathResolution(false)
+            .withMavenCentralRepo(false)
+            .withRemoteRepo("synthetic", remoteRepositoryUrl, "default")
+            .withDependencyCollector(collector)
+            .withCollectorThreads(threads)
+            .withDownloadThreads(threads)
+            .resolve(APPLICATION)
+            .withTransitivity()
+            .asFile();
+    }
+}
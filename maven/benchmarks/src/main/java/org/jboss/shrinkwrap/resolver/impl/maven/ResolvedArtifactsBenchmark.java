@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.spi.loader.ServiceRegistry;
+import org.jboss.shrinkwrap.resolver.spi.loader.SpiServiceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Processes resolved artifacts the way each resolution does after the graph was resolved, that is
+ * {@link PostResolutionFilter#filter(Collection, List, org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy)}
+ * leaving POM artifacts out and {@link MavenFormatStageImpl#as(Class)} converting them to files.
+ * <p>
+ * Every tenth artifact is a POM. This benchmark lives in the package of {@link PostResolutionFilter}, which is not
+ * public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResolvedArtifactsBenchmark {
+
+    /**
+     * Number of resolved artifacts
+     */
+    @Param({ "100", "1000" })
+    public int artifacts;
+
+    private Path directory;
+    private Collection<MavenResolvedArtifact> resolved;
+    private List<MavenDependency> dependenciesForResolution;
+    private MavenFormatStageImpl formatStage;
+
+    @Setup(Level.Trial)
+    public void setUpArtifacts() throws IOException {
+        // format processors are looked up via the registry, which is otherwise set up by Maven.resolver()
+        ServiceRegistry.register(new ServiceRegistry(new SpiServiceLoader()));
+
+        directory = Files.createTempDirectory("benchmark-artifacts");
+        final List<MavenResolvedArtifact> list = new ArrayList<>(artifacts);
+        for (int i = 0; i < artifacts; i++) {
+            final PackagingType packaging = i % 10 == 0 ? PackagingType.POM : PackagingType.JAR;
+            final MavenCoordinate coordinate = MavenCoordinates.createCoordinate("org.jboss.shrinkwrap.benchmark",
+                "artifact-" + i, "1.0.0", packaging, null);
+            final File file = Files.createFile(directory.resolve("artifact-" + i + "-1.0.0." + packaging.getExtension()))
+                .toFile();
+            list.add(new MavenResolvedArtifactImpl(coordinate, "1.0.0", false, packaging.getExtension(), file,
+                ScopeType.COMPILE, new MavenArtifactInfo[0], false));
+        }
+        resolved = Collections.unmodifiableList(list);
+        dependenciesForResolution = Collections.emptyList();
+        formatStage = new MavenFormatStageImpl(PostResolutionFilter.filter(resolved, dependenciesForResolution,
+            TransitiveStrategy.INSTANCE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownArtifacts() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Collection<MavenResolvedArtifact> postResolutionFilter() {
+        return PostResolutionFilter.filter(resolved, dependenciesForResolution, TransitiveStrategy.INSTANCE);
+    }
+
+    @Benchmark
+    public File[] asFile() {
+        return formatStage.as(File.class);
+    }
+}
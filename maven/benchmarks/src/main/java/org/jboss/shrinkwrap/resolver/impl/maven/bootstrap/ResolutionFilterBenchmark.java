@@ -0,0 +1,121 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.graph.visitor.FilteringDependencyVisitor;
+import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.RejectDependenciesFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.ScopeFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filters a synthetic dependency graph via {@link MavenResolutionFilterWrap}, the way resolution of a strategy does.
+ * <p>
+ * The graph is a tree of depth three, its nodes have compile, runtime and test scope in turns. Scope filter does not
+ * need ancestors of a node, while reject filter rejecting transitive dependencies has to look at all of them. This
+ * benchmark lives in the package of {@link MavenResolutionFilterWrap}, which is not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResolutionFilterBenchmark {
+
+    private static final String GROUP_ID = "org.jboss.shrinkwrap.benchmark";
+
+    private static final String VERSION = "1.0.0";
+
+    private static final int DEPTH = 3;
+
+    private static final ScopeType[] SCOPES = { ScopeType.COMPILE, ScopeType.RUNTIME, ScopeType.TEST };
+
+    /**
+     * Number of children of each node, 5 makes a graph of 155 nodes, 10 makes a graph of 1110 nodes
+     */
+    @Param({ "5", "10" })
+    public int fanOut;
+
+    @Param({ "scope", "reject" })
+    public String filter;
+
+    private DependencyNode root;
+    private MavenResolutionFilter[] filters;
+    private List<MavenDependency> dependenciesForResolution;
+
+    @Setup(Level.Trial)
+    public void setUpGraph() {
+        final int[] counter = new int[1];
+        root = new DefaultDependencyNode((Dependency) null);
+        addChildren(root, 1, counter);
+
+        if ("scope".equals(filter)) {
+            filters = new MavenResolutionFilter[] { new ScopeFilter(ScopeType.COMPILE, ScopeType.RUNTIME) };
+        } else {
+            // reject the first child of the last direct dependency, so that most of the graph is looked at
+            filters = new MavenResolutionFilter[] { new RejectDependenciesFilter(true, GROUP_ID + ":artifact-"
+                + (fanOut * (fanOut + 1) - 1)) };
+        }
+        dependenciesForResolution = Collections.emptyList();
+    }
+
+    @Benchmark
+    public List<DependencyNode> filter() {
+        final MavenResolutionFilterWrap wrap = new MavenResolutionFilterWrap(filters, dependenciesForResolution);
+        final List<DependencyNode> accepted = new ArrayList<>();
+        root.accept(new TreeDependencyVisitor(new FilteringDependencyVisitor(new NodeListGenerator(accepted), wrap)));
+        return accepted;
+    }
+
+    private void addChildren(final DependencyNode parent, final int depth, final int[] counter) {
+        final List<DependencyNode> children = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++) {
+            final int index = counter[0]++;
+            final DependencyNode child = new DefaultDependencyNode(new Dependency(new DefaultArtifact(GROUP_ID,
+                "artifact-" + index, "jar", VERSION), SCOPES[index % SCOPES.length].toString()));
+            if (depth < DEPTH) {
+                addChildren(child, depth + 1, counter);
+            }
+            children.add(child);
+        }
+        parent.setChildren(children);
+    }
+}
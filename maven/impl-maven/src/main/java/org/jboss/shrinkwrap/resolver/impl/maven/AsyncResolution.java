@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs resolutions asynchronously, completing a {@link CompletableFuture} which interrupts the resolution if it is
+ * cancelled or if the resolution times out.
+ */
+final class AsyncResolution {
+
+    private static final Logger log = Logger.getLogger(AsyncResolution.class.getName());
+
+    /**
+     * No instantiation
+     */
+    private AsyncResolution() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Returns the default executor, running every resolution in a new virtual thread if the JVM supports them, or in a
+     * pooled daemon thread otherwise
+     *
+     * @return The default executor
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Runs given resolution by given executor
+     *
+     * @param resolution The resolution
+     * @param executor The executor
+     * @param timeout The maximum time the resolution may take, zero or negative for no limit
+     * @param unit The unit of {@code timeout}
+     * @return A future completed by the result of the resolution
+     */
+    static <T> CompletableFuture<T> run(final Supplier<T> resolution, final Executor executor, final long timeout,
+            final TimeUnit unit) {
+        final ResolutionFuture<T> future = new ResolutionFuture<>();
+        try {
+            executor.execute(() -> future.run(resolution));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        if (timeout > 0L) {
+            final ScheduledFuture<?> timer = TimerHolder.TIMER.schedule(() -> {
+                if (future.completeExceptionally(new TimeoutException("Resolution did not complete in " + timeout + " "
+                    + unit.toString().toLowerCase()))) {
+                    future.interruptRunner();
+                }
+            }, timeout, unit);
+            future.whenComplete((result, failure) -> timer.cancel(false));
+        }
+        return future;
+    }
+
+    /**
+     * A future interrupting the thread running the resolution if cancelled
+     */
+    private static final class ResolutionFuture<T> extends CompletableFuture<T> {
+
+        private Thread runner;
+
+        private void run(final Supplier<T> resolution) {
+            synchronized (this) {
+                if (isDone()) {
+                    // cancelled or timed out before it started
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            try {
+                complete(resolution.get());
+            } catch (Throwable t) {
+                completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                // do not leak an interruption to the next task of the thread
+                Thread.interrupted();
+            }
+        }
+
+        private synchronized void interruptRunner() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && mayInterruptIfRunning) {
+                interruptRunner();
+            }
+            return cancelled;
+        }
+    }
+
+    private static final class DefaultExecutorHolder {
+        private static final Executor EXECUTOR = createDefaultExecutor();
+
+        private static Executor createDefaultExecutor() {
+            try {
+                // available since JDK 21, looked up reflectively as the code is compiled against JDK 8 API
+                final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.log(Level.FINEST, "Virtual threads are not available, using platform threads for resolution", e);
+            }
+            return Executors.newCachedThreadPool(new DaemonThreadFactory("shrinkwrap-resolver-async-"));
+        }
+    }
+
+    private static final class TimerHolder {
+        private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+        private static ScheduledThreadPoolExecutor createTimer() {
+            final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+                new DaemonThreadFactory("shrinkwrap-resolver-timeout-"));
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,7 +18,9 @@ package org.jboss.shrinkwrap.resolver.impl.maven;
 
 import java.net.URL;
 
+import org.eclipse.aether.ConfigurationProperties;
 import org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenDependencyCollector;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStage;
@@ -27,6 +29,7 @@ import org.jboss.shrinkwrap.resolver.api.maven.PomEquippedResolveStage;
 import org.jboss.shrinkwrap.resolver.api.maven.PomlessResolveStage;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepositories;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
 
 /**
  * {@link ConfigurableMavenResolverSystem} implementation
@@ -38,6 +41,10 @@ public class ConfigurableMavenResolverSystemImpl
         ConfigurableMavenResolverSystemBaseImpl<MavenResolverSystem, ConfigurableMavenResolverSystem, PomEquippedResolveStage, PomlessResolveStage, MavenStrategyStage, MavenFormatStage>
         implements ConfigurableMavenResolverSystem, MavenWorkingSessionContainer {
 
+    private static final String DOWNLOAD_THREADS = "aether.connector.basic.threads";
+    private static final String DEPENDENCY_COLLECTOR = "aether.dependencyCollector.impl";
+    private static final String COLLECTOR_THREADS = "aether.dependencyCollector.bf.threads";
+
     /**
      * Creates a new instance with a new backing {@link MavenWorkingSession}
      *
@@ -80,6 +87,12 @@ public class ConfigurableMavenResolverSystemImpl
         return this;
     }
 
+    @Override
+    public ConfigurableMavenResolverSystem withConcurrentResolution(boolean concurrentResolution) {
+        setConcurrentResolution(concurrentResolution);
+        return this;
+    }
+
     @Override
     public ConfigurableMavenResolverSystem workOffline() {
         return workOffline(true);
@@ -97,11 +110,77 @@ public class ConfigurableMavenResolverSystemImpl
         return this;
     }
 
+    @Override
+    public ConfigurableMavenResolverSystem withDownloadThreads(int downloadThreads) {
+        validatePositive(downloadThreads, "Number of download threads");
+        setConfigProperty(DOWNLOAD_THREADS, downloadThreads);
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withDependencyCollector(MavenDependencyCollector dependencyCollector) {
+        Validate.notNull(dependencyCollector, "Dependency collector must be specified");
+        setConfigProperty(DEPENDENCY_COLLECTOR, dependencyCollector.apiValue());
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withCollectorThreads(int collectorThreads) {
+        // the collector runs a thread pool, which does not accept a single thread
+        if (collectorThreads < 2) {
+            throw new IllegalArgumentException("Number of collector threads must be at least 2, was "
+                + collectorThreads);
+        }
+        setConfigProperty(COLLECTOR_THREADS, collectorThreads);
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withMaxConnectionsPerRepository(int maxConnections) {
+        validatePositive(maxConnections, "Maximum number of connections");
+        setConfigProperty(ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE, maxConnections);
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withMaxConnectionsPerRepository(String repositoryId, int maxConnections) {
+        Validate.notNullOrEmpty(repositoryId, "Repository id must be specified");
+        validatePositive(maxConnections, "Maximum number of connections");
+        setConfigProperty(ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE + "." + repositoryId, maxConnections);
+        return this;
+    }
+
+    @Override
+    public ConfigurableMavenResolverSystem withLazyDownload(boolean lazyDownload) {
+        setConfigProperty(LazyArtifactResolver.LAZY_DOWNLOAD_KEY, lazyDownload);
+        return this;
+    }
+
     @Override
     public MavenWorkingSession getMavenWorkingSession() {
         return super.getSession();
     }
 
+    @Override
+    protected PomlessResolveStage createDelegate(final MavenWorkingSession session) {
+        return new PomlessResolveStageImpl(session);
+    }
+
+    private static void validatePositive(int value, String name) throws IllegalArgumentException {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive, was " + value);
+        }
+    }
+
+    private void setConfigProperty(String key, Object value) {
+        final MavenWorkingSession session = getMavenWorkingSession();
+        if (!(session instanceof ConfigurableMavenWorkingSessionImpl)) {
+            throw new UnsupportedOperationException("Tuning of the repository system is not supported by "
+                + session.getClass().getName());
+        }
+        ((ConfigurableMavenWorkingSessionImpl) session).setConfigProperty(key, value);
+    }
+
     /**
      * {@inheritDoc} (non-Javadoc)
      *
@@ -109,7 +188,9 @@ public class ConfigurableMavenResolverSystemImpl
      */
     @Override
     protected MavenResolverSystem getUnconfigurableView() {
-        return new MavenResolverSystemImpl(new PomlessResolveStageImpl(this.getSession()));
+        final MavenResolverSystemImpl view = new MavenResolverSystemImpl(new PomlessResolveStageImpl(this.getSession()));
+        view.setConcurrentResolution(isConcurrentResolution());
+        return view;
     }
 
     /**
@@ -17,6 +17,8 @@
 package org.jboss.shrinkwrap.resolver.impl.maven;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -53,10 +55,30 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
     private boolean useLegacyLocalRepository = false;
     private final MavenRepositorySystem system;
     private boolean disableClassPathWorkspaceReader = false;
+    private final Map<String, Object> configProperties;
 
     public ConfigurableMavenWorkingSessionImpl() {
         this.system = new MavenRepositorySystem();
         this.settingsManager = new SettingsManager();
+        this.configProperties = new LinkedHashMap<>();
+    }
+
+    /**
+     * Creates a working session which shares the {@link Settings}, the {@link MavenRepositorySystem} and the caches of
+     * the {@link DefaultRepositorySystemSession} with {@code original}, while any further change of its configuration
+     * is isolated from {@code original}.
+     * <p>
+     * The caller is responsible for {@code original} not being modified concurrently.
+     *
+     * @param original The working session to copy
+     */
+    protected ConfigurableMavenWorkingSessionImpl(ConfigurableMavenWorkingSessionImpl original) {
+        this.system = original.system;
+        this.settingsManager = new SettingsManager(original.settingsManager);
+        this.useLegacyLocalRepository = original.useLegacyLocalRepository;
+        this.disableClassPathWorkspaceReader = original.disableClassPathWorkspaceReader;
+        this.configProperties = new LinkedHashMap<>(original.configProperties);
+        this.session = new DefaultRepositorySystemSession(original.getSession());
     }
 
     @Override
@@ -98,6 +120,24 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
         this.useLegacyLocalRepository = useLegacyLocalRepository;
     }
 
+    /**
+     * Sets a configuration property of the {@link DefaultRepositorySystemSession}, such as the number of threads used
+     * by the repository system. The property takes precedence over a system property of the same name and applies to
+     * this session only.
+     *
+     * @param key The key of the property
+     * @param value The value of the property
+     */
+    void setConfigProperty(final String key, final Object value) {
+        if (log.isLoggable(Level.FINER)) {
+            log.finer("Set configuration property " + key + " to: " + value);
+        }
+        this.configProperties.put(key, value);
+        if (this.session != null) {
+            this.session.setConfigProperty(key, value);
+        }
+    }
+
     /**
      * Returns an instance of the {@link DefaultRepositorySystemSession} that is generated if it hasn't been yet.
      *
@@ -139,6 +179,29 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
         return this.system;
     }
 
+    /**
+     * Adds the configuration of this session which affects results of a resolution to the key of a resolution request.
+     * This is done without generating a {@link DefaultRepositorySystemSession}.
+     *
+     * @param key The key of a resolution request
+     */
+    void addTo(final ResolutionResultCache.Key key) {
+        key.add(getSettings()).add(isOffline()).add(this.useLegacyLocalRepository)
+            .add(this.disableClassPathWorkspaceReader);
+        // profiles of dependency POMs are activated by the JDK, the operating system and system properties
+        key.add(SecurityActions.getProperty("java.version"))
+            .add(SecurityActions.getProperty("os.name"))
+            .add(SecurityActions.getProperty("os.arch"))
+            .add(SecurityActions.getProperty("os.version"))
+            .addSystemProperties(SecurityActions.getProperties());
+        if (!this.disableClassPathWorkspaceReader) {
+            // artifacts might be resolved from the class path
+            key.add(SecurityActions.getProperty("java.class.path"))
+                .add(SecurityActions.getProperty("surefire.test.class.path"))
+                .add(SecurityActions.getProperty("org.apache.maven.flattened-pom-path"));
+        }
+    }
+
     // utility methods
 
     /**
@@ -158,5 +221,8 @@ public abstract class ConfigurableMavenWorkingSessionImpl implements MavenWorkin
         if (this.disableClassPathWorkspaceReader) {
             this.session.setWorkspaceReader(null);
         }
+        for (Map.Entry<String, Object> property : this.configProperties.entrySet()) {
+            this.session.setConfigProperty(property.getKey(), property.getValue());
+        }
     }
 }
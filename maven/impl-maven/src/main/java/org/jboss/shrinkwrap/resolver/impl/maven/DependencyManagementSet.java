@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+
+/**
+ * Insertion ordered set of {@link MavenDependency}s representing <code>&lt;dependencyManagement&gt;</code> metadata.
+ * <p>
+ * Dependencies are equal if their groupId, artifactId, packaging and classifier are equal, the version is ignored.
+ * Apart from behaving as a {@link java.util.LinkedHashSet}, the set allows to retrieve the managed dependency equal to
+ * a given one, typically a dependency without version, in constant time. The index is the set itself, so it stays
+ * consistent no matter how the set is modified.
+ */
+public final class DependencyManagementSet extends AbstractSet<MavenDependency> {
+
+    private final Map<MavenDependency, MavenDependency> dependencies = new LinkedHashMap<>();
+
+    /**
+     * Returns the managed dependency with the same groupId, artifactId, packaging and classifier as given one
+     *
+     * @param dependency The dependency to look up
+     * @return The managed dependency or {@code null} if there is none
+     */
+    public MavenDependency get(final MavenDependency dependency) {
+        return dependencies.get(dependency);
+    }
+
+    @Override
+    public boolean add(final MavenDependency dependency) {
+        if (dependencies.containsKey(dependency)) {
+            return false;
+        }
+        dependencies.put(dependency, dependency);
+        return true;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return dependencies.containsKey(o);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return dependencies.remove(o) != null;
+    }
+
+    @Override
+    public void clear() {
+        dependencies.clear();
+    }
+
+    @Override
+    public Iterator<MavenDependency> iterator() {
+        return dependencies.keySet().iterator();
+    }
+
+    @Override
+    public int size() {
+        return dependencies.size();
+    }
+}
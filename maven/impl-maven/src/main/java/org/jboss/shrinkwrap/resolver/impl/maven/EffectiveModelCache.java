@@ -0,0 +1,255 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuildingResult;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.io.xpp3.SettingsXpp3Writer;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Bounded JVM-wide cache of effective models built from POM files.
+ * <p>
+ * Building an effective model requires parent POM files to be resolved, interpolation, profile activation and import
+ * of BOMs. A model is therefore reused as long as the POM file, active and inactive profiles, user and system
+ * properties, profiles defined in the settings, the remote repositories, the local repository and the offline mode are
+ * the same, and neither the POM file nor any of its parents has been modified since. Imported BOMs are expected not to
+ * change. As models are mutable, only copies are handed out.
+ */
+public final class EffectiveModelCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 128;
+
+    private static final EffectiveModelCache INSTANCE = new EffectiveModelCache(DEFAULT_MAX_ENTRIES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Map<Key, Entry> entries;
+
+    EffectiveModelCache(final int maxEntries) {
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by the whole JVM
+     *
+     * @return The cache
+     */
+    public static EffectiveModelCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a copy of the effective model built for given request, provided that none of the POM files it was
+     * built from has been modified since
+     *
+     * @param key The key of the request, see {@link #key(ModelBuildingRequest, Settings, List, File, boolean)}
+     * @return A copy of the effective model, or {@code null} if there is no valid one
+     */
+    Model get(final Key key) {
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.isValid()) {
+            hits.incrementAndGet();
+            return entry.model.clone();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores a copy of the effective model of given result
+     *
+     * @param key The key of the request the result was built for
+     * @param result The result
+     */
+    void put(final Key key, final ModelBuildingResult result) {
+        final List<File> files = new ArrayList<>();
+        for (String modelId : result.getModelIds()) {
+            final Model rawModel = result.getRawModel(modelId);
+            if (rawModel != null && rawModel.getPomFile() != null) {
+                files.add(rawModel.getPomFile());
+            }
+        }
+        final Entry entry = new Entry(result.getEffectiveModel().clone(), files);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all the models
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns how many times an effective model was reused
+     *
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many times an effective model had to be built
+     *
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Creates the key of a model building request
+     *
+     * @param request The request, with POM file, profiles and properties already set
+     * @param settings The settings the profiles of the request come from
+     * @param remoteRepositories The remote repositories parent POMs and imported BOMs are resolved from
+     * @param localRepository The base directory of the local repository
+     * @param offline Whether the remote repositories are not accessed
+     * @return The key
+     */
+    static Key key(final ModelBuildingRequest request, final Settings settings,
+            final List<RemoteRepository> remoteRepositories, final File localRepository, final boolean offline) {
+        String pomPath;
+        try {
+            pomPath = request.getPomFile().getCanonicalPath();
+        } catch (IOException e) {
+            pomPath = request.getPomFile().getAbsolutePath();
+        }
+
+        // only profiles of the settings matter for model building
+        final Settings profiles = new Settings();
+        profiles.setProfiles(settings.getProfiles());
+        profiles.setActiveProfiles(settings.getActiveProfiles());
+        final StringWriter writer = new StringWriter();
+        try {
+            new SettingsXpp3Writer().write(writer, profiles);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize profiles of settings", e);
+        }
+
+        return new Key(pomPath, new ArrayList<>(request.getActiveProfileIds()),
+            new ArrayList<>(request.getInactiveProfileIds()), new HashMap<>(request.getUserProperties()),
+            new HashMap<>(request.getSystemProperties()), writer.toString(), new ArrayList<>(remoteRepositories),
+            localRepository.getAbsolutePath(), offline);
+    }
+
+    static final class Key {
+        private final String pomPath;
+        private final List<String> activeProfileIds;
+        private final List<String> inactiveProfileIds;
+        private final Map<Object, Object> userProperties;
+        private final Map<Object, Object> systemProperties;
+        private final String settingsProfiles;
+        private final List<RemoteRepository> remoteRepositories;
+        private final String localRepository;
+        private final boolean offline;
+        private final int hashCode;
+
+        private Key(String pomPath, List<String> activeProfileIds, List<String> inactiveProfileIds,
+                Map<Object, Object> userProperties, Map<Object, Object> systemProperties, String settingsProfiles,
+                List<RemoteRepository> remoteRepositories, String localRepository, boolean offline) {
+            this.pomPath = pomPath;
+            this.activeProfileIds = activeProfileIds;
+            this.inactiveProfileIds = inactiveProfileIds;
+            this.userProperties = userProperties;
+            this.systemProperties = systemProperties;
+            this.settingsProfiles = settingsProfiles;
+            this.remoteRepositories = remoteRepositories;
+            this.localRepository = localRepository;
+            this.offline = offline;
+            this.hashCode = Objects.hash(pomPath, activeProfileIds, inactiveProfileIds, userProperties,
+                systemProperties, settingsProfiles, remoteRepositories, localRepository, offline);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && pomPath.equals(other.pomPath)
+                && activeProfileIds.equals(other.activeProfileIds)
+                && inactiveProfileIds.equals(other.inactiveProfileIds)
+                && userProperties.equals(other.userProperties) && systemProperties.equals(other.systemProperties)
+                && settingsProfiles.equals(other.settingsProfiles)
+                && remoteRepositories.equals(other.remoteRepositories)
+                && localRepository.equals(other.localRepository) && offline == other.offline;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Entry {
+        private final Model model;
+        private final File[] files;
+        private final long[] lastModified;
+
+        private Entry(Model model, List<File> files) {
+            this.model = model;
+            this.files = files.toArray(new File[0]);
+            this.lastModified = new long[this.files.length];
+            for (int i = 0; i < this.files.length; i++) {
+                this.lastModified[i] = this.files[i].lastModified();
+            }
+        }
+
+        private boolean isValid() {
+            for (int i = 0; i < files.length; i++) {
+                if (files[i].lastModified() != lastModified[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
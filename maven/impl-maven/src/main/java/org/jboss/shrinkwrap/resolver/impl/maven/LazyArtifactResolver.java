@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.util.ConfigUtils;
+import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+
+/**
+ * Resolves artifacts of a collected dependency graph on their first access, see
+ * {@link org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystemBase#withLazyDownload(boolean)}.
+ * <p>
+ * An instance belongs to a single resolution and keeps a copy of its repository system session, so that artifacts are
+ * resolved with the same configuration and from the same repositories as their graph was collected with. This class
+ * is thread-safe.
+ */
+final class LazyArtifactResolver {
+
+    /**
+     * Session configuration property, or system property, enabling lazy download of artifacts if set to {@code true}
+     */
+    static final String LAZY_DOWNLOAD_KEY = "org.jboss.shrinkwrap.resolver.maven.lazy-download";
+
+    private final MavenRepositorySystem system;
+
+    private final RepositorySystemSession session;
+
+    LazyArtifactResolver(final MavenRepositorySystem system, final RepositorySystemSession session) {
+        this.system = system;
+        this.session = session;
+    }
+
+    /**
+     * Checks whether artifacts resolved within given session are to be downloaded lazily
+     *
+     * @param session The session
+     * @return {@code true} if lazy download is enabled, {@code false} otherwise
+     */
+    static boolean isEnabled(final RepositorySystemSession session) {
+        return ConfigUtils.getBoolean(session, false, LAZY_DOWNLOAD_KEY);
+    }
+
+    /**
+     * Creates a request resolving the artifact of a node. The request does not refer to the node, so that the
+     * collected graph is not kept alive until the artifact is resolved.
+     *
+     * @param node The node of the collected graph
+     * @return The request
+     */
+    static ArtifactRequest request(final DependencyNode node) {
+        return new ArtifactRequest(node.getArtifact(), node.getRepositories(), node.getRequestContext());
+    }
+
+    /**
+     * Resolves an artifact
+     *
+     * @param request The request created by {@link #request(DependencyNode)}
+     * @return The artifact with its file
+     * @throws NoResolvedResultException If the artifact could not be fetched
+     */
+    Artifact resolve(final ArtifactRequest request) throws NoResolvedResultException {
+        try {
+            return system.resolveArtifact(session, request).getArtifact();
+        } catch (ArtifactResolutionException e) {
+            throw new NoResolvedResultException("Unable to get artifact from the repository due to: "
+                + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves all the artifacts not resolved yet at once, so that they are downloaded in parallel rather than one by
+     * one on their first access. Artifacts which could not be resolved are left as they are, to report the failure on
+     * their first access.
+     *
+     * @param artifacts The artifacts
+     */
+    static void prefetch(final Collection<? extends MavenResolvedArtifact> artifacts) {
+        final Map<LazyArtifactResolver, List<MavenResolvedArtifactImpl>> pending = new LinkedHashMap<>();
+        for (MavenResolvedArtifact artifact : artifacts) {
+            if (artifact instanceof MavenResolvedArtifactImpl) {
+                final LazyArtifactResolver resolver = ((MavenResolvedArtifactImpl) artifact).getPendingResolver();
+                if (resolver != null) {
+                    pending.computeIfAbsent(resolver, key -> new ArrayList<>())
+                        .add((MavenResolvedArtifactImpl) artifact);
+                }
+            }
+        }
+        for (Map.Entry<LazyArtifactResolver, List<MavenResolvedArtifactImpl>> entry : pending.entrySet()) {
+            entry.getKey().prefetch(entry.getValue());
+        }
+    }
+
+    private void prefetch(final List<MavenResolvedArtifactImpl> artifacts) {
+        final List<ArtifactRequest> requests = new ArrayList<>(artifacts.size());
+        for (MavenResolvedArtifactImpl artifact : artifacts) {
+            requests.add(artifact.getRequest());
+        }
+        List<ArtifactResult> results;
+        try {
+            results = system.resolveArtifacts(session, requests);
+        } catch (ArtifactResolutionException e) {
+            results = e.getResults();
+        }
+        for (int i = 0; i < artifacts.size(); i++) {
+            final ArtifactResult result = results.get(i);
+            if (result.isResolved()) {
+                artifacts.get(i).resolved(result.getArtifact());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.DependencyNode;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+
+/**
+ * Graph of {@link MavenArtifactInfo}s shared by all the artifacts of a single resolution.
+ * <p>
+ * Every node of the resolved dependency graph is represented by a single {@link MavenArtifactInfo} instance, no matter
+ * how many resolved artifacts it is reachable from. Instances are created as the graph is walked via
+ * {@link MavenArtifactInfo#getDependencies()}. Until then, the graph keeps a copy of the structure of the dependency
+ * graph, holding only the artifact, scope and optionality of every node, so that the dependency graph of Maven Resolver
+ * with its repositories, request contexts and conflict resolution data is not kept alive.
+ */
+final class MavenArtifactInfoGraph {
+
+    /**
+     * Copies of the dependency nodes, the nodes are compared by identity and are not kept alive by this map
+     */
+    private final Map<DependencyNode, Node> copies = new WeakHashMap<>();
+
+    private final Map<Node, MavenArtifactInfo> artifactInfos = new IdentityHashMap<>();
+
+    /**
+     * Returns artifact infos representing given nodes, creating those which were not requested yet
+     *
+     * @param nodes Nodes of the dependency graph
+     * @return The artifact infos, in the order of {@code nodes}
+     */
+    MavenArtifactInfo[] getArtifactInfos(final List<DependencyNode> nodes) {
+        return getArtifactInfos(copy(nodes));
+    }
+
+    /**
+     * Returns artifact infos representing given nodes, creating those which were not requested yet
+     *
+     * @param nodes Copies of nodes of the dependency graph made by this graph
+     * @return The artifact infos, in the order of {@code nodes}
+     */
+    synchronized MavenArtifactInfo[] getArtifactInfos(final Node[] nodes) {
+        final MavenArtifactInfo[] infos = new MavenArtifactInfo[nodes.length];
+        int i = 0;
+        for (final Node node : nodes) {
+            MavenArtifactInfo info = artifactInfos.get(node);
+            if (info == null) {
+                info = MavenArtifactInfoImpl.fromNode(node, this);
+                artifactInfos.put(node, info);
+            }
+            infos[i++] = info;
+        }
+        return infos;
+    }
+
+    /**
+     * Copies the structure of given nodes and all their transitive children, reusing copies made already
+     *
+     * @param nodes Nodes of the dependency graph
+     * @return The copies, in the order of {@code nodes}
+     */
+    synchronized Node[] copy(final List<DependencyNode> nodes) {
+        final Node[] copied = new Node[nodes.size()];
+        int i = 0;
+        for (final DependencyNode node : nodes) {
+            Node copy = copies.get(node);
+            if (copy == null) {
+                copy = new Node(node.getDependency().getArtifact(), node.getDependency().getScope(),
+                    node.getDependency().isOptional());
+                // registered before the children are copied, so that cycles end here
+                copies.put(node, copy);
+                copy.children = copy(node.getChildren());
+            }
+            copied[i++] = copy;
+        }
+        return copied;
+    }
+
+    /**
+     * Copy of a node of the dependency graph
+     */
+    static final class Node {
+        final Artifact artifact;
+        final String scope;
+        final boolean optional;
+        Node[] children;
+
+        private Node(final Artifact artifact, final String scope, final boolean optional) {
+            this.artifact = artifact;
+            this.scope = scope;
+            this.optional = optional;
+        }
+    }
+}
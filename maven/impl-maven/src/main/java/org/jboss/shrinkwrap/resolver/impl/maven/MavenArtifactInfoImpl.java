@@ -15,7 +15,8 @@ import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
 
 /**
- * Immutable implementation of {@link MavenArtifactInfo}.
+ * Implementation of {@link MavenArtifactInfo}. Instances created from a resolution materialize their dependencies on
+ * first access, they never change otherwise.
  *
  * @author <a href="mailto:mmatloka@gmail.com">Michal Matloka</a>
  */
@@ -29,7 +30,17 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
     protected final ScopeType scopeType;
     protected final boolean optional;
 
-    protected final MavenArtifactInfo[] dependencies;
+    /**
+     * Dependencies, {@code null} until materialized on first access if not provided upfront. Use
+     * {@link #getDependencies()} to access them.
+     */
+    protected volatile MavenArtifactInfo[] dependencies;
+
+    /*
+     * Source of dependencies which were not materialized yet, released afterwards
+     */
+    private MavenArtifactInfoGraph.Node[] children;
+    private MavenArtifactInfoGraph graph;
 
     protected MavenArtifactInfoImpl(final MavenCoordinate mavenCoordinate, final String resolvedVersion,
         final boolean snapshotVersion, final String extension, final ScopeType scopeType,
@@ -45,6 +56,19 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
 
     protected MavenArtifactInfoImpl(final Artifact artifact, final ScopeType scopeType,
                                     final List<DependencyNode> children, boolean optional) {
+        this(artifact, scopeType, optional);
+        this.dependencies = parseDependencies(children);
+    }
+
+    MavenArtifactInfoImpl(final Artifact artifact, final ScopeType scopeType,
+                          final MavenArtifactInfoGraph.Node[] children, boolean optional,
+                          final MavenArtifactInfoGraph graph) {
+        this(artifact, scopeType, optional);
+        this.children = children;
+        this.graph = graph;
+    }
+
+    private MavenArtifactInfoImpl(final Artifact artifact, final ScopeType scopeType, boolean optional) {
 
         final PackagingType packaging = PackagingType.of(artifact.getProperty(ArtifactProperties.TYPE, artifact.getExtension()));
         final String classifier = artifact.getClassifier().isEmpty() ? packaging.getClassifier() : artifact.getClassifier();
@@ -54,33 +78,31 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
         this.resolvedVersion = artifact.getVersion();
         this.snapshotVersion = artifact.isSnapshot();
         this.extension = artifact.getExtension();
-        this.dependencies = parseDependencies(children);
         this.scopeType = scopeType;
         this.optional = optional;
     }
 
     /**
-     * Creates MavenArtifactInfo based on DependencyNode.
+     * Creates MavenArtifactInfo based on a copy of a DependencyNode. Dependencies of the node are materialized on first
+     * access, using the graph to share them with other nodes of the same resolution.
      *
-     * @param dependencyNode
-     *            dependencyNode
+     * @param node
+     *            Copy of the dependencyNode made by the graph
+     * @param graph
+     *            The graph of the resolution the node belongs to
      * @return The new {@link MavenArtifactInfo> instance.
      */
-    static MavenArtifactInfo fromDependencyNode(final DependencyNode dependencyNode) {
-        final Artifact artifact = dependencyNode.getDependency().getArtifact();
-        final List<DependencyNode> children = dependencyNode.getChildren();
-
+    static MavenArtifactInfo fromNode(final MavenArtifactInfoGraph.Node node, final MavenArtifactInfoGraph graph) {
         // SHRINKRES-143 lets ignore invalid scope
         ScopeType scopeType = ScopeType.RUNTIME;
         try {
-            scopeType = ScopeType.fromScopeType(dependencyNode.getDependency().getScope());
+            scopeType = ScopeType.fromScopeType(node.scope);
         } catch (IllegalArgumentException e) {
             // let scope be RUNTIME
             log.log(Level.WARNING, "Invalid scope {0} of retrieved dependency {1} will be replaced by <scope>runtime</scope>",
-                    new Object[] { dependencyNode.getDependency().getScope(), dependencyNode.getDependency().getArtifact() });
+                    new Object[] { node.scope, node.artifact });
         }
-        final boolean optional = dependencyNode.getDependency().isOptional();
-        return new MavenArtifactInfoImpl(artifact, scopeType, children, optional);
+        return new MavenArtifactInfoImpl(node.artifact, scopeType, node.children, node.optional, graph);
     }
 
     /**
@@ -90,12 +112,7 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
      * @return A {@link MavenArtifactInfo} array from {@link List} of DependencyNode's.
      */
     protected MavenArtifactInfo[] parseDependencies(final List<DependencyNode> children) {
-        final MavenArtifactInfo[] dependencies = new MavenArtifactInfo[children.size()];
-        int i = 0;
-        for (final DependencyNode child : children) {
-            dependencies[i++] = MavenArtifactInfoImpl.fromDependencyNode(child);
-        }
-        return dependencies;
+        return new MavenArtifactInfoGraph().getArtifactInfos(children);
     }
 
     /**
@@ -145,6 +162,18 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
      */
     @Override
     public MavenArtifactInfo[] getDependencies() {
+        MavenArtifactInfo[] dependencies = this.dependencies;
+        if (dependencies == null) {
+            synchronized (this) {
+                dependencies = this.dependencies;
+                if (dependencies == null) {
+                    dependencies = graph.getArtifactInfos(children);
+                    this.dependencies = dependencies;
+                    this.children = null;
+                    this.graph = null;
+                }
+            }
+        }
         return dependencies;
     }
 
@@ -162,7 +191,7 @@ public class MavenArtifactInfoImpl implements MavenArtifactInfo {
     public String toString() {
         return "MavenArtifactInfoImpl [mavenCoordinate=" + mavenCoordinate + ", resolvedVersion=" + resolvedVersion
             + ", snapshotVersion=" + snapshotVersion + ", extension=" + extension + ", scope=" + scopeType
-            + ", dependencies=" + Arrays.toString(dependencies) + "]";
+            + ", dependencies=" + Arrays.toString(getDependencies()) + "]";
     }
 
 }
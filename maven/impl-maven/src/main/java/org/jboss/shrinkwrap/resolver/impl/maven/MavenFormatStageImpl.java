@@ -28,6 +28,9 @@ import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
 import org.jboss.shrinkwrap.resolver.api.NonUniqueResultException;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.FlightRecorderEvents;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
 import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessor;
 import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessors;
@@ -41,9 +44,22 @@ public class MavenFormatStageImpl implements MavenFormatStage {
 
     private final Collection<MavenResolvedArtifact> artifacts;
 
+    private final ResolutionMetrics metrics;
+
     public MavenFormatStageImpl(final Collection<MavenResolvedArtifact> artifacts) {
+        this(artifacts, ResolutionMetrics.EMPTY);
+    }
+
+    public MavenFormatStageImpl(final Collection<MavenResolvedArtifact> artifacts, final ResolutionMetrics metrics) {
         assert artifacts != null : "Artifacts are required";
+        assert metrics != null : "Metrics are required";
         this.artifacts = artifacts;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ResolutionMetrics getResolutionMetrics() {
+        return metrics;
     }
 
     @Override
@@ -81,16 +97,24 @@ public class MavenFormatStageImpl implements MavenFormatStage {
             UnsupportedOperationException {
         Validate.notNull(returnTypeClass, "Return type class must not be null");
 
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.FORMAT);
         final FormatProcessor<? super MavenResolvedArtifact, RETURNTYPE> processor = FormatProcessors.find(
                 MavenResolvedArtifact.class, returnTypeClass);
 
         @SuppressWarnings("unchecked")
         final RETURNTYPE[] array = (RETURNTYPE[]) Array.newInstance(returnTypeClass, artifacts.size());
 
+        // artifacts resolved lazily are downloaded in parallel rather than one by one, unless only their
+        // information is requested
+        if (!MavenResolvedArtifact.class.equals(returnTypeClass) && !MavenCoordinate.class.equals(returnTypeClass)) {
+            LazyArtifactResolver.prefetch(artifacts);
+        }
+
         int i = 0;
         for (final MavenResolvedArtifact artifact : artifacts) {
             array[i++] = processor.process(artifact, returnTypeClass);
         }
+        FlightRecorderEvents.endFormat(event, returnTypeClass, artifacts);
         return array;
     }
 
@@ -16,36 +16,41 @@
  */
 package org.jboss.shrinkwrap.resolver.impl.maven;
 
-import java.io.Closeable;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactProperties;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
-import org.jboss.shrinkwrap.resolver.impl.maven.util.IOUtil;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
 import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessor;
 import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessors;
 
 /**
- * Immutable implementation of {@link MavenResolvedArtifact}.
+ * Implementation of {@link MavenResolvedArtifact}. Besides materializing its dependencies on first access, an instance
+ * changes only by packaging or downloading its file on first access.
  *
  * @author <a href="mailto:mmatloka@gmail.com">Michal Matloka</a>
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
@@ -54,18 +59,50 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
 
     private static final Logger log = Logger.getLogger(MavenResolvedArtifactImpl.class.getName());
 
-    private final File file;
+    /**
+     * The file, packaged on first access if the artifact is resolved from a reactor module directory or downloaded on
+     * first access if the artifact is resolved lazily
+     */
+    private volatile File file;
+
+    /**
+     * The reactor module directory the artifact is resolved from, if any
+     */
+    private final File directory;
+
+    /**
+     * The request resolving the artifact lazily, if any
+     */
+    private final ArtifactRequest request;
+
+    /**
+     * Resolver of the artifact until it is resolved lazily, guarded by {@code this}
+     */
+    private LazyArtifactResolver resolver;
 
-    private MavenResolvedArtifactImpl(MavenCoordinate mavenCoordinate, String resolvedVersion, boolean snapshotVersion,
-            String extension, File file, ScopeType scopeType, MavenArtifactInfo[] dependencies) {
-        super(mavenCoordinate, resolvedVersion, snapshotVersion, extension, scopeType, dependencies, false);
+    MavenResolvedArtifactImpl(MavenCoordinate mavenCoordinate, String resolvedVersion, boolean snapshotVersion,
+            String extension, File file, ScopeType scopeType, MavenArtifactInfo[] dependencies, boolean optional) {
+        super(mavenCoordinate, resolvedVersion, snapshotVersion, extension, scopeType, dependencies, optional);
         this.file = file;
+        this.directory = null;
+        this.request = null;
     }
 
     private MavenResolvedArtifactImpl(final Artifact artifact, final ScopeType scopeType,
-            final List<DependencyNode> children, boolean optional) {
-        super(artifact, scopeType, children, optional);
-        this.file = artifactToFile(artifact);
+            final List<DependencyNode> children, boolean optional, final MavenArtifactInfoGraph graph) {
+        super(artifact, scopeType, graph.copy(children), optional, graph);
+        this.directory = artifactToDirectory(artifact);
+        this.file = directory == null ? artifact.getFile() : null;
+        this.request = null;
+    }
+
+    private MavenResolvedArtifactImpl(final DependencyNode node, final MavenArtifactInfoGraph graph,
+            final LazyArtifactResolver resolver) {
+        super(node.getArtifact(), scopeType(node), graph.copy(node.getChildren()), node.getDependency().isOptional(),
+            graph);
+        this.directory = null;
+        this.request = LazyArtifactResolver.request(node);
+        this.resolver = resolver;
     }
 
     /**
@@ -75,9 +112,42 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
      * @return The created {@link MavenResolvedArtifact}.
      */
     static MavenResolvedArtifact fromArtifactResult(final ArtifactResult artifactResult) {
+        return fromArtifactResult(artifactResult, new MavenArtifactInfoGraph());
+    }
+
+    /**
+     * Creates a {@link MavenResolvedArtifact} based on the provided {@link ArtifactResult}. Dependencies of the artifact
+     * are shared with all the other artifacts created with the same {@code graph}.
+     *
+     * @param artifactResult The {@link ArtifactResult} to create the {@link MavenResolvedArtifact} from.
+     * @param graph The graph of the resolution the artifact belongs to
+     * @return The created {@link MavenResolvedArtifact}.
+     */
+    static MavenResolvedArtifact fromArtifactResult(final ArtifactResult artifactResult,
+            final MavenArtifactInfoGraph graph) {
         final Artifact artifact = artifactResult.getArtifact();
         final DependencyNode root = artifactResult.getRequest().getDependencyNode();
 
+        final List<DependencyNode> children = root.getChildren();
+        final boolean optional = root.getDependency().isOptional();
+        return new MavenResolvedArtifactImpl(artifact, scopeType(root), children, optional, graph);
+    }
+
+    /**
+     * Creates a {@link MavenResolvedArtifact} based on the provided node of a collected dependency graph. The artifact
+     * is resolved by {@code resolver} on the first access to its file.
+     *
+     * @param node The node to create the {@link MavenResolvedArtifact} from.
+     * @param graph The graph of the resolution the artifact belongs to
+     * @param resolver The resolver of the artifact
+     * @return The created {@link MavenResolvedArtifact}.
+     */
+    static MavenResolvedArtifact fromDependencyNode(final DependencyNode node, final MavenArtifactInfoGraph graph,
+            final LazyArtifactResolver resolver) {
+        return new MavenResolvedArtifactImpl(node, graph, resolver);
+    }
+
+    private static ScopeType scopeType(final DependencyNode root) {
         // SHRINKRES-143 lets ignore invalid scope
         ScopeType scopeType = ScopeType.RUNTIME;
         try {
@@ -87,10 +157,7 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
             log.log(Level.WARNING, "Invalid scope {0} of retrieved dependency {1} will be replaced by <scope>runtime</scope>",
                     new Object[] { root.getDependency().getScope(), root.getDependency().getArtifact() });
         }
-
-        final List<DependencyNode> children = root.getChildren();
-        final boolean optional = root.getDependency().isOptional();
-        return new MavenResolvedArtifactImpl(artifact, scopeType, children, optional);
+        return scopeType;
     }
 
     @Override
@@ -107,9 +174,27 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
 
     @Override
     public File asFile() {
+        File file = this.file;
+        if (file == null) {
+            synchronized (this) {
+                file = this.file;
+                if (file == null && resolver != null) {
+                    resolved(resolver.resolve(request));
+                    file = this.file;
+                } else if (file == null) {
+                    file = ReactorModuleArchives.archive(directory, mavenCoordinate.getArtifactId(), extension);
+                    this.file = file;
+                }
+            }
+        }
         return file;
     }
 
+    @Override
+    public File getExplodedDirectory() {
+        return directory;
+    }
+
     @Override
     public InputStream asInputStream() {
         return as(InputStream.class);
@@ -120,50 +205,78 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
         return as(MavenResolvedArtifact.class);
     }
 
+    /**
+     * Returns whether the file of this artifact is an archive packaged from a reactor module directory
+     *
+     * @return {@code true} if the file is packaged, {@code false} otherwise
+     */
+    boolean isPackaged() {
+        return directory != null;
+    }
+
+    /**
+     * Returns the resolver of this artifact if it is to be resolved lazily and is not resolved yet
+     *
+     * @return The resolver, or {@code null} if the file of this artifact is known
+     */
+    synchronized LazyArtifactResolver getPendingResolver() {
+        return resolver;
+    }
+
+    /**
+     * Returns the request resolving this artifact lazily
+     *
+     * @return The request, or {@code null} if the artifact is not resolved lazily
+     */
+    ArtifactRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Sets the file of an artifact resolved lazily, unless it is already set
+     *
+     * @param artifact The resolved artifact
+     */
+    synchronized void resolved(final Artifact artifact) {
+        if (resolver != null) {
+            this.file = artifact.getFile();
+            this.resolver = null;
+        }
+    }
+
     @Override
     public String toString() {
         return "MavenResolvedArtifactImpl [mavenCoordinate=" + mavenCoordinate + ", resolvedVersion=" + resolvedVersion
                 + ", snapshotVersion=" + snapshotVersion + ", extension=" + extension + ", dependencies="
-                + Arrays.toString(dependencies) + "]";
+                + Arrays.toString(getDependencies()) + "]";
     }
 
     /**
-     * Maps an artifact to a file. This allows ShrinkWrap Maven resolver to package reactor related dependencies.
+     * Maps an artifact resolved from a reactor module to the directory it consists of. This allows ShrinkWrap Maven
+     * resolver to package reactor related dependencies.
+     *
+     * @return The directory, or {@code null} if the artifact is not resolved from a reactor module
      */
-    private static File artifactToFile(final Artifact artifact) throws IllegalArgumentException {
+    private static File artifactToDirectory(final Artifact artifact) throws IllegalArgumentException {
         if (artifact == null) {
             throw new IllegalArgumentException("ArtifactResult must not be null");
         }
 
         // FIXME: this is not a safe assumption, file can have a different name
-        if ("pom.xml".equals(artifact.getFile().getName())) {
-
-            String artifactId = artifact.getArtifactId();
-            String extension = artifact.getExtension();
-            String classifier = artifact.getClassifier();
-
-            File root = new File(artifact.getFile().getParentFile(), "target/classes");
-            if (!Validate.isNullOrEmpty(classifier) && "tests".equals(classifier)) {
-                // SHRINKRES-102, allow test classes to be packaged as well
-                root = new File(artifact.getFile().getParentFile(), "target/test-classes");
-            } else if ("war".equals(artifact.getProperty(ArtifactProperties.TYPE, null))) {
-                // SHRINKRES-263, allow .war files to be packaged as well
-                root = new File(artifact.getFile().getParentFile(), "target/" + artifactId + "-" + artifact.getVersion());
-            }
-
-            try {
-                File archive = File.createTempFile(artifactId + "-", "." + extension);
-                archive.deleteOnExit();
-                PackageDirHelper.packageDirectories(archive, root);
-                return archive;
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Unable to get artifact " + artifactId + " from the classpath", e);
-
-            }
+        if (!"pom.xml".equals(artifact.getFile().getName())) {
+            return null;
+        }
 
-        } else {
-            return artifact.getFile();
+        final String classifier = artifact.getClassifier();
+        if (!Validate.isNullOrEmpty(classifier) && "tests".equals(classifier)) {
+            // SHRINKRES-102, allow test classes to be packaged as well
+            return new File(artifact.getFile().getParentFile(), "target/test-classes");
+        } else if ("war".equals(artifact.getProperty(ArtifactProperties.TYPE, null))) {
+            // SHRINKRES-263, allow .war files to be packaged as well
+            return new File(artifact.getFile().getParentFile(), "target/" + artifact.getArtifactId() + "-"
+                + artifact.getVersion());
         }
+        return new File(artifact.getFile().getParentFile(), "target/classes");
     }
 
     /**
@@ -173,72 +286,95 @@ public class MavenResolvedArtifactImpl extends MavenArtifactInfoImpl implements
      */
     static class PackageDirHelper {
 
+        /**
+         * Upper bound of the total size of files read ahead in parallel
+         */
+        private static final long BATCH_SIZE = 32L * 1024L * 1024L;
+
         private PackageDirHelper() {
             throw new UnsupportedOperationException("No instances should be created; stateless class");
         }
 
-        private static void safelyClose(final Closeable closeable) {
-            if (closeable != null) {
-                try {
-                    closeable.close();
-                } catch (final IOException ignore) {
-                    if (log.isLoggable(Level.FINER)) {
-                        log.finer("Could not close stream due to: " + ignore.getMessage() + "; ignoring");
-                    }
-                }
-            }
-        }
-
         static void packageDirectories(final File outputFile, final File... directories) throws IOException {
 
             Validate.notNullAndNoNullValues(directories, "Directories to be packaged must be specified");
 
-            final ZipOutputStream zipFile = new ZipOutputStream(Files.newOutputStream(outputFile.toPath()));
-
-            for (File directory : directories) {
-                for (String entry : fileListing(directory)) {
-
-                    FileInputStream fis = null;
-                    try {
-                        File fileEntry = new File(directory, entry);
-                        //Do not add zip entries for directories
-                        if (fileEntry.isFile()) {
-                            fis = new FileInputStream(fileEntry);
-                            zipFile.putNextEntry(new ZipEntry(entry));
-                            IOUtil.copy(fis, zipFile);
+            try (ZipOutputStream zipFile = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                outputFile.toPath())))) {
+                for (File directory : directories) {
+                    final List<Entry> entries = fileListing(directory.toPath());
+                    // content of files is read in parallel in batches, while the archive is written sequentially
+                    int from = 0;
+                    while (from < entries.size()) {
+                        int to = from;
+                        long size = 0L;
+                        while (to < entries.size() && (to == from || size + entries.get(to).size <= BATCH_SIZE)) {
+                            size += entries.get(to++).size;
                         }
-
-                    } finally {
-                        safelyClose(fis);
+                        final List<byte[]> contents = read(entries.subList(from, to));
+                        for (int i = from; i < to; i++) {
+                            zipFile.putNextEntry(new ZipEntry(entries.get(i).name));
+                            zipFile.write(contents.get(i - from));
+                            zipFile.closeEntry();
+                        }
+                        from = to;
                     }
                 }
             }
-            safelyClose(zipFile);
         }
 
-        private static List<String> fileListing(final File directory) {
-            final List<String> list = new ArrayList<>();
-            generateFileList(list, directory, directory);
-            return list;
+        private static List<byte[]> read(final List<Entry> entries) throws IOException {
+            try {
+                return entries.parallelStream().map(Entry::read).collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
         }
 
-        private static void generateFileList(final List<String> list, final File root, final File file) {
-            if (file.isFile()) {
-                // SHRINKRES-94 replacing all OS dependent separators with jar independent separator
-                list.add(getEntryPath(root, file));
-            } else if (file.isDirectory()) {
-                if (!file.equals(root)) {
-                    list.add(getEntryPath(root, file) + File.separatorChar);
-                }
-                for (File next : Objects.requireNonNull(file.listFiles())) {
-                    generateFileList(list, root, next);
-                }
+        private static List<Entry> fileListing(final Path directory) throws IOException {
+            final List<Entry> list = new ArrayList<>();
+            if (!Files.isDirectory(directory)) {
+                return list;
             }
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    //Do not add zip entries for directories
+                    if (attrs.isRegularFile()) {
+                        list.add(new Entry(getEntryPath(directory, file), file, attrs.size()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return list;
+        }
+
+        private static String getEntryPath(final Path root, final Path file) {
+            // SHRINKRES-94 replacing all OS dependent separators with jar independent separator
+            return root.relativize(file).toString().replace(File.separatorChar, '/');
         }
 
-        private static String getEntryPath(final File root, final File file) {
-            return file.getAbsolutePath().substring(root.getAbsolutePath().length() + 1)
-                .replace(File.separatorChar, '/');
+        /**
+         * A file to be added to the archive
+         */
+        private static final class Entry {
+            private final String name;
+            private final Path file;
+            private final long size;
+
+            private Entry(String name, Path file, long size) {
+                this.name = name;
+                this.file = file;
+                this.size = size;
+            }
+
+            private byte[] read() {
+                try {
+                    return Files.readAllBytes(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         }
     }
 }
@@ -17,7 +17,11 @@
 package org.jboss.shrinkwrap.resolver.impl.maven;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.jboss.shrinkwrap.resolver.api.Coordinate;
@@ -25,6 +29,7 @@ import org.jboss.shrinkwrap.resolver.api.CoordinateParseException;
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystemBase;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStageBase;
@@ -33,6 +38,9 @@ import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.PomEquippedResolveStageBase;
 import org.jboss.shrinkwrap.resolver.api.maven.PomlessResolveStageBase;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
 
 /**
  * Support for implementations of {@link MavenResolverSystem}
@@ -49,6 +57,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
 
     private final UNEQUIPPEDRESOLVESTAGETYPE delegate;
     private final MavenWorkingSessionContainer sessionContainer;
+    private volatile boolean concurrentResolution;
 
     /**
      * Creates a new instance using the specified delegate, which is required and must also implement the
@@ -79,6 +88,54 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
         return sessionContainer.getMavenWorkingSession();
     }
 
+    /**
+     * Sets whether every resolution started by this {@link MavenResolverSystem} should use its own fork of the
+     * {@link MavenWorkingSession}, so that this {@link MavenResolverSystem} can be used from multiple threads.
+     *
+     * @param concurrentResolution Whether resolutions should use a fork of the {@link MavenWorkingSession}
+     * @see MavenWorkingSessionImpl#fork()
+     */
+    protected void setConcurrentResolution(final boolean concurrentResolution) {
+        this.concurrentResolution = concurrentResolution;
+    }
+
+    /**
+     * Returns whether every resolution started by this {@link MavenResolverSystem} uses its own fork of the
+     * {@link MavenWorkingSession}
+     *
+     * @return Whether resolutions use a fork of the {@link MavenWorkingSession}
+     */
+    protected boolean isConcurrentResolution() {
+        return concurrentResolution;
+    }
+
+    /**
+     * Creates a new UNEQUIPPEDRESOLVESTAGETYPE backed by the given {@link MavenWorkingSession}, used to start
+     * resolutions in concurrent resolution mode.
+     *
+     * @param session The {@link MavenWorkingSession}
+     * @return A new UNEQUIPPEDRESOLVESTAGETYPE
+     */
+    protected abstract UNEQUIPPEDRESOLVESTAGETYPE createDelegate(MavenWorkingSession session);
+
+    /**
+     * Returns the delegate to start a resolution with. In concurrent resolution mode, this is a new delegate backed by
+     * a fork of the {@link MavenWorkingSession}.
+     *
+     * @return The delegate
+     */
+    private UNEQUIPPEDRESOLVESTAGETYPE getDelegate() {
+        if (!concurrentResolution) {
+            return delegate;
+        }
+        final MavenWorkingSession session = getSession();
+        if (!(session instanceof MavenWorkingSessionImpl)) {
+            throw new UnsupportedOperationException("Concurrent resolution is not supported by "
+                + session.getClass().getName());
+        }
+        return createDelegate(((MavenWorkingSessionImpl) session).fork());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -86,7 +143,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
      */
     @Override
     public STRATEGYSTAGETYPE resolve() throws IllegalStateException, ResolutionException {
-        return delegate.resolve();
+        return getDelegate().resolve();
     }
 
     /**
@@ -97,7 +154,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromFile(File pomFile) throws IllegalArgumentException,
         InvalidConfigurationFileException {
-        return delegate.loadPomFromFile(pomFile);
+        return getDelegate().loadPomFromFile(pomFile);
     }
 
     /**
@@ -107,7 +164,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
      */
     @Override
     public STRATEGYSTAGETYPE resolve(String coordinate) throws IllegalArgumentException, ResolutionException {
-        return delegate.resolve(coordinate);
+        return getDelegate().resolve(coordinate);
     }
 
     /**
@@ -119,7 +176,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromFile(File pomFile, String... profiles) throws IllegalArgumentException,
         InvalidConfigurationFileException {
-        return delegate.loadPomFromFile(pomFile, profiles);
+        return getDelegate().loadPomFromFile(pomFile, profiles);
     }
 
     /**
@@ -129,7 +186,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
      */
     @Override
     public STRATEGYSTAGETYPE resolve(String... coordinates) throws IllegalArgumentException, ResolutionException {
-        return delegate.resolve(coordinates);
+        return getDelegate().resolve(coordinates);
     }
 
     /**
@@ -139,7 +196,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
      */
     @Override
     public MavenVersionRangeResult resolveVersionRange(String coordinate) throws IllegalArgumentException {
-        return delegate.resolveVersionRange(coordinate);
+        return getDelegate().resolveVersionRange(coordinate);
     }
 
     /**
@@ -150,7 +207,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromFile(String pathToPomFile) throws IllegalArgumentException,
         InvalidConfigurationFileException {
-        return delegate.loadPomFromFile(pathToPomFile);
+        return getDelegate().loadPomFromFile(pathToPomFile);
     }
 
     /**
@@ -162,7 +219,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromFile(String pathToPomFile, String... profiles)
         throws IllegalArgumentException, InvalidConfigurationFileException {
-        return delegate.loadPomFromFile(pathToPomFile, profiles);
+        return getDelegate().loadPomFromFile(pathToPomFile, profiles);
     }
 
     /**
@@ -172,7 +229,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
      */
     @Override
     public UNEQUIPPEDRESOLVESTAGETYPE addDependency(MavenDependency coordinate) throws IllegalArgumentException {
-        return delegate.addDependency(coordinate);
+        return getDelegate().addDependency(coordinate);
     }
 
     /**
@@ -183,7 +240,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromClassLoaderResource(String pathToPomResource)
         throws IllegalArgumentException, InvalidConfigurationFileException {
-        return delegate.loadPomFromClassLoaderResource(pathToPomResource);
+        return getDelegate().loadPomFromClassLoaderResource(pathToPomResource);
     }
 
     /**
@@ -193,7 +250,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
      */
     @Override
     public UNEQUIPPEDRESOLVESTAGETYPE addDependencies(MavenDependency... coordinates) throws IllegalArgumentException {
-        return delegate.addDependencies(coordinates);
+        return getDelegate().addDependencies(coordinates);
     }
 
     /**
@@ -205,7 +262,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromClassLoaderResource(String pathToPomResource, ClassLoader cl)
         throws IllegalArgumentException, InvalidConfigurationFileException {
-        return delegate.loadPomFromClassLoaderResource(pathToPomResource, cl);
+        return getDelegate().loadPomFromClassLoaderResource(pathToPomResource, cl);
     }
 
     /**
@@ -217,7 +274,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public EQUIPPEDRESOLVESTAGETYPE loadPomFromClassLoaderResource(String pathToPomResource, ClassLoader cl,
         String... profiles) throws IllegalArgumentException, InvalidConfigurationFileException {
-        return delegate.loadPomFromClassLoaderResource(pathToPomResource, cl, profiles);
+        return getDelegate().loadPomFromClassLoaderResource(pathToPomResource, cl, profiles);
     }
 
     /**
@@ -228,7 +285,7 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public STRATEGYSTAGETYPE resolve(Collection<String> canonicalForms) throws IllegalArgumentException,
         ResolutionException, CoordinateParseException {
-        return delegate.resolve(canonicalForms);
+        return getDelegate().resolve(canonicalForms);
     }
 
     /**
@@ -239,6 +296,59 @@ public abstract class MavenResolverSystemBaseImpl<UNCONFIGURABLERESOLVERSYSTEMTY
     @Override
     public UNEQUIPPEDRESOLVESTAGETYPE addDependencies(Collection<MavenDependency> dependencies)
         throws IllegalArgumentException {
-        return delegate.addDependencies(dependencies);
+        return getDelegate().addDependencies(dependencies);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystemBase#resolveAll(java.util.Map,
+     *      org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy)
+     */
+    @Override
+    public Map<String, FORMATSTAGETYPE> resolveAll(final Map<String, ? extends Collection<String>> dependencySets,
+        final MavenResolutionStrategy strategy) throws IllegalArgumentException, ResolutionException,
+        CoordinateParseException {
+        Validate.notNull(dependencySets, "Dependency sets must be specified");
+        Validate.notEmpty(dependencySets.keySet(), "At least one dependency set must be specified");
+        Validate.notNull(strategy, "Strategy must be specified");
+
+        final UNEQUIPPEDRESOLVESTAGETYPE delegate = getDelegate();
+        final MavenWorkingSession session = ((MavenWorkingSessionContainer) delegate).getMavenWorkingSession();
+        if (!(session instanceof MavenWorkingSessionImpl)) {
+            throw new UnsupportedOperationException("Batch resolution is not supported by "
+                + session.getClass().getName());
+        }
+
+        // let the delegate turn coordinates into dependencies, keeping dependencies added before aside
+        final List<MavenDependency> pending = session.getDependenciesForResolution();
+        final List<MavenDependency> addedBefore = new ArrayList<>(pending);
+        final Map<String, List<MavenDependency>> sets = new LinkedHashMap<>();
+        STRATEGYSTAGETYPE strategyStage = null;
+        try {
+            pending.clear();
+            for (Map.Entry<String, ? extends Collection<String>> entry : dependencySets.entrySet()) {
+                Validate.notEmpty(entry.getValue(), "No dependencies were set for resolution of " + entry.getKey());
+                strategyStage = delegate.resolve(entry.getValue());
+                sets.put(entry.getKey(), new ArrayList<>(pending));
+                pending.clear();
+            }
+        } finally {
+            pending.clear();
+            pending.addAll(addedBefore);
+        }
+
+        @SuppressWarnings("unchecked")
+        final MavenStrategyStageBaseImpl<STRATEGYSTAGETYPE, FORMATSTAGETYPE> formatStageFactory =
+            (MavenStrategyStageBaseImpl<STRATEGYSTAGETYPE, FORMATSTAGETYPE>) strategyStage;
+        final Map<String, Collection<MavenResolvedArtifact>> resolved = ((MavenWorkingSessionImpl) session)
+            .resolveDependencies(sets, strategy);
+        // all the sets share metrics of the single resolution
+        final ResolutionMetrics metrics = ((MavenWorkingSessionImpl) session).getResolutionMetrics();
+        final Map<String, FORMATSTAGETYPE> formatStages = new LinkedHashMap<>();
+        for (Map.Entry<String, Collection<MavenResolvedArtifact>> entry : resolved.entrySet()) {
+            formatStages.put(entry.getKey(), formatStageFactory.createFormatStage(entry.getValue(), metrics));
+        }
+        return formatStages;
     }
 }
@@ -64,4 +64,9 @@ public class MavenResolverSystemImpl
         return super.getSession();
     }
 
+    @Override
+    protected PomlessResolveStage createDelegate(final MavenWorkingSession session) {
+        return new PomlessResolveStageImpl(session);
+    }
+
 }
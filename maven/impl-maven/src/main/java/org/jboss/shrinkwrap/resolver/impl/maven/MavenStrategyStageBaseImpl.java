@@ -16,14 +16,22 @@
  */
 package org.jboss.shrinkwrap.resolver.impl.maven;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStageBase;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
@@ -70,7 +78,57 @@ public abstract class MavenStrategyStageBaseImpl<STRATEGYSTAGETYPE extends Maven
         final Collection<MavenResolvedArtifact> resolvedArtifacts = session.resolveDependencies(strategy);
 
         // Proceed to format stage
-        return this.createFormatStage(resolvedArtifacts);
+        return this.createFormatStage(resolvedArtifacts, resolutionMetrics(session));
+    }
+
+    @Override
+    public MavenArtifactInfo[] collect(final MavenResolutionStrategy strategy) throws IllegalArgumentException {
+        Validate.notNull(strategy, "Strategy must be specified");
+        Validate.notEmpty(session.getDependenciesForResolution(), "No dependencies were set for resolution");
+
+        if (!(session instanceof MavenWorkingSessionImpl)) {
+            log.fine("Working session cannot collect dependencies only, they will be resolved instead");
+            return session.resolveDependencies(strategy).toArray(new MavenArtifactInfo[0]);
+        }
+        return ((MavenWorkingSessionImpl) session).collectDependencies(strategy).toArray(new MavenArtifactInfo[0]);
+    }
+
+    @Override
+    public CompletableFuture<FORMATSTAGETYPE> withTransitivityAsync() {
+        return usingAsync(TransitiveStrategy.INSTANCE, AsyncResolution.defaultExecutor());
+    }
+
+    @Override
+    public CompletableFuture<FORMATSTAGETYPE> withoutTransitivityAsync() {
+        return usingAsync(NonTransitiveStrategy.INSTANCE, AsyncResolution.defaultExecutor());
+    }
+
+    @Override
+    public CompletableFuture<FORMATSTAGETYPE> usingAsync(final MavenResolutionStrategy strategy,
+            final Executor executor, final long timeout, final TimeUnit unit) throws IllegalArgumentException {
+        Validate.notNull(strategy, "Strategy must be specified");
+        Validate.notNull(executor, "Executor must be specified");
+        Validate.notNull(unit, "Timeout unit must be specified");
+        Validate.notEmpty(session.getDependenciesForResolution(), "No dependencies were set for resolution");
+
+        // take the dependencies over to an independent session, so that the resolution does not interfere with any
+        // other use of this session
+        final MavenWorkingSession resolutionSession;
+        if (session instanceof MavenWorkingSessionImpl) {
+            final List<MavenDependency> dependencies = session.getDependenciesForResolution();
+            final MavenWorkingSessionImpl fork = ((MavenWorkingSessionImpl) session).fork();
+            fork.getDependenciesForResolution().addAll(new ArrayList<>(dependencies));
+            dependencies.clear();
+            resolutionSession = fork;
+        } else {
+            log.fine("Working session cannot be forked, asynchronous resolution will use it directly");
+            resolutionSession = session;
+        }
+
+        return AsyncResolution.run(() -> {
+            final Collection<MavenResolvedArtifact> resolvedArtifacts = resolutionSession.resolveDependencies(strategy);
+            return createFormatStage(resolvedArtifacts, resolutionMetrics(resolutionSession));
+        }, executor, timeout, unit);
     }
 
     protected abstract Class<STRATEGYSTAGETYPE> getActualClass();
@@ -83,4 +141,22 @@ public abstract class MavenStrategyStageBaseImpl<STRATEGYSTAGETYPE extends Maven
      */
     protected abstract FORMATSTAGETYPE createFormatStage(Collection<MavenResolvedArtifact> filteredArtifacts);
 
+    /**
+     * Creates a new {@link MavenFormatStage} instance for the current {@link MavenWorkingSession}, which provides
+     * metrics of the resolution. Unless overridden, the metrics are not provided.
+     *
+     * @param filteredArtifacts Required
+     * @param metrics Metrics of the resolution of {@code filteredArtifacts}
+     * @return A new {@link MavenFormatStage} instance for the current {@link MavenWorkingSession}
+     */
+    protected FORMATSTAGETYPE createFormatStage(Collection<MavenResolvedArtifact> filteredArtifacts,
+            ResolutionMetrics metrics) {
+        return createFormatStage(filteredArtifacts);
+    }
+
+    private static ResolutionMetrics resolutionMetrics(final MavenWorkingSession session) {
+        return session instanceof MavenWorkingSessionImpl ? ((MavenWorkingSessionImpl) session).getResolutionMetrics()
+            : ResolutionMetrics.EMPTY;
+    }
+
 }
@@ -22,6 +22,7 @@ import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenStrategyStage;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
 
 /**
  * Implementation of {@link MavenStrategyStage}
@@ -57,4 +58,17 @@ public class MavenStrategyStageImpl extends MavenStrategyStageBaseImpl<MavenStra
         return new MavenFormatStageImpl(filteredArtifacts);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.jboss.shrinkwrap.resolver.impl.maven.MavenStrategyStageBaseImpl#createFormatStage(java.util.Collection,
+     *      org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics)
+     */
+    @Override
+    protected MavenFormatStage createFormatStage(final Collection<MavenResolvedArtifact> filteredArtifacts,
+            final ResolutionMetrics metrics) throws IllegalArgumentException {
+        assert filteredArtifacts != null : "filtered artifacts are required";
+        return new MavenFormatStageImpl(filteredArtifacts, metrics);
+    }
+
 }
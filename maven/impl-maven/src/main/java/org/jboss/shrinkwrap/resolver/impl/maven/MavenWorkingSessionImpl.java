@@ -22,10 +22,14 @@ import eu.maveniverse.maven.mima.context.Runtime;
 import eu.maveniverse.maven.mima.context.Runtimes;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -41,13 +45,20 @@ import org.apache.maven.model.building.ModelBuilder;
 import org.apache.maven.model.building.ModelBuildingException;
 import org.apache.maven.model.building.ModelBuildingResult;
 import org.apache.maven.model.building.ModelProblem;
+import org.apache.maven.settings.Settings;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryException;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.collection.DependencyCollectionException;
 import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RemoteRepository.Builder;
 import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyResolutionException;
@@ -62,19 +73,28 @@ import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
 import org.jboss.shrinkwrap.resolver.api.ResolutionException;
 import org.jboss.shrinkwrap.resolver.api.VersionResolutionException;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenVersionRangeResult;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.NonTransitiveFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetricsListeners;
 import org.jboss.shrinkwrap.resolver.api.maven.pom.ParsedPomFile;
 import org.jboss.shrinkwrap.resolver.api.maven.repository.MavenRemoteRepository;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.MavenResolutionStrategy;
 import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveExclusionPolicy;
+import org.jboss.shrinkwrap.resolver.impl.maven.aether.DepthLimitedDependencySelector;
+import org.jboss.shrinkwrap.resolver.impl.maven.aether.PruningDependencySelector;
 import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
 import org.jboss.shrinkwrap.resolver.impl.maven.internal.MavenModelResolver;
 import org.jboss.shrinkwrap.resolver.impl.maven.internal.SettingsXmlProfileSelector;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.FlightRecorderEvents;
+import org.jboss.shrinkwrap.resolver.impl.maven.logging.ResolutionMetricsRecorder;
 import org.jboss.shrinkwrap.resolver.impl.maven.pom.ParsedPomFileImpl;
 
 /**
@@ -88,6 +108,10 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
 
     private static final Logger log = Logger.getLogger(MavenWorkingSessionImpl.class.getName());
 
+    private static final ModelBuilder MODEL_BUILDER = new DefaultModelBuilderFactory().newInstance();
+
+    private static final DependencySelector NON_TRANSITIVE_DEPENDENCY_SELECTOR = new DepthLimitedDependencySelector(2);
+
     /**
      * <code><dependencyManagement></code> metadata
      */
@@ -108,16 +132,49 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
 
     private boolean useMavenCentralRepository = true;
 
+    private final RemoteRepositoriesCache remoteRepositoriesCache;
+
+    private volatile ResolutionMetrics resolutionMetrics = ResolutionMetrics.EMPTY;
+
     public MavenWorkingSessionImpl() {
         super();
         this.remoteRepositories = new ArrayList<>();
         this.additionalRemoteRepositories = new ArrayList<>();
+        this.remoteRepositoriesCache = new RemoteRepositoriesCache();
 
         this.dependencies = new ArrayList<>();
-        this.dependencyManagement = new LinkedHashSet<>();
+        this.dependencyManagement = new DependencyManagementSet();
         this.declaredDependencies = new LinkedHashSet<>();
     }
 
+    private MavenWorkingSessionImpl(MavenWorkingSessionImpl original) {
+        super(original);
+        this.remoteRepositories = new ArrayList<>(original.remoteRepositories);
+        this.additionalRemoteRepositories = new ArrayList<>(original.additionalRemoteRepositories);
+        this.remoteRepositoriesCache = original.remoteRepositoriesCache;
+        this.useMavenCentralRepository = original.useMavenCentralRepository;
+        this.model = original.model;
+
+        this.dependencies = new ArrayList<>();
+        this.dependencyManagement = new DependencyManagementSet();
+        this.dependencyManagement.addAll(original.dependencyManagement);
+        this.declaredDependencies = new LinkedHashSet<>(original.declaredDependencies);
+    }
+
+    /**
+     * Creates an independent working session for a single resolution. The returned session inherits the whole
+     * configuration of this session, including the loaded POM file, but starts with no dependencies for resolution.
+     * It shares {@link Settings}, the repository system and the repository caches with this session, so that resolution
+     * in several forked sessions can run concurrently without bootstrapping Maven again.
+     * <p>
+     * This session must not be reconfigured while it is being forked.
+     *
+     * @return A new working session
+     */
+    public synchronized MavenWorkingSessionImpl fork() {
+        return new MavenWorkingSessionImpl(this);
+    }
+
     @Override
     public Set<MavenDependency> getDependencyManagement() {
         return dependencyManagement;
@@ -156,28 +213,39 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
             request.setUserProperties(userProperties);
         }
 
-        ModelBuilder builder = new DefaultModelBuilderFactory().newInstance();
-        ModelBuildingResult result;
-        try {
-            request.setModelResolver(new MavenModelResolver(getSystem(), getSession(), getRemoteRepositories()));
-            result = builder.build(request);
-        }
-        // wrap exception message
-        catch (ModelBuildingException e) {
-            String pomPath = request.getPomFile().getAbsolutePath();
-            StringBuilder sb = new StringBuilder("Found ").append(e.getProblems().size())
-                    .append(" problems while building POM model from ").append(pomPath).append("\n");
-
-            int counter = 1;
-            for (ModelProblem problem : e.getProblems()) {
-                sb.append(counter++).append("/ ").append(problem).append("\n");
+        // building the effective model is expensive, reuse the previous one unless any of its inputs has changed
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.EFFECTIVE_POM_BUILD);
+        final List<RemoteRepository> repositories = getRemoteRepositories();
+        final EffectiveModelCache.Key key = EffectiveModelCache.key(request, getSettings(), repositories,
+            getSession().getLocalRepository().getBasedir(), isOffline());
+        Model model = EffectiveModelCache.getInstance().get(key);
+        final boolean cached = model != null;
+        if (model == null) {
+            ModelBuildingResult result;
+            try {
+                request.setModelResolver(new MavenModelResolver(getSystem(), getSession(), repositories));
+                result = MODEL_BUILDER.build(request);
+            }
+            // wrap exception message
+            catch (ModelBuildingException e) {
+                String pomPath = request.getPomFile().getAbsolutePath();
+                StringBuilder sb = new StringBuilder("Found ").append(e.getProblems().size())
+                        .append(" problems while building POM model from ").append(pomPath).append("\n");
+
+                int counter = 1;
+                for (ModelProblem problem : e.getProblems()) {
+                    sb.append(counter++).append("/ ").append(problem).append("\n");
+                }
+
+                throw new InvalidConfigurationFileException(sb.toString());
             }
 
-            throw new InvalidConfigurationFileException(sb.toString());
+            EffectiveModelCache.getInstance().put(key, result);
+            model = result.getEffectiveModel();
         }
+        FlightRecorderEvents.endEffectivePomBuild(event, pomFile, model, cached);
 
-        // get and update model
-        Model model = result.getEffectiveModel();
+        // update model
         this.model = model;
 
         // update model repositories
@@ -196,6 +264,19 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
                 this.getDependenciesForResolution()));
         final List<MavenDependency> depManagement = new ArrayList<>(this.getDependencyManagement());
 
+        // a cached result is returned without touching the repository system at all
+        final ResolutionResultCache resultCache = ResolutionResultCache.fromSystemProperties();
+        final String cacheKey = resultCache == null ? null : resolutionCacheKey(resultCache, strategy, depsForResolution,
+            depManagement);
+        if (cacheKey != null) {
+            final Collection<MavenResolvedArtifact> cachedArtifacts = resultCache.get(cacheKey);
+            if (cachedArtifacts != null) {
+                this.getDependenciesForResolution().clear();
+                completed(ResolutionMetrics.EMPTY);
+                return cachedArtifacts;
+            }
+        }
+
         final List<RemoteRepository> repos = this.getRemoteRepositories();
 
         final CollectRequest request = new CollectRequest(MavenConverter.asDependencies(depsForResolution,
@@ -204,44 +285,222 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
 
         Collection<ArtifactResult> results = Collections.emptyList();
 
-        // Set the dependency selector used in resolving transitive dependencies based on our transitive exclusion
-        // policy abstraction
-        final Set<DependencySelector> dependencySelectors = new LinkedHashSet<>(3);
-        final TransitiveExclusionPolicy transitiveExclusionPolicy = strategy.getTransitiveExclusionPolicy();
-        final ScopeType[] filteredScopes = transitiveExclusionPolicy.getFilteredScopes();
-        final int numFilteredScopes = filteredScopes.length;
-        final String[] filteredScopeStrings = new String[numFilteredScopes];
-        for (int i = 0; i < numFilteredScopes; i++) {
-            filteredScopeStrings[i] = filteredScopes[i].toString();
-        }
-        if (numFilteredScopes > 0) {
-            dependencySelectors.add(new ScopeDependencySelector(filteredScopeStrings));
-        }
-        if (!transitiveExclusionPolicy.allowOptional()) {
-            dependencySelectors.add(new OptionalDependencySelector());
+        getSession().setDependencySelector(dependencySelector(strategy));
+
+        if (LazyArtifactResolver.isEnabled(getSession())) {
+            final Collection<MavenResolvedArtifact> lazyArtifacts = collectLazily(request, depsForResolution, strategy);
+            this.getDependenciesForResolution().clear();
+            // files of the artifacts are not known yet, so the result is not cached
+            return PostResolutionFilter.filter(lazyArtifacts, depsForResolution, strategy);
         }
-        dependencySelectors.add(new ExclusionDependencySelector());
-        final DependencySelector dependencySelector = new AndDependencySelector(dependencySelectors);
-        getSession().setDependencySelector(dependencySelector);
 
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.start(getSession());
         try {
             results = getSystem().resolveDependencies(getSession(), this, request,
                 strategy.getResolutionFilters());
         } catch (DependencyResolutionException e) {
             throw wrapException(e);
+        } finally {
+            completed(metrics.stop(getSession()));
         }
 
         final Collection<MavenResolvedArtifact> resolvedArtifacts = new ArrayList<>(results.size());
 
+        // all the artifacts share nodes of a single dependency graph
+        final MavenArtifactInfoGraph graph = new MavenArtifactInfoGraph();
         for (final ArtifactResult result : results) {
-            resolvedArtifacts.add(MavenResolvedArtifactImpl.fromArtifactResult(result));
+            resolvedArtifacts.add(MavenResolvedArtifactImpl.fromArtifactResult(result, graph));
         }
 
         // Clear dependencies to be resolved (for the next request); we've already sent this request
         this.getDependenciesForResolution().clear();
 
         // apply post filtering
-        return PostResolutionFilter.filter(resolvedArtifacts, depsForResolution, strategy);
+        final Collection<MavenResolvedArtifact> filteredArtifacts = PostResolutionFilter.filter(resolvedArtifacts,
+            depsForResolution, strategy);
+        if (cacheKey != null) {
+            resultCache.put(cacheKey, filteredArtifacts);
+        }
+        return filteredArtifacts;
+    }
+
+    /**
+     * Collects the dependency graph and creates artifacts downloaded on their first access. Artifacts found in the
+     * workspace, such as reactor modules or class path entries, are at hand and are resolved right away.
+     */
+    private Collection<MavenResolvedArtifact> collectLazily(final CollectRequest request,
+            final List<MavenDependency> depsForResolution, final MavenResolutionStrategy strategy)
+            throws ResolutionException {
+        final List<DependencyNode> nodes;
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.start(getSession());
+        try {
+            nodes = getSystem().collectDependencies(getSession(), request, depsForResolution,
+                strategy.getResolutionFilters());
+        } catch (DependencyCollectionException e) {
+            throw wrapException(e);
+        } finally {
+            completed(metrics.stop(getSession()));
+        }
+
+        final WorkspaceReader workspace = getSession().getWorkspaceReader();
+        // later changes of the session, such as by the next resolution, must not affect the downloads
+        final LazyArtifactResolver resolver = new LazyArtifactResolver(getSystem(),
+            new DefaultRepositorySystemSession(getSession()));
+        final Collection<MavenResolvedArtifact> artifacts = new ArrayList<>(nodes.size());
+        final MavenArtifactInfoGraph graph = new MavenArtifactInfoGraph();
+        for (final DependencyNode node : nodes) {
+            if (workspace != null && workspace.findArtifact(node.getArtifact()) != null) {
+                try {
+                    artifacts.add(MavenResolvedArtifactImpl.fromArtifactResult(
+                        getSystem().resolveArtifact(getSession(), new ArtifactRequest(node)), graph));
+                } catch (ArtifactResolutionException e) {
+                    throw wrapException(e);
+                }
+            } else {
+                artifacts.add(MavenResolvedArtifactImpl.fromDependencyNode(node, graph, resolver));
+            }
+        }
+        return artifacts;
+    }
+
+    /**
+     * Collects the dependency graph of dependencies requested for resolution, without resolving any artifact. Only the
+     * POM files needed to build the graph are fetched.
+     *
+     * @param strategy The strategy
+     * @return Information about the artifacts {@link #resolveDependencies(MavenResolutionStrategy)} would return, in the
+     * same order, together with their dependencies
+     * @throws ResolutionException If the dependency graph could not be collected
+     */
+    public Collection<MavenArtifactInfo> collectDependencies(final MavenResolutionStrategy strategy)
+            throws ResolutionException {
+
+        final List<MavenDependency> depsForResolution = Collections.unmodifiableList(new ArrayList<>(
+                this.getDependenciesForResolution()));
+        final List<MavenDependency> depManagement = new ArrayList<>(this.getDependencyManagement());
+
+        final CollectRequest request = new CollectRequest(MavenConverter.asDependencies(depsForResolution,
+            getSession().getArtifactTypeRegistry()),
+            MavenConverter.asDependencies(depManagement, getSession().getArtifactTypeRegistry()),
+            this.getRemoteRepositories());
+
+        getSession().setDependencySelector(dependencySelector(strategy));
+
+        final List<DependencyNode> nodes;
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.start(getSession());
+        try {
+            nodes = getSystem().collectDependencies(getSession(), request, depsForResolution,
+                strategy.getResolutionFilters());
+        } catch (DependencyCollectionException e) {
+            throw wrapException(e);
+        } finally {
+            completed(metrics.stop(getSession()));
+        }
+
+        // Clear dependencies to be resolved (for the next request); we've already sent this request
+        this.getDependenciesForResolution().clear();
+
+        final MavenArtifactInfo[] collected = new MavenArtifactInfoGraph().getArtifactInfos(nodes);
+        return PostResolutionFilter.filter(Arrays.asList(collected), depsForResolution, strategy);
+    }
+
+    /**
+     * Resolves several independent sets of dependencies at once. Each set is resolved as if it was the only one
+     * requested for resolution, using the {@code <dependencyManagement>} and repositories of this session, but the sets
+     * share artifact descriptors and versions and each artifact is resolved only once. Dependencies requested for
+     * resolution in this session are left untouched.
+     *
+     * @param dependencySets The sets of dependencies to be resolved, by their names
+     * @param strategy The strategy used for every set
+     * @return Resolved artifacts of each set, by its name
+     * @throws ResolutionException If any of the sets could not be resolved
+     */
+    public <K> Map<K, Collection<MavenResolvedArtifact>> resolveDependencies(
+            final Map<K, ? extends List<MavenDependency>> dependencySets, final MavenResolutionStrategy strategy)
+            throws ResolutionException {
+
+        final List<MavenDependency> depManagement = new ArrayList<>(this.getDependencyManagement());
+        final ResolutionResultCache resultCache = ResolutionResultCache.fromSystemProperties();
+
+        final Map<K, Collection<MavenResolvedArtifact>> resolved = new LinkedHashMap<>();
+        final Map<K, String> cacheKeys = new HashMap<>();
+        final Map<K, List<MavenDependency>> depsForResolution = new LinkedHashMap<>();
+        for (Map.Entry<K, ? extends List<MavenDependency>> entry : dependencySets.entrySet()) {
+            final List<MavenDependency> deps = Collections.unmodifiableList(new ArrayList<>(entry.getValue()));
+            final String cacheKey = resultCache == null ? null : resolutionCacheKey(resultCache, strategy, deps,
+                depManagement);
+            final Collection<MavenResolvedArtifact> cachedArtifacts = cacheKey == null ? null : resultCache.get(cacheKey);
+            // keep the order of the sets in the result
+            resolved.put(entry.getKey(), cachedArtifacts);
+            if (cachedArtifacts == null) {
+                cacheKeys.put(entry.getKey(), cacheKey);
+                depsForResolution.put(entry.getKey(), deps);
+            }
+        }
+        if (depsForResolution.isEmpty()) {
+            completed(ResolutionMetrics.EMPTY);
+            return resolved;
+        }
+
+        // a copy of the session shares a cache of descriptors and versions among all the sets
+        final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(getSession());
+        session.setDependencySelector(dependencySelector(strategy));
+        if (session.getCache() == null) {
+            session.setCache(new DefaultRepositoryCache());
+        }
+
+        final List<RemoteRepository> repos = this.getRemoteRepositories();
+        final Map<K, CollectRequest> requests = new LinkedHashMap<>();
+        for (Map.Entry<K, List<MavenDependency>> entry : depsForResolution.entrySet()) {
+            requests.put(entry.getKey(), new CollectRequest(MavenConverter.asDependencies(entry.getValue(),
+                session.getArtifactTypeRegistry()), MavenConverter.asDependencies(depManagement,
+                session.getArtifactTypeRegistry()), repos));
+        }
+
+        final Map<K, Collection<ArtifactResult>> results;
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.start(session);
+        try {
+            results = getSystem().resolveDependencies(session, requests, depsForResolution,
+                strategy.getResolutionFilters());
+        } catch (DependencyCollectionException | ArtifactResolutionException e) {
+            throw wrapException(e);
+        } finally {
+            completed(metrics.stop(session));
+        }
+
+        for (Map.Entry<K, Collection<ArtifactResult>> entry : results.entrySet()) {
+            final Collection<MavenResolvedArtifact> resolvedArtifacts = new ArrayList<>(entry.getValue().size());
+            final MavenArtifactInfoGraph graph = new MavenArtifactInfoGraph();
+            for (final ArtifactResult result : entry.getValue()) {
+                resolvedArtifacts.add(MavenResolvedArtifactImpl.fromArtifactResult(result, graph));
+            }
+
+            final Collection<MavenResolvedArtifact> filteredArtifacts = PostResolutionFilter.filter(resolvedArtifacts,
+                depsForResolution.get(entry.getKey()), strategy);
+            final String cacheKey = cacheKeys.get(entry.getKey());
+            if (cacheKey != null) {
+                resultCache.put(cacheKey, filteredArtifacts);
+            }
+            resolved.put(entry.getKey(), filteredArtifacts);
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns metrics of the resolution done by this session last, see {@link ResolutionMetricsListeners} for metrics of
+     * all the resolutions in the JVM
+     *
+     * @return The metrics, {@link ResolutionMetrics#EMPTY} if there was no resolution yet or if its result was cached
+     */
+    public ResolutionMetrics getResolutionMetrics() {
+        return resolutionMetrics;
+    }
+
+    private void completed(final ResolutionMetrics metrics) {
+        this.resolutionMetrics = metrics;
+        if (ResolutionMetricsListeners.hasListeners()) {
+            ResolutionMetricsListeners.notifyListeners(metrics);
+        }
     }
 
     @Override
@@ -315,10 +574,6 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
             return Collections.emptyList();
         }
 
-        ContextOverrides.Builder contextOverridesBuilder = ContextOverrides.create();
-        contextOverridesBuilder.withUserSettings(true);
-        contextOverridesBuilder.withEffectiveSettings(getSettings());
-        contextOverridesBuilder.addRepositoriesOp(ContextOverrides.AddRepositoriesOp.APPEND);
         List<RemoteRepository> ctxrepo = new ArrayList<>();
         if (useMavenCentralRepository
                 && remoteRepositories.stream().noneMatch(r -> ContextOverrides.CENTRAL.getId().equals(r.getId()))
@@ -328,6 +583,17 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
         this.remoteRepositories.forEach(r -> addReplace(ctxrepo, r));
         this.additionalRemoteRepositories.forEach(r -> addReplace(ctxrepo, r));
 
+        // creating a MIMA context is expensive, reuse the previous result unless any of the inputs has changed
+        final Settings settings = getSettings();
+        return new ArrayList<>(remoteRepositoriesCache.get(settings, ctxrepo, useMavenCentralRepository,
+            () -> createEffectiveRemoteRepositories(settings, ctxrepo)));
+    }
+
+    private List<RemoteRepository> createEffectiveRemoteRepositories(Settings settings, List<RemoteRepository> ctxrepo) {
+        ContextOverrides.Builder contextOverridesBuilder = ContextOverrides.create();
+        contextOverridesBuilder.withUserSettings(true);
+        contextOverridesBuilder.withEffectiveSettings(settings);
+        contextOverridesBuilder.addRepositoriesOp(ContextOverrides.AddRepositoriesOp.APPEND);
         contextOverridesBuilder.repositories(ctxrepo);
         Runtime runtime = Runtimes.INSTANCE.getRuntime();
         try (Context context = runtime.create(contextOverridesBuilder.build())) {
@@ -340,7 +606,7 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
                     log.finer("Repository " + repository.getUrl() + " have been made available for artifact resolution");
                 }
             }
-            return new ArrayList<>(result);
+            return result;
         }
     }
 
@@ -349,11 +615,86 @@ public class MavenWorkingSessionImpl extends ConfigurableMavenWorkingSessionImpl
         remoteRepositories.add(repository);
     }
 
+    /**
+     * Computes the key of a resolution request for the result cache. Only strategies which are enum constants are
+     * supported, as other strategies might be configured in a way the key can not reflect.
+     *
+     * @return The key, or {@code null} if the result of the request should not be cached
+     */
+    private String resolutionCacheKey(ResolutionResultCache resultCache, MavenResolutionStrategy strategy,
+            List<MavenDependency> depsForResolution, List<MavenDependency> depManagement) {
+        if (!(strategy instanceof Enum) || !resultCache.isCacheable(depsForResolution)
+                || !resultCache.isCacheable(depManagement)) {
+            return null;
+        }
+
+        final ResolutionResultCache.Key key = new ResolutionResultCache.Key()
+            .add(strategy.getClass().getName())
+            .add(((Enum<?>) strategy).name())
+            .addDependencies(depsForResolution)
+            .addDependencies(depManagement)
+            .addRepositories(remoteRepositories)
+            .addRepositories(additionalRemoteRepositories)
+            .add(useMavenCentralRepository);
+        addTo(key);
+        return key.hash();
+    }
+
+    /**
+     * Creates the dependency selector used in resolving transitive dependencies based on our transitive exclusion
+     * policy abstraction
+     */
+    private static DependencySelector dependencySelector(MavenResolutionStrategy strategy) {
+        final Set<DependencySelector> dependencySelectors = new LinkedHashSet<>(3);
+        final TransitiveExclusionPolicy transitiveExclusionPolicy = strategy.getTransitiveExclusionPolicy();
+        final ScopeType[] filteredScopes = transitiveExclusionPolicy.getFilteredScopes();
+        final int numFilteredScopes = filteredScopes.length;
+        final String[] filteredScopeStrings = new String[numFilteredScopes];
+        for (int i = 0; i < numFilteredScopes; i++) {
+            filteredScopeStrings[i] = filteredScopes[i].toString();
+        }
+        if (numFilteredScopes > 0) {
+            dependencySelectors.add(new ScopeDependencySelector(filteredScopeStrings));
+        }
+        if (!transitiveExclusionPolicy.allowOptional()) {
+            dependencySelectors.add(new OptionalDependencySelector());
+        }
+        dependencySelectors.add(new ExclusionDependencySelector());
+        if (isNonTransitive(strategy)) {
+            // transitive dependencies would be filtered out anyway, collect only the requested dependencies and their
+            // direct dependencies, the latter are needed for MavenResolvedArtifact#getDependencies() only
+            dependencySelectors.add(NON_TRANSITIVE_DEPENDENCY_SELECTOR);
+        }
+        // let filters prune subtrees they would reject anyway
+        final DependencySelector pruningSelector = PruningDependencySelector.fromFilters(strategy.getResolutionFilters());
+        if (pruningSelector != null) {
+            dependencySelectors.add(pruningSelector);
+        }
+        return new AndDependencySelector(dependencySelectors);
+    }
+
+    /**
+     * Checks whether given strategy accepts only dependencies requested for resolution. This is the case if any of
+     * its filters is {@link NonTransitiveFilter}, as filters are applied all at once.
+     */
+    private static boolean isNonTransitive(MavenResolutionStrategy strategy) {
+        final MavenResolutionFilter[] filters = strategy.getResolutionFilters();
+        if (filters == null) {
+            return false;
+        }
+        for (MavenResolutionFilter filter : filters) {
+            if (filter == NonTransitiveFilter.INSTANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private List<Profile> getSettingsDefinedProfiles() {
         return MavenConverter.asProfiles(getSettings().getProfiles());
     }
 
-    private static ResolutionException wrapException(DependencyResolutionException e) {
+    private static ResolutionException wrapException(RepositoryException e) {
         Throwable cause = e;
         Throwable nextCause = null;
         while ((nextCause = cause.getCause()) != null) {
@@ -22,7 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
-import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
 import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
@@ -42,16 +42,16 @@ class PostResolutionFilter {
     /**
      * Run post-resolution filtering to weed out unwanted POMs.
      *
-     * @param artifactResults The original list of resolved artifacts
+     * @param artifactResults The original list of resolved or collected artifacts
      * @param depsForResolution Resolutions for the request. Used for specifying unwanted POMs
      * @param strategy Resolution strategy
      * @return List of modified artifactResults
      */
-    static Collection<MavenResolvedArtifact> filter(final Collection<MavenResolvedArtifact> artifactResults, List<MavenDependency> depsForResolution, final MavenResolutionStrategy strategy) {
+    static <T extends MavenArtifactInfo> Collection<T> filter(final Collection<T> artifactResults, List<MavenDependency> depsForResolution, final MavenResolutionStrategy strategy) {
 
-        final Collection<MavenResolvedArtifact> filteredArtifacts = new ArrayList<>();
+        final Collection<T> filteredArtifacts = new ArrayList<>();
 
-        for (final MavenResolvedArtifact artifact : artifactResults) {
+        for (final T artifact : artifactResults) {
             final MavenDependency dependency = MavenDependencies.createDependency(artifact.getCoordinate(),
                     ScopeType.COMPILE, false);
             // Empty lists OK here because we know the RestrictPOM Filter doesn't consult them
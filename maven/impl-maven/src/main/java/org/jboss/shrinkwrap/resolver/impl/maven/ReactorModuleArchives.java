@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Archives of reactor module directories, such as {@code target/classes}, stored in a stable cache directory.
+ * <p>
+ * An archive is named after the path of the directory and a fingerprint of its tree, that is the path, size and
+ * modification time of every entry. An archive is therefore packaged only once for every state of the directory and
+ * reused by all the resolutions and JVMs afterwards. Archives of previous states are removed once they are older than
+ * {@link #STALE_ARCHIVE_AGE}, so that files already returned to callers, possibly in other JVMs, stay in place.
+ * <p>
+ * The cache directory is {@code shrinkwrap-resolver-<user>/reactor-modules} in the temporary directory unless set by
+ * {@value #CACHE_DIRECTORY_KEY} system property. As the temporary directory is shared by all the users of the host, the
+ * {@code shrinkwrap-resolver-<user>} directory is created accessible by its owner only and it is not used if it is
+ * owned by another user or accessible by others; the archive is then packaged into a new temporary file instead.
+ */
+final class ReactorModuleArchives {
+
+    private static final Logger log = Logger.getLogger(ReactorModuleArchives.class.getName());
+
+    /**
+     * System property setting the directory the archives are stored in
+     */
+    static final String CACHE_DIRECTORY_KEY = "org.jboss.shrinkwrap.resolver.maven.reactor-module-cache";
+
+    /**
+     * Age after which an archive of a previous state of a directory is removed, in milliseconds
+     */
+    static final long STALE_ARCHIVE_AGE = TimeUnit.DAYS.toMillis(1);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    /**
+     * No instantiation
+     */
+    private ReactorModuleArchives() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Returns an archive with the content of the directory, packaging it only if there is no archive of the current
+     * state of the directory yet
+     *
+     * @param directory The directory to be packaged
+     * @param artifactId The artifactId of the module, used as a prefix of the archive name
+     * @param extension The extension of the archive
+     * @return The archive
+     * @throws IllegalArgumentException If the archive could not be created
+     */
+    static File archive(final File directory, final String artifactId, final String extension)
+            throws IllegalArgumentException {
+        try {
+            final Path cacheDirectory = getCacheDirectory();
+            if (cacheDirectory == null) {
+                final File archive = Files.createTempFile(artifactId + "-", "." + extension).toFile();
+                archive.deleteOnExit();
+                MavenResolvedArtifactImpl.PackageDirHelper.packageDirectories(archive, directory);
+                return archive;
+            }
+            final String prefix = artifactId + "-" + hash(directory.getCanonicalPath()).substring(0, 16) + "-";
+            final Path archive = cacheDirectory.resolve(prefix + fingerprint(directory.toPath()) + "." + extension);
+            if (Files.isRegularFile(archive)) {
+                return archive.toFile();
+            }
+
+            Files.createDirectories(cacheDirectory);
+            final Path temporary = Files.createTempFile(cacheDirectory, prefix, ".tmp");
+            try {
+                MavenResolvedArtifactImpl.PackageDirHelper.packageDirectories(temporary.toFile(), directory);
+                try {
+                    Files.move(temporary, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, archive, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            removeStaleArchives(cacheDirectory, prefix, archive);
+            return archive.toFile();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to get artifact " + artifactId + " from the classpath", e);
+        }
+    }
+
+    /**
+     * Returns the cache directory, or {@code null} if the default one can not be used safely
+     */
+    private static Path getCacheDirectory() throws IOException {
+        final String configured = SecurityActions.getProperty(CACHE_DIRECTORY_KEY);
+        if (configured != null && !configured.isEmpty()) {
+            return new File(configured).toPath();
+        }
+        final String user = SecurityActions.getProperty("user.name");
+        final Path userDirectory = new File(SecurityActions.getProperty("java.io.tmpdir"), "shrinkwrap-resolver-"
+            + (user == null ? "" : user.replaceAll("[^A-Za-z0-9._-]", "_"))).toPath();
+        if (!isPrivateDirectory(userDirectory, user)) {
+            log.log(Level.WARNING, "Directory {0} is not a directory accessible by user {1} only, reactor module "
+                + "archives will not be cached", new Object[] { userDirectory, user });
+            return null;
+        }
+        return userDirectory.resolve("reactor-modules");
+    }
+
+    /**
+     * Creates the directory accessible by its owner only if it does not exist yet and checks that it is owned by the
+     * user and not accessible by others
+     */
+    private static boolean isPrivateDirectory(final Path directory, final String user) throws IOException {
+        if (user == null) {
+            return false;
+        }
+        final boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        try {
+            if (posix) {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } else {
+                Files.createDirectory(directory);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // verified below
+        }
+
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        final UserPrincipal owner = Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS);
+        try {
+            if (!owner.equals(directory.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName(user))) {
+                return false;
+            }
+        } catch (IOException e) {
+            log.log(Level.FINE, "Unable to look up user " + user, e);
+            return false;
+        }
+        return !posix || OWNER_ONLY.equals(Files.readAttributes(directory, PosixFileAttributes.class,
+            LinkOption.NOFOLLOW_LINKS).permissions());
+    }
+
+    /**
+     * Computes a fingerprint of the tree from the path, size and modification time of every entry, without reading the
+     * content of any file
+     */
+    private static String fingerprint(final Path directory) throws IOException {
+        final List<String> entries = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    add(dir, attrs);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    add(file, attrs);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                private void add(Path entry, BasicFileAttributes attrs) {
+                    entries.add(directory.relativize(entry) + ":" + attrs.size() + ":"
+                        + attrs.lastModifiedTime().toMillis());
+                }
+            });
+        }
+        // the order of the walk is not specified
+        Collections.sort(entries);
+        final StringBuilder sb = new StringBuilder();
+        for (String entry : entries) {
+            sb.append(entry).append('\n');
+        }
+        return hash(sb.toString()).substring(0, 16);
+    }
+
+    private static void removeStaleArchives(final Path cacheDirectory, final String prefix, final Path current) {
+        final long threshold = System.currentTimeMillis() - STALE_ARCHIVE_AGE;
+        try (DirectoryStream<Path> archives = Files.newDirectoryStream(cacheDirectory, prefix + "*")) {
+            for (Path archive : archives) {
+                if (!archive.equals(current) && !archive.getFileName().toString().endsWith(".tmp")
+                    && Files.getLastModifiedTime(archive).toMillis() < threshold) {
+                    Files.deleteIfExists(archive);
+                }
+            }
+        } catch (IOException e) {
+            log.log(Level.FINE, "Unable to remove stale archives of " + prefix + " from " + cacheDirectory, e);
+        }
+    }
+
+    private static String hash(final String value) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest(value.getBytes(StandardCharsets.UTF_8))) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
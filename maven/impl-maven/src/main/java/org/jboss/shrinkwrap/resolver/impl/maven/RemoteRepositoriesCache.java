@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.maven.settings.Settings;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Memoizes the effective list of remote repositories of a {@link MavenWorkingSessionImpl}.
+ * <p>
+ * Computing the effective list requires a MIMA context to be created, which is expensive. The list is therefore
+ * recomputed only if any of its inputs has changed since the last computation, that is the {@link Settings} instance,
+ * the repositories requested by the POM file and by the user, or whether Maven Central is to be used. Offline mode is
+ * expected to be handled by the caller, as there are no remote repositories to compute at all.
+ */
+public final class RemoteRepositoriesCache {
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private Settings settings;
+    private List<RemoteRepository> requestedRepositories;
+    private boolean useMavenCentral;
+    private List<RemoteRepository> effectiveRepositories;
+
+    /**
+     * Returns the effective list of remote repositories for the given inputs, computing it via {@code loader} only if
+     * the inputs differ from the ones used in the previous call.
+     *
+     * @param settings The settings the repositories are computed for, compared by identity
+     * @param requestedRepositories The repositories requested by the POM file and by the user
+     * @param useMavenCentral Whether Maven Central is to be used
+     * @param loader Computes the effective list of remote repositories
+     * @return Unmodifiable effective list of remote repositories
+     */
+    synchronized List<RemoteRepository> get(final Settings settings, final List<RemoteRepository> requestedRepositories,
+            final boolean useMavenCentral, final Supplier<List<RemoteRepository>> loader) {
+        if (effectiveRepositories != null && this.settings == settings && this.useMavenCentral == useMavenCentral
+                && this.requestedRepositories.equals(requestedRepositories)) {
+            hits.incrementAndGet();
+            return effectiveRepositories;
+        }
+
+        misses.incrementAndGet();
+        this.effectiveRepositories = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        this.settings = settings;
+        this.requestedRepositories = new ArrayList<>(requestedRepositories);
+        this.useMavenCentral = useMavenCentral;
+        return effectiveRepositories;
+    }
+
+    /**
+     * Returns how many times the effective list of remote repositories was reused in this JVM
+     *
+     * @return The number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many times the effective list of remote repositories had to be computed in this JVM
+     *
+     * @return The number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,535 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.io.xpp3.SettingsXpp3Writer;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.PackagingType;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinates;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencyExclusion;
+
+/**
+ * Persistent cache of resolution results, shared by all the JVMs using the same directory.
+ * <p>
+ * An entry is keyed by a hash of everything the result of a resolution depends on, that is the dependencies and the
+ * dependency management, the remote repositories, the resolution strategy, the settings, the JDK, the operating system
+ * and the system properties not owned by the JVM or the launcher, which decide the profiles activated in dependency
+ * POMs. It stores the resolved artifacts together with their dependency graph and the size and last modification time
+ * of every resolved file. An entry is used only if all the files are still unchanged, otherwise it is removed. A hit
+ * does not require a repository system nor a repository system session at all.
+ * <p>
+ * The cache is disabled by default. It is enabled by setting {@value #CACHE_DIRECTORY_KEY} system property either to
+ * {@code true}, to use {@code ~/.m2/shrinkwrap-resolver/resolution-cache}, or to a path of the cache directory.
+ * Results involving snapshots are not cached unless {@value #CACHE_SNAPSHOTS_KEY} is set to {@code true}, results of
+ * requests with version ranges are never cached. Setting {@value #REFRESH_KEY} to {@code true} makes every request
+ * bypass the existing entries and store fresh results instead; {@link #clear()} removes all the entries.
+ */
+public final class ResolutionResultCache {
+
+    private static final Logger log = Logger.getLogger(ResolutionResultCache.class.getName());
+
+    /**
+     * System property enabling the cache, either {@code true} or a path of the cache directory
+     */
+    public static final String CACHE_DIRECTORY_KEY = "org.jboss.shrinkwrap.resolver.maven.resolution-cache";
+
+    /**
+     * System property allowing results which involve snapshots to be cached
+     */
+    public static final String CACHE_SNAPSHOTS_KEY = CACHE_DIRECTORY_KEY + ".snapshots";
+
+    /**
+     * System property making requests ignore existing entries and replace them by fresh results
+     */
+    public static final String REFRESH_KEY = CACHE_DIRECTORY_KEY + ".refresh";
+
+    /**
+     * Version of the entry format, part of the key so that entries of incompatible versions are never read
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String ENTRY_SUFFIX = ".bin";
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private final File directory;
+    private final boolean cacheSnapshots;
+    private final boolean refresh;
+
+    /**
+     * Creates a cache stored in given directory, which does not cache results involving snapshots
+     *
+     * @param directory The cache directory, created on demand
+     */
+    public ResolutionResultCache(final File directory) {
+        this(directory, false, false);
+    }
+
+    ResolutionResultCache(final File directory, final boolean cacheSnapshots, final boolean refresh) {
+        this.directory = directory;
+        this.cacheSnapshots = cacheSnapshots;
+        this.refresh = refresh;
+    }
+
+    /**
+     * Returns the cache configured by system properties
+     *
+     * @return The cache, or {@code null} if the cache is not enabled
+     */
+    public static ResolutionResultCache fromSystemProperties() {
+        final String value = SecurityActions.getProperty(CACHE_DIRECTORY_KEY);
+        if (value == null || value.isEmpty() || "false".equalsIgnoreCase(value)) {
+            return null;
+        }
+
+        final File directory;
+        if ("true".equalsIgnoreCase(value)) {
+            final String userHome = SecurityActions.getProperty("user.home");
+            directory = new File(userHome == null ? ".m2" : userHome + File.separator + ".m2",
+                "shrinkwrap-resolver" + File.separator + "resolution-cache");
+        } else {
+            directory = new File(value);
+        }
+        return new ResolutionResultCache(directory, Boolean.parseBoolean(SecurityActions.getProperty(CACHE_SNAPSHOTS_KEY)),
+            Boolean.parseBoolean(SecurityActions.getProperty(REFRESH_KEY)));
+    }
+
+    /**
+     * Returns the directory the entries are stored in
+     *
+     * @return The cache directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Checks whether results of a request with given dependencies might be cached. Requests with version ranges or
+     * with snapshots, unless allowed, are not.
+     *
+     * @param dependencies The dependencies, either the requested or the managed ones
+     * @return {@code true} if the result might be cached, {@code false} otherwise
+     */
+    boolean isCacheable(final Collection<MavenDependency> dependencies) {
+        for (MavenDependency dependency : dependencies) {
+            final String version = dependency.getVersion();
+            if (version == null) {
+                continue;
+            }
+            if (version.startsWith("[") || version.startsWith("(") || "LATEST".equals(version)
+                || "RELEASE".equals(version)) {
+                return false;
+            }
+            if (!cacheSnapshots && version.endsWith("SNAPSHOT")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the cached result for given key, provided that none of its files has changed since it was stored
+     *
+     * @param key The key of the request
+     * @return The resolved artifacts, or {@code null} if there is no valid entry
+     */
+    Collection<MavenResolvedArtifact> get(final String key) {
+        if (refresh) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        final File entry = new File(directory, key + ENTRY_SUFFIX);
+        if (!entry.isFile()) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry.toPath())))) {
+            final Collection<MavenResolvedArtifact> artifacts = read(input);
+            if (artifacts != null) {
+                hits.incrementAndGet();
+                return artifacts;
+            }
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Resolution result cache entry " + entry + " refers to modified files, removing it");
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.log(Level.FINE, "Unable to read resolution result cache entry " + entry + ", removing it", e);
+        }
+        misses.incrementAndGet();
+        delete(entry);
+        return null;
+    }
+
+    /**
+     * Stores the result of a request under given key. Results involving snapshots, unless allowed, and results whose
+     * dependency graph can not be stored are skipped.
+     *
+     * @param key The key of the request
+     * @param artifacts The resolved artifacts
+     */
+    void put(final String key, final Collection<MavenResolvedArtifact> artifacts) {
+        for (MavenResolvedArtifact artifact : artifacts) {
+            // results with reactor modules are not cached, check that before their archives get packaged
+            if ((!cacheSnapshots && artifact.isSnapshotVersion())
+                || (artifact instanceof MavenResolvedArtifactImpl && ((MavenResolvedArtifactImpl) artifact).isPackaged())
+                || artifact.asFile() == null) {
+                return;
+            }
+        }
+
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory.toPath());
+            temporary = Files.createTempFile(directory.toPath(), key, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                write(output, artifacts);
+            }
+            final Path entry = directory.toPath().resolve(key + ENTRY_SUFFIX);
+            try {
+                Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException | IllegalStateException e) {
+            log.log(Level.FINE, "Unable to store resolution result cache entry " + key, e);
+        } finally {
+            if (temporary != null) {
+                delete(temporary.toFile());
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries of the cache
+     */
+    public void clear() {
+        final File[] entries = directory.listFiles((dir, name) -> name.endsWith(ENTRY_SUFFIX));
+        if (entries != null) {
+            for (File entry : entries) {
+                delete(entry);
+            }
+        }
+    }
+
+    /**
+     * Returns how many requests were served from a resolution result cache in this JVM
+     *
+     * @return The number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many requests were not found in a resolution result cache in this JVM
+     *
+     * @return The number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    private static void write(final DataOutputStream output, final Collection<MavenResolvedArtifact> artifacts)
+            throws IOException {
+        // dependencies are written before their dependents, so they already exist once their dependents are read
+        final Map<MavenArtifactInfo, Integer> indexes = new IdentityHashMap<>();
+        final List<MavenArtifactInfo> infos = new ArrayList<>();
+        for (MavenResolvedArtifact artifact : artifacts) {
+            for (MavenArtifactInfo dependency : artifact.getDependencies()) {
+                index(dependency, indexes, infos);
+            }
+        }
+
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(infos.size());
+        for (MavenArtifactInfo info : infos) {
+            writeInfo(output, info, indexes);
+        }
+        output.writeInt(artifacts.size());
+        for (MavenResolvedArtifact artifact : artifacts) {
+            writeInfo(output, artifact, indexes);
+            final File file = artifact.asFile();
+            output.writeUTF(file.getAbsolutePath());
+            output.writeLong(file.length());
+            output.writeLong(file.lastModified());
+        }
+    }
+
+    private static void index(final MavenArtifactInfo info, final Map<MavenArtifactInfo, Integer> indexes,
+            final List<MavenArtifactInfo> infos) {
+        final Integer index = indexes.get(info);
+        if (index != null) {
+            if (index < 0) {
+                throw new IllegalStateException("Dependency graph contains a cycle at " + info.getCoordinate());
+            }
+            return;
+        }
+        // mark the node as being visited
+        indexes.put(info, -1);
+        for (MavenArtifactInfo dependency : info.getDependencies()) {
+            index(dependency, indexes, infos);
+        }
+        indexes.put(info, infos.size());
+        infos.add(info);
+    }
+
+    private static void writeInfo(final DataOutputStream output, final MavenArtifactInfo info,
+            final Map<MavenArtifactInfo, Integer> indexes) throws IOException {
+        final MavenCoordinate coordinate = info.getCoordinate();
+        output.writeUTF(coordinate.getGroupId());
+        output.writeUTF(coordinate.getArtifactId());
+        output.writeUTF(coordinate.getVersion());
+        output.writeUTF(coordinate.getPackaging().getId());
+        output.writeUTF(coordinate.getClassifier());
+        output.writeUTF(info.getResolvedVersion());
+        output.writeBoolean(info.isSnapshotVersion());
+        output.writeUTF(info.getExtension());
+        output.writeUTF(info.getScope().toString());
+        output.writeBoolean(info.isOptional());
+        final MavenArtifactInfo[] dependencies = info.getDependencies();
+        output.writeInt(dependencies.length);
+        for (MavenArtifactInfo dependency : dependencies) {
+            output.writeInt(indexes.get(dependency));
+        }
+    }
+
+    /**
+     * Reads an entry, returns {@code null} if any of its files has been modified
+     */
+    private static Collection<MavenResolvedArtifact> read(final DataInputStream input) throws IOException {
+        if (input.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported format of resolution result cache entry");
+        }
+
+        final MavenArtifactInfo[] infos = new MavenArtifactInfo[input.readInt()];
+        for (int i = 0; i < infos.length; i++) {
+            final MavenCoordinate coordinate = readCoordinate(input);
+            final String resolvedVersion = input.readUTF();
+            final boolean snapshotVersion = input.readBoolean();
+            final String extension = input.readUTF();
+            final ScopeType scope = ScopeType.fromScopeType(input.readUTF());
+            final boolean optional = input.readBoolean();
+            infos[i] = new MavenArtifactInfoImpl(coordinate, resolvedVersion, snapshotVersion, extension, scope,
+                readDependencies(input, infos), optional);
+        }
+
+        final int size = input.readInt();
+        final List<MavenResolvedArtifact> artifacts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final MavenCoordinate coordinate = readCoordinate(input);
+            final String resolvedVersion = input.readUTF();
+            final boolean snapshotVersion = input.readBoolean();
+            final String extension = input.readUTF();
+            final ScopeType scope = ScopeType.fromScopeType(input.readUTF());
+            final boolean optional = input.readBoolean();
+            final MavenArtifactInfo[] dependencies = readDependencies(input, infos);
+            final File file = new File(input.readUTF());
+            final long length = input.readLong();
+            final long lastModified = input.readLong();
+            if (!file.exists() || file.length() != length || file.lastModified() != lastModified) {
+                return null;
+            }
+            artifacts.add(new MavenResolvedArtifactImpl(coordinate, resolvedVersion, snapshotVersion, extension, file,
+                scope, dependencies, optional));
+        }
+        return artifacts;
+    }
+
+    private static MavenCoordinate readCoordinate(final DataInputStream input) throws IOException {
+        final String groupId = input.readUTF();
+        final String artifactId = input.readUTF();
+        final String version = input.readUTF();
+        final PackagingType packaging = PackagingType.of(input.readUTF());
+        final String classifier = input.readUTF();
+        return MavenCoordinates.createCoordinate(groupId, artifactId, version, packaging, classifier);
+    }
+
+    private static MavenArtifactInfo[] readDependencies(final DataInputStream input, final MavenArtifactInfo[] infos)
+            throws IOException {
+        final MavenArtifactInfo[] dependencies = new MavenArtifactInfo[input.readInt()];
+        for (int i = 0; i < dependencies.length; i++) {
+            final int index = input.readInt();
+            if (index < 0 || index >= infos.length || infos[index] == null) {
+                throw new IOException("Invalid dependency reference in resolution result cache entry");
+            }
+            dependencies[i] = infos[index];
+        }
+        return dependencies;
+    }
+
+    private static void delete(final File file) {
+        if (!file.delete() && file.exists() && log.isLoggable(Level.FINE)) {
+            log.fine("Unable to delete " + file);
+        }
+    }
+
+    /**
+     * Key of a request, computed as a hash of all its inputs
+     */
+    static final class Key {
+
+        /**
+         * System properties owned by the JVM or by the launcher; the JDK and the operating system are added explicitly
+         */
+        private static final List<String> PROCESS_SPECIFIC_PROPERTY_PREFIXES = Arrays.asList("java.", "javax.", "jdk.",
+            "sun.", "os.", "user.", "file.", "line.", "path.", "native.", "stdout.", "stderr.", "awt.", "surefire.",
+            "maven.", "classworlds.", "idea.");
+
+        private static final List<String> PROCESS_SPECIFIC_PROPERTIES = Arrays.asList("basedir", "localRepository",
+            "library.jansi.path", "org.apache.maven.flattened-pom-path");
+
+        private final MessageDigest digest;
+
+        Key() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+            add(FORMAT_VERSION);
+        }
+
+        Key add(final String value) {
+            if (value != null) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+            // separate values so that different sequences of values never hash the same input
+            digest.update((byte) 0);
+            return this;
+        }
+
+        Key add(final boolean value) {
+            return add(String.valueOf(value));
+        }
+
+        Key add(final int value) {
+            return add(String.valueOf(value));
+        }
+
+        Key addDependencies(final Collection<MavenDependency> dependencies) {
+            add(dependencies.size());
+            for (MavenDependency dependency : dependencies) {
+                add(dependency.toCanonicalForm());
+                add(dependency.isOptional());
+                final TreeSet<String> exclusions = new TreeSet<>();
+                for (MavenDependencyExclusion exclusion : dependency.getExclusions()) {
+                    exclusions.add(exclusion.toCanonicalForm());
+                }
+                add(exclusions.toString());
+            }
+            return this;
+        }
+
+        Key addRepositories(final Collection<RemoteRepository> repositories) {
+            add(repositories.size());
+            for (RemoteRepository repository : repositories) {
+                add(repository.toString());
+                add(repository.getPolicy(false).toString());
+                add(repository.getPolicy(true).toString());
+            }
+            return this;
+        }
+
+        /**
+         * Adds system properties which might activate profiles of dependency POMs. Properties owned by the JVM or
+         * by the launcher, such as {@code user.timezone} set lazily by the JVM or {@code surefire.real.class.path}
+         * differing in every fork, are left out together with the ones configuring this cache, otherwise identical
+         * requests would never share an entry.
+         */
+        Key addSystemProperties(final Properties properties) {
+            final Map<String, String> sorted = new TreeMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (!isProcessSpecific(name)) {
+                    sorted.put(name, properties.getProperty(name));
+                }
+            }
+            add(sorted.size());
+            for (Map.Entry<String, String> property : sorted.entrySet()) {
+                add(property.getKey());
+                add(property.getValue());
+            }
+            return this;
+        }
+
+        private static boolean isProcessSpecific(final String name) {
+            if (PROCESS_SPECIFIC_PROPERTIES.contains(name) || name.startsWith(CACHE_DIRECTORY_KEY)) {
+                return true;
+            }
+            for (String prefix : PROCESS_SPECIFIC_PROPERTY_PREFIXES) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Key add(final Settings settings) {
+            final StringWriter writer = new StringWriter();
+            try {
+                new SettingsXpp3Writer().write(writer, settings);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to serialize settings", e);
+            }
+            return add(writer.toString());
+        }
+
+        String hash() {
+            final StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        }
+    }
+}
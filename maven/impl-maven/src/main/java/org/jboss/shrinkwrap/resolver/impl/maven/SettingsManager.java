@@ -39,6 +39,25 @@ public class SettingsManager {
     // make sure that programmatic call to offline method is always preserved
     private Boolean programmaticOffline;
 
+    /**
+     * Creates a manager without any {@link Settings}, these are built from the default settings files when needed.
+     */
+    public SettingsManager() {
+    }
+
+    /**
+     * Creates a manager sharing the {@link Settings} instance and the offline mode of {@code original}. The
+     * {@link Settings} instance of {@code original} is built first if it hasn't been yet. As a {@link Settings} instance
+     * is never modified once built, but replaced by a modified copy, changing the offline mode of either manager does
+     * not affect the other one.
+     *
+     * @param original The manager to copy
+     */
+    SettingsManager(SettingsManager original) {
+        this.settings = original.getSettings();
+        this.programmaticOffline = original.programmaticOffline;
+    }
+
     /**
      * Crates an instance of {@link Settings} and configures it from the given file.
      *
@@ -106,8 +125,12 @@ public class SettingsManager {
 
     // utility methods
     private void propagateProgrammaticOfflineIntoSettings() {
-        if (this.programmaticOffline != null && this.settings != null) {
-            this.settings.setOffline(this.programmaticOffline);
+        if (this.programmaticOffline != null && this.settings != null
+            && this.settings.isOffline() != this.programmaticOffline) {
+            // the instance might be shared with other managers
+            final Settings settings = this.settings.clone();
+            settings.setOffline(this.programmaticOffline);
+            this.settings = settings;
         }
     }
 }
@@ -18,33 +18,25 @@
 package org.jboss.shrinkwrap.resolver.impl.maven.aether;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import javax.xml.xpath.XPathFactoryConfigurationException;
+import java.util.stream.Collectors;
 
 import org.eclipse.aether.artifact.Artifact;
-import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.WorkspaceReader;
 import org.eclipse.aether.repository.WorkspaceRepository;
 import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 /**
  * {@link WorkspaceReader} implementation capable of reading from the ClassPath
@@ -110,26 +102,12 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
 
     private final Set<String> classPathEntries = new LinkedHashSet<>();
 
-    /**
-     * Cache classpath File objects and retrieved isFile isDirectory values. Key is a classpath entry
-     *
-     * @see #getClasspathFileInfo(String)
-     */
-    private final Map<String, FileInfo> classpathFileInfoCache = new HashMap<>();
-
-    /**
-     * Cache pom File objects and retrieved isFile isDirectory values. Key - child File
-     *
-     * @see #getPomFileInfo(java.io.File)
-     */
-    private final Map<File, FileInfo> pomFileInfoCache = new HashMap<>();
-
     /**
      * Cache Found in classpath artifacts. Key is a pom file.
      *
      * @see #getFoundArtifact(java.io.File)
      */
-    private final Map<File, Artifact> foundArtifactCache = new HashMap<>();
+    private final Map<File, Artifact> foundArtifactCache = new ConcurrentHashMap<>();
 
     /**
      * The relative path of the "flattened" pom.xml to prefer over the regular pom.xml, if present.
@@ -140,28 +118,11 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
     private final String flattenedPomPath;
 
     /**
-     * Reuse DocumentBuilder.
+     * Index of the class path, built on first use
      *
-     * @see #getDocumentBuilder()
+     * @see #getIndex()
      */
-    private DocumentBuilder documentBuilder;
-
-    /**
-     * Reuse XPath
-     *
-     * @see #getXPath()
-     */
-    private XPath xPath;
-
-    /*
-     * Compiled lazy-loaded xpath expressions. See getter methods.
-     */
-    private XPathExpression xPathParentGroupIdExpression;
-    private XPathExpression xPathGroupIdExpression;
-    private XPathExpression xPathArtifactIdExpression;
-    private XPathExpression xPathTypeExpression;
-    private XPathExpression xPathVersionExpression;
-    private XPathExpression xPathParentVersionExpression;
+    private volatile ClassPathIndex index;
 
     public ClasspathWorkspaceReader() {
         final String classPath = SecurityActions.getProperty(CLASS_PATH_KEY);
@@ -179,65 +140,80 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         return new WorkspaceRepository("classpath");
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Class path entries are searched in their order, the first matching one wins. A directory entry matches if its
+     * pom.xml has the same groupId, artifactId and version, a file entry matches if it is named after artifactId,
+     * version and classifier.
+     *
+     * @see org.eclipse.aether.repository.WorkspaceReader#findArtifact(org.eclipse.aether.artifact.Artifact)
+     */
     @Override
     public File findArtifact(final Artifact artifact) {
-        for (String classpathEntry : classPathEntries) {
-            final FileInfo fileInfo = getClasspathFileInfo(classpathEntry);
-            final File file = fileInfo.getFile();
+        final ClassPathIndex index = getIndex();
 
-            if (fileInfo.isDirectory()) {
-                // TODO: This is not reliable, file might have different name
-                // FIXME: Surefire might user jar in the classpath instead of the target/classes
-                final FileInfo pomFileInfo = getPomFileInfo(file);
-                if (pomFileInfo != null && pomFileInfo.isFile()) {
-                    final File pomFile = pomFileInfo.getFile();
-                    final Artifact foundArtifact = getFoundArtifact(pomFile);
-                    if (areEquivalent(artifact, foundArtifact)) {
-                        return pomFile;
-                    }
-                }
-            }
-            // this is needed for Surefire when executed as 'mvn package'
-            else if (fileInfo.isFile()) {
+        final IndexedPom directoryMatch = index.directoriesByGav.get(toGav(artifact));
+        final int directoryPosition = directoryMatch != null ? directoryMatch.position : Integer.MAX_VALUE;
 
-                final StringBuilder name = new StringBuilder(artifact.getArtifactId()).append("-").append(
-                        artifact.getVersion());
+        File found = null;
+        int foundPosition = directoryPosition;
 
-                // SHRINKRES-102, consider classifier as well
-                if (!Validate.isNullOrEmpty(artifact.getClassifier())) {
-                    name.append("-").append(artifact.getClassifier());
-                }
+        final StringBuilder name = new StringBuilder(artifact.getArtifactId()).append("-").append(
+                artifact.getVersion());
 
-                String candidateName = file.getName();
-                int suffixPosition = candidateName.lastIndexOf('.');
-                if (suffixPosition != -1) {
-                    candidateName = candidateName.substring(0, suffixPosition);
+        // SHRINKRES-102, consider classifier as well
+        if (!Validate.isNullOrEmpty(artifact.getClassifier())) {
+            name.append("-").append(artifact.getClassifier());
+        }
+
+        // this is needed for Surefire when executed as 'mvn package'
+        final List<IndexedFile> files = index.filesByName.get(name.toString());
+        if (files != null) {
+            for (IndexedFile candidate : files) {
+                if (candidate.position > directoryPosition || candidate.position > index.failurePosition) {
+                    break;
+                }
+                final File file = matchFile(artifact, name, candidate.file);
+                if (file != null) {
+                    found = file;
+                    foundPosition = candidate.position;
+                    break;
                 }
+            }
+        }
+
+        if (found == null && directoryMatch != null) {
+            found = directoryMatch.pomFile;
+        }
+
+        // a pom.xml which could not be parsed would have failed the search as soon as it was reached
+        if (index.failurePosition < foundPosition) {
+            throw index.failure;
+        }
+        return found;
+    }
 
-                // TODO: This is nasty
-                // we need to get a a pom.xml file to be sure we fetch transitive deps as well
-                if (candidateName.contentEquals(name)) {
-                    if ("pom".equals(artifact.getExtension())) {
-                        // try to get pom file for the project
-                        final FileInfo pomFileInfo = getPomFileInfo(file);
-                        if (pomFileInfo != null && pomFileInfo.isFile()) {
-                            final File pomFile = pomFileInfo.getFile();
-                            final Artifact foundArtifact = getFoundArtifact(pomFile);
-                            if (areEquivalent(artifact, foundArtifact)) {
-                                return pomFile;
-                            }
-                        }
-                    }
-
-                    // we are looking for a non pom artifact, let's get it
-                    name.append(".").append(artifact.getExtension());
-                    if (file.getName().endsWith(name.toString())) {
-                        // return raw file
-                        return file;
-                    }
+    private File matchFile(final Artifact artifact, final StringBuilder name, final File file) {
+        // TODO: This is nasty
+        // we need to get a a pom.xml file to be sure we fetch transitive deps as well
+        if ("pom".equals(artifact.getExtension())) {
+            // try to get pom file for the project
+            final FileInfo pomFileInfo = createPomFileInfo(file);
+            if (pomFileInfo != null && pomFileInfo.isFile()) {
+                final File pomFile = pomFileInfo.getFile();
+                final Artifact foundArtifact = getFoundArtifact(pomFile);
+                if (areEquivalent(artifact, foundArtifact)) {
+                    return pomFile;
                 }
             }
         }
+
+        // we are looking for a non pom artifact, let's get it
+        if (file.getName().endsWith(name + "." + artifact.getExtension())) {
+            // return raw file
+            return file;
+        }
         return null;
     }
 
@@ -258,9 +234,17 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         return areEquivalent;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns versions of the artifact available as directory entries backed by a pom.xml on the class path.
+     *
+     * @see org.eclipse.aether.repository.WorkspaceReader#findVersions(org.eclipse.aether.artifact.Artifact)
+     */
     @Override
     public List<String> findVersions(final Artifact artifact) {
-        return Collections.emptyList();
+        final List<String> versions = getIndex().versionsByGa.get(artifact.getGroupId() + ":" + artifact.getArtifactId());
+        return versions != null ? versions : Collections.<String>emptyList();
     }
 
     private Set<String> getClassPathEntries(final String classPath) {
@@ -270,24 +254,98 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         return new LinkedHashSet<>(Arrays.asList(classPath.split(String.valueOf(File.pathSeparatorChar))));
     }
 
-    private FileInfo getClasspathFileInfo(final String classpathEntry) {
-        FileInfo classpathFileInfo = classpathFileInfoCache.get(classpathEntry);
-        if (classpathFileInfo == null) {
-            classpathFileInfo = new FileInfo(classpathEntry);
-            classpathFileInfoCache.put(classpathEntry, classpathFileInfo);
+    private ClassPathIndex getIndex() {
+        ClassPathIndex index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    index = buildIndex();
+                    this.index = index;
+                }
+            }
         }
-        return classpathFileInfo;
+        return index;
     }
 
-    private FileInfo getPomFileInfo(final File childFile) {
-        FileInfo pomFileInfo = pomFileInfoCache.get(childFile);
-        if (pomFileInfo == null) {
-            pomFileInfo = createPomFileInfo(childFile);
-            if (pomFileInfo != null) {
-                pomFileInfoCache.put(childFile, pomFileInfo);
+    /**
+     * Scans all the class path entries in a single pass. The pom.xml files of directory entries are parsed in parallel.
+     *
+     * @return The index of the class path
+     */
+    private ClassPathIndex buildIndex() {
+        final ClassPathIndex index = new ClassPathIndex();
+        final Map<File, List<Integer>> directoryPoms = new LinkedHashMap<>();
+
+        int position = 0;
+        for (String classpathEntry : classPathEntries) {
+            final FileInfo fileInfo = new FileInfo(classpathEntry);
+            final File file = fileInfo.getFile();
+
+            if (fileInfo.isDirectory()) {
+                // TODO: This is not reliable, file might have different name
+                // FIXME: Surefire might user jar in the classpath instead of the target/classes
+                final FileInfo pomFileInfo = createPomFileInfo(file);
+                if (pomFileInfo != null && pomFileInfo.isFile()) {
+                    directoryPoms.computeIfAbsent(pomFileInfo.getFile(), k -> new ArrayList<>()).add(position);
+                }
+            } else if (fileInfo.isFile()) {
+                String candidateName = file.getName();
+                int suffixPosition = candidateName.lastIndexOf('.');
+                if (suffixPosition != -1) {
+                    candidateName = candidateName.substring(0, suffixPosition);
+                }
+                index.filesByName.computeIfAbsent(candidateName, k -> new ArrayList<>()).add(new IndexedFile(position, file));
             }
+            position++;
         }
-        return pomFileInfo;
+
+        final Map<File, Object> parsed = directoryPoms.keySet().parallelStream()
+            .collect(Collectors.toMap(Function.identity(), pomFile -> {
+                try {
+                    return createFoundArtifact(pomFile);
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            }));
+
+        for (Map.Entry<File, List<Integer>> entry : directoryPoms.entrySet()) {
+            final File pomFile = entry.getKey();
+            final int firstPosition = entry.getValue().get(0);
+            final Object result = parsed.get(pomFile);
+            if (result instanceof RuntimeException) {
+                if (firstPosition < index.failurePosition) {
+                    index.failurePosition = firstPosition;
+                    index.failure = (RuntimeException) result;
+                }
+                continue;
+            }
+
+            final Artifact foundArtifact = (Artifact) result;
+            foundArtifactCache.put(pomFile, foundArtifact);
+            final IndexedPom existing = index.directoriesByGav.get(toGav(foundArtifact));
+            if (existing == null || existing.position > firstPosition) {
+                index.directoriesByGav.put(toGav(foundArtifact), new IndexedPom(firstPosition, pomFile));
+            }
+        }
+
+        for (String gav : index.directoriesByGav.keySet()) {
+            final int versionPosition = gav.lastIndexOf(':');
+            final List<String> versions = index.versionsByGa.computeIfAbsent(gav.substring(0, versionPosition),
+                k -> new ArrayList<>());
+            versions.add(gav.substring(versionPosition + 1));
+        }
+        index.versionsByGa.replaceAll((ga, versions) -> Collections.unmodifiableList(versions));
+
+        if (log.isLoggable(Level.FINE)) {
+            log.log(Level.FINE, "Indexed {0} class path entries, {1} of them backed by a pom.xml",
+                new Object[] { classPathEntries.size(), index.directoriesByGav.size() });
+        }
+        return index;
+    }
+
+    private static String toGav(final Artifact artifact) {
+        return artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getVersion();
     }
 
     private FileInfo createPomFileInfo(final File childFile) {
@@ -323,24 +381,7 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
 
             // TODO: load pom using Maven Model?
             // This might include a cycle in graph reconstruction, to be investigated
-            final Document pom = loadPom(choosePomToLoad(pomFile));
-
-            String groupId = getXPathGroupIdExpression().evaluate(pom);
-            String artifactId = getXPathArtifactIdExpression().evaluate(pom);
-            String type = getXPathTypeExpression().evaluate(pom);
-            String version = getXPathVersionExpression().evaluate(pom);
-
-            if (Validate.isNullOrEmpty(groupId)) {
-                groupId = getXPathParentGroupIdExpression().evaluate(pom);
-            }
-            if (Validate.isNullOrEmpty(type)) {
-                type = "jar";
-            }
-            if (version == null || version.isEmpty()) {
-                version = getXPathParentVersionExpression().evaluate(pom);
-            }
-
-            final Artifact foundArtifact = new DefaultArtifact(groupId + ":" + artifactId + ":" + type + ":" + version);
+            final Artifact foundArtifact = PomCoordinatesExtractor.extract(choosePomToLoad(pomFile));
             foundArtifact.setFile(pomFile);
             return foundArtifact;
         } catch (final Exception e) {
@@ -361,78 +402,31 @@ public class ClasspathWorkspaceReader implements WorkspaceReader {
         return regularPomFile;
     }
 
-    private Document loadPom(final File pom) throws IOException, SAXException, ParserConfigurationException {
-        final DocumentBuilder documentBuilder = getDocumentBuilder();
-        return documentBuilder.parse(pom);
-    }
-
-    private DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
-        if (documentBuilder == null) {
-            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            documentBuilder = factory.newDocumentBuilder();
-        }
-        return documentBuilder;
+    private static final class ClassPathIndex {
+        private final Map<String, IndexedPom> directoriesByGav = new HashMap<>();
+        private final Map<String, List<IndexedFile>> filesByName = new HashMap<>();
+        private final Map<String, List<String>> versionsByGa = new HashMap<>();
+        private int failurePosition = Integer.MAX_VALUE;
+        private RuntimeException failure;
     }
 
-    /*
-     * XPath expressions reuse
-     */
+    private static final class IndexedPom {
+        private final int position;
+        private final File pomFile;
 
-    private XPath getXPath() {
-        if (xPath == null) {
-            XPathFactory factory;
-            try {
-                factory = XPathFactory.newInstance(XPathFactory.DEFAULT_OBJECT_MODEL_URI,
-                                                   "com.sun.org.apache.xpath.internal.jaxp.XPathFactoryImpl",
-                                                   ClassLoader.getSystemClassLoader());
-            } catch (XPathFactoryConfigurationException e) {
-                factory = XPathFactory.newInstance();
-            }
-            xPath = factory.newXPath();
+        private IndexedPom(final int position, final File pomFile) {
+            this.position = position;
+            this.pomFile = pomFile;
         }
-        return xPath;
     }
 
-    private XPathExpression getXPathParentGroupIdExpression() throws XPathExpressionException {
-        if (xPathParentGroupIdExpression == null) {
-            xPathParentGroupIdExpression = getXPath().compile("/project/parent/groupId");
-        }
-        return xPathParentGroupIdExpression;
-    }
-
-    private XPathExpression getXPathGroupIdExpression() throws XPathExpressionException {
-        if (xPathGroupIdExpression == null) {
-            xPathGroupIdExpression = getXPath().compile("/project/groupId");
-        }
-        return xPathGroupIdExpression;
-    }
-
-    private XPathExpression getXPathArtifactIdExpression() throws XPathExpressionException {
-        if (xPathArtifactIdExpression == null) {
-            xPathArtifactIdExpression = getXPath().compile("/project/artifactId");
-        }
-        return xPathArtifactIdExpression;
-    }
-
-    private XPathExpression getXPathTypeExpression() throws XPathExpressionException {
-        if (xPathTypeExpression == null) {
-            xPathTypeExpression = getXPath().compile("/project/packaging");
-        }
-        return xPathTypeExpression;
-    }
-
-    private XPathExpression getXPathVersionExpression() throws XPathExpressionException {
-        if (xPathVersionExpression == null) {
-            xPathVersionExpression = getXPath().compile("/project/version");
-        }
-        return xPathVersionExpression;
-    }
+    private static final class IndexedFile {
+        private final int position;
+        private final File file;
 
-    private XPathExpression getXPathParentVersionExpression() throws XPathExpressionException {
-        if (xPathParentVersionExpression == null) {
-            xPathParentVersionExpression = getXPath().compile("/project/parent/version");
+        private IndexedFile(final int position, final File file) {
+            this.position = position;
+            this.file = file;
         }
-        return xPathParentVersionExpression;
     }
-
 }
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
+
+/**
+ * A {@link DependencySelector} which selects dependencies up to a given depth of the dependency graph. Direct
+ * dependencies of the root have depth 1. Dependencies deeper than the limit are never selected, so neither their
+ * descriptors nor their artifacts are fetched during the collection.
+ */
+public final class DepthLimitedDependencySelector implements DependencySelector {
+
+    private final int depth;
+
+    private final int maxDepth;
+
+    /**
+     * Creates a selector selecting dependencies up to {@code maxDepth}
+     *
+     * @param maxDepth The maximal depth of selected dependencies, direct dependencies have depth 1
+     * @throws IllegalArgumentException If {@code maxDepth} is lower than 1
+     */
+    public DepthLimitedDependencySelector(final int maxDepth) throws IllegalArgumentException {
+        this(1, maxDepth);
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Maximal depth must be at least 1, was " + maxDepth);
+        }
+    }
+
+    private DepthLimitedDependencySelector(final int depth, final int maxDepth) {
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public boolean selectDependency(final Dependency dependency) {
+        return depth <= maxDepth;
+    }
+
+    @Override
+    public DependencySelector deriveChildSelector(final DependencyCollectionContext context) {
+        // the root of a collect request without a root dependency does not count as a level
+        if (context.getDependency() == null || depth > maxDepth) {
+            return this;
+        }
+        return new DepthLimitedDependencySelector(depth + 1, maxDepth);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final DepthLimitedDependencySelector other = (DepthLimitedDependencySelector) obj;
+        return depth == other.depth && maxDepth == other.maxDepth;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * depth + maxDepth;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(depth: " + depth + ", maxDepth: " + maxDepth + ")";
+    }
+}
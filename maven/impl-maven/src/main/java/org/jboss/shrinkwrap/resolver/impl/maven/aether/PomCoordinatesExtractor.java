@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.Validate;
+
+/**
+ * Extracts coordinates of a project from its pom.xml file.
+ * <p>
+ * The file is read as a stream and reading stops as soon as groupId, artifactId, packaging and version of the project
+ * are known, otherwise all the top-level elements of the project are read, skipping their content. Missing groupId and
+ * version are inherited from the parent, missing packaging defaults to {@code jar}. No interpolation nor any other
+ * processing of the model is done. This class is thread-safe.
+ */
+public final class PomCoordinatesExtractor {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+    /**
+     * No instantiation
+     */
+    private PomCoordinatesExtractor() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Extracts coordinates of a project defined by given pom.xml file
+     *
+     * @param pomFile The pom.xml file
+     * @return The project artifact, in form of {@code groupId:artifactId:packaging:version}
+     * @throws IOException If the file could not be read
+     * @throws XMLStreamException If the file is not a well formed XML
+     * @throws IllegalArgumentException If the file does not define valid coordinates
+     */
+    public static Artifact extract(final File pomFile) throws IOException, XMLStreamException,
+            IllegalArgumentException {
+        try (InputStream input = new BufferedInputStream(new FileInputStream(pomFile))) {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                return extract(reader);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static Artifact extract(final XMLStreamReader reader) throws XMLStreamException {
+        String groupId = null;
+        String artifactId = null;
+        String type = null;
+        String version = null;
+        String parentGroupId = null;
+        String parentVersion = null;
+
+        // move to the root element, anything else than project does not define any coordinates
+        while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+            // skip prolog
+        }
+        if (reader.isStartElement() && "project".equals(reader.getLocalName())) {
+            while (groupId == null || artifactId == null || type == null || version == null) {
+                final int event = reader.nextTag();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    // end of project
+                    break;
+                }
+                final String name = reader.getLocalName();
+                if ("groupId".equals(name)) {
+                    groupId = reader.getElementText().trim();
+                } else if ("artifactId".equals(name)) {
+                    artifactId = reader.getElementText().trim();
+                } else if ("packaging".equals(name)) {
+                    type = reader.getElementText().trim();
+                } else if ("version".equals(name)) {
+                    version = reader.getElementText().trim();
+                } else if ("parent".equals(name)) {
+                    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                        final String parentName = reader.getLocalName();
+                        if ("groupId".equals(parentName)) {
+                            parentGroupId = reader.getElementText().trim();
+                        } else if ("version".equals(parentName)) {
+                            parentVersion = reader.getElementText().trim();
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+                } else {
+                    skipElement(reader);
+                }
+            }
+        }
+
+        if (Validate.isNullOrEmpty(groupId)) {
+            groupId = parentGroupId;
+        }
+        if (Validate.isNullOrEmpty(type)) {
+            type = "jar";
+        }
+        if (Validate.isNullOrEmpty(version)) {
+            version = parentVersion;
+        }
+        if (Validate.isNullOrEmpty(groupId) || Validate.isNullOrEmpty(artifactId) || Validate.isNullOrEmpty(version)) {
+            throw new IllegalArgumentException("Unable to determine coordinates of the project, got " + groupId + ":"
+                + artifactId + ":" + type + ":" + version);
+        }
+
+        return new DefaultArtifact(groupId + ":" + artifactId + ":" + type + ":" + version);
+    }
+
+    /**
+     * Skips current element including all its children, leaving reader at its end element
+     */
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+}
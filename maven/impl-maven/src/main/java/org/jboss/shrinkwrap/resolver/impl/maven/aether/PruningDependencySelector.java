@@ -0,0 +1,191 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.PruningMavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
+
+/**
+ * A {@link DependencySelector} which leaves out dependencies pruned by any of given
+ * {@link PruningMavenResolutionFilter}s, so that their subtrees are not collected at all.
+ */
+public final class PruningDependencySelector implements DependencySelector {
+
+    private final PruningMavenResolutionFilter[] filters;
+
+    private final boolean requiresAncestors;
+
+    /**
+     * Path from the closest ancestor to the farthest one, {@code null} for dependencies requested for resolution
+     */
+    private final Ancestor ancestors;
+
+    private PruningDependencySelector(final PruningMavenResolutionFilter[] filters, final boolean requiresAncestors,
+            final Ancestor ancestors) {
+        this.filters = filters;
+        this.requiresAncestors = requiresAncestors;
+        this.ancestors = ancestors;
+    }
+
+    /**
+     * Creates a selector for the {@link PruningMavenResolutionFilter}s among given filters
+     *
+     * @param filters Filters of a resolution strategy
+     * @return The selector, or {@code null} if there is no {@link PruningMavenResolutionFilter} among {@code filters}
+     */
+    public static PruningDependencySelector fromFilters(final MavenResolutionFilter[] filters) {
+        if (filters == null) {
+            return null;
+        }
+        final PruningMavenResolutionFilter[] pruningFilters = Arrays.stream(filters)
+            .filter(PruningMavenResolutionFilter.class::isInstance)
+            .toArray(PruningMavenResolutionFilter[]::new);
+        if (pruningFilters.length == 0) {
+            return null;
+        }
+        boolean requiresAncestors = false;
+        for (final PruningMavenResolutionFilter filter : pruningFilters) {
+            requiresAncestors |= filter.requiresAncestors();
+        }
+        return new PruningDependencySelector(pruningFilters, requiresAncestors, null);
+    }
+
+    @Override
+    public boolean selectDependency(final Dependency dependency) {
+        final MavenDependency candidate = MavenConverter.fromDependency(dependency);
+        final List<MavenDependency> ancestorsList = ancestors == null ? Collections.<MavenDependency>emptyList()
+            : new AncestorsView(ancestors);
+        for (final PruningMavenResolutionFilter filter : filters) {
+            if (filter.prunes(candidate, ancestorsList)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DependencySelector deriveChildSelector(final DependencyCollectionContext context) {
+        final Dependency dependency = context.getDependency();
+        // the root of a collect request without a root dependency is not an ancestor
+        if (dependency == null) {
+            return this;
+        }
+        return new PruningDependencySelector(filters, requiresAncestors, new Ancestor(dependency, ancestors));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PruningDependencySelector other = (PruningDependencySelector) obj;
+        return Arrays.equals(filters, other.filters) && Objects.equals(pathKey(), other.pathKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(filters) + Objects.hashCode(pathKey());
+    }
+
+    /**
+     * Unless filters consult ancestors, they only need to know whether there are any, so selectors of all transitive
+     * dependencies are interchangeable
+     */
+    private Object pathKey() {
+        return requiresAncestors ? ancestors : Boolean.valueOf(ancestors != null);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + Arrays.toString(filters);
+    }
+
+    /**
+     * An immutable linked path of ancestors
+     */
+    private static final class Ancestor {
+        private final Dependency dependency;
+        private final Ancestor parent;
+        private final int size;
+        private final int hashCode;
+
+        private Ancestor(final Dependency dependency, final Ancestor parent) {
+            this.dependency = dependency;
+            this.parent = parent;
+            this.size = parent == null ? 1 : parent.size + 1;
+            this.hashCode = 31 * dependency.hashCode() + Objects.hashCode(parent);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Ancestor)) {
+                return false;
+            }
+            final Ancestor other = (Ancestor) obj;
+            return size == other.size && hashCode == other.hashCode && dependency.equals(other.dependency)
+                && Objects.equals(parent, other.parent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A list of ancestors converting them on access
+     */
+    private static final class AncestorsView extends AbstractList<MavenDependency> implements RandomAccess {
+        private final Ancestor[] path;
+
+        private AncestorsView(final Ancestor closest) {
+            this.path = new Ancestor[closest.size];
+            Ancestor ancestor = closest;
+            for (int i = 0; ancestor != null; i++, ancestor = ancestor.parent) {
+                path[i] = ancestor;
+            }
+        }
+
+        @Override
+        public MavenDependency get(final int index) {
+            return MavenConverter.fromDependency(path[index].dependency);
+        }
+
+        @Override
+        public int size() {
+            return path.length;
+        }
+    }
+}
@@ -46,6 +46,8 @@ import org.eclipse.aether.util.graph.transformer.JavaScopeSelector;
 import org.eclipse.aether.util.graph.transformer.NearestVersionSelector;
 import org.eclipse.aether.util.graph.transformer.SimpleOptionalitySelector;
 import org.eclipse.aether.util.graph.traverser.FatArtifactTraverser;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
 import org.eclipse.aether.util.repository.DefaultMirrorSelector;
 import org.eclipse.aether.util.repository.DefaultProxySelector;
 import org.eclipse.aether.util.repository.SimpleArtifactDescriptorPolicy;
@@ -111,21 +113,31 @@ class MavenManagerBuilder {
     }
 
     /**
-     * Gets the transfer listener
+     * Gets the transfer listener, which also skips repositories failing to respond if
+     * {@link NegativeResolutionCache} is enabled
      *
      * @return the listener
      */
     public TransferListener transferListener() {
-        return new LogTransferListener();
+        if (!NegativeResolutionCache.isEnabled()) {
+            return new LogTransferListener();
+        }
+        return ChainedTransferListener.newInstance(new LogTransferListener(),
+            NegativeResolutionCache.getInstance().transferListener());
     }
 
     /**
-     * Get the repository listener
+     * Get the repository listener, which also remembers artifacts not found in a repository if
+     * {@link NegativeResolutionCache} is enabled
      *
      * @return the listener
      */
     public RepositoryListener repositoryListener() {
-        return new LogRepositoryListener();
+        if (!NegativeResolutionCache.isEnabled()) {
+            return new LogRepositoryListener();
+        }
+        return ChainedRepositoryListener.newInstance(new LogRepositoryListener(),
+            NegativeResolutionCache.getInstance().repositoryListener());
     }
 
     /**
@@ -18,21 +18,29 @@ package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
-import eu.maveniverse.maven.mima.context.Runtimes;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.maven.settings.Settings;
 import org.eclipse.aether.DefaultRepositorySystemSession;
-import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.DefaultDependencyNode;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
@@ -42,10 +50,15 @@ import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+import org.eclipse.aether.util.graph.visitor.FilteringDependencyVisitor;
+import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
 import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
 import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
 import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.FlightRecorderEvents;
+import org.jboss.shrinkwrap.resolver.impl.maven.logging.ResolutionMetricsRecorder;
 
 /**
  * Abstraction of the repository system for purposes of dependency resolution used by Maven
@@ -55,14 +68,28 @@ import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
  */
 public class MavenRepositorySystem {
 
+    private static final ContextOverrides.ChecksumPolicy CHECKSUM_POLICY = ContextOverrides.ChecksumPolicy.WARN;
+
     private final Context context;
 
     /**
-     * Creates a Maven repository system
+     * Creates a Maven repository system.
+     * <p>
+     * Unless disabled via {@code org.jboss.shrinkwrap.resolver.maven.shared-repository-system} system property, the
+     * underlying Maven Resolver repository system is taken from a JVM-wide pool rather than booted from scratch.
      */
     public MavenRepositorySystem() {
-        this.context = getContext();
+        this.context = SharedRepositorySystems.isEnabled() ? SharedRepositorySystems.get(CHECKSUM_POLICY)
+            : SharedRepositorySystems.create(CHECKSUM_POLICY);
+    }
 
+    /**
+     * Returns the context backing this repository system
+     *
+     * @return The context
+     */
+    Context getContext() {
+        return context;
     }
 
     /**
@@ -76,6 +103,7 @@ public class MavenRepositorySystem {
      * @return A working session spawned from the repository system.
      */
     public DefaultRepositorySystemSession getSession(final Settings settings, boolean legacyLocalRepository) {
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.SESSION_BOOTSTRAP);
         DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
 
         MavenManagerBuilder builder = new MavenManagerBuilder(context.repositorySystem(), settings);
@@ -100,6 +128,7 @@ public class MavenRepositorySystem {
         session.setSystemProperties(SecurityActions.getProperties());
         session.setConfigProperties(SecurityActions.getProperties());
 
+        FlightRecorderEvents.endSessionBootstrap(event, settings.getLocalRepository(), settings.isOffline());
         return session;
     }
 
@@ -118,13 +147,198 @@ public class MavenRepositorySystem {
     public Collection<ArtifactResult> resolveDependencies(final RepositorySystemSession repoSession,
             final MavenWorkingSession swrSession, final CollectRequest request, final MavenResolutionFilter[] filters)
             throws DependencyResolutionException {
-        final DependencyRequest depRequest = new DependencyRequest(request, new MavenResolutionFilterWrap(filters,
-                Collections.unmodifiableList(new ArrayList<>(swrSession.getDependenciesForResolution()))));
+        final List<MavenDependency> dependenciesForResolution = Collections.unmodifiableList(new ArrayList<>(
+            swrSession.getDependenciesForResolution()));
+
+        // the graph is collected first, so that repositories known not to provide an artifact are not asked for it
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(repoSession);
+        final long collectStart = System.nanoTime();
+        final Object collectEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.COLLECT);
+        DependencyNode root = null;
+        try {
+            root = context.repositorySystem().collectDependencies(repoSession, request).getRoot();
+        } catch (DependencyCollectionException e) {
+            throw new DependencyResolutionException(new DependencyResult(new DependencyRequest(request,
+                new MavenResolutionFilterWrap(filters, dependenciesForResolution))), e);
+        } finally {
+            if (metrics != null) {
+                metrics.collected(System.nanoTime() - collectStart);
+            }
+            FlightRecorderEvents.endCollect(collectEvent, request.getDependencies(), request.getRepositories(), root);
+        }
+
+        // filter the graph before any artifact is resolved, so that filtering is timed on its own
+        final MavenResolutionFilterWrap filter = new MavenResolutionFilterWrap(filters, dependenciesForResolution);
+        final List<DependencyNode> nodes = new ArrayList<>();
+        root.accept(new TreeDependencyVisitor(new FilteringDependencyVisitor(new NodeListGenerator(nodes), filter)));
+        filter.endEvent();
+        final List<ArtifactRequest> requests = new ArrayList<>(nodes.size());
+        for (DependencyNode node : nodes) {
+            skipKnownMissing(repoSession, node);
+            requests.add(new ArtifactRequest(node));
+        }
 
-        DependencyResult result = context.repositorySystem().resolveDependencies(repoSession, depRequest);
+        final long resolveStart = System.nanoTime();
+        final Object resolveEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.RESOLVE);
+        final DependencyResult result = new DependencyResult(new DependencyRequest(root, filter));
+        try {
+            result.setArtifactResults(context.repositorySystem().resolveArtifacts(repoSession, requests));
+        } catch (ArtifactResolutionException e) {
+            result.setArtifactResults(e.getResults());
+            throw new DependencyResolutionException(result, e);
+        } finally {
+            if (metrics != null) {
+                metrics.resolved(System.nanoTime() - resolveStart);
+            }
+            FlightRecorderEvents.endResolve(resolveEvent, result.getArtifactResults().size());
+        }
+        // same as the repository system does when resolving dependencies, update the nodes with resolved artifacts
+        for (ArtifactResult artifactResult : result.getArtifactResults()) {
+            artifactResult.getRequest().getDependencyNode().setArtifact(artifactResult.getArtifact());
+        }
         return result.getArtifactResults();
     }
 
+    /**
+     * Collects the dependency graph without resolving any artifact, only the artifact descriptors needed to build the
+     * graph are fetched.
+     *
+     * @param repoSession The current Maven session
+     * @param request The request to be computed
+     * @param dependenciesForResolution Dependencies requested for resolution
+     * @param filters The filters of dependency results
+     * @return Nodes of the graph accepted by the filters, in the order they would be resolved in
+     * @throws DependencyCollectionException If the dependency graph could not be collected
+     */
+    public List<DependencyNode> collectDependencies(final RepositorySystemSession repoSession,
+            final CollectRequest request, final List<MavenDependency> dependenciesForResolution,
+            final MavenResolutionFilter[] filters) throws DependencyCollectionException {
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(repoSession);
+        final long collectStart = System.nanoTime();
+        final Object collectEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.COLLECT);
+        DependencyNode root = null;
+        try {
+            root = context.repositorySystem().collectDependencies(repoSession, request).getRoot();
+        } finally {
+            if (metrics != null) {
+                metrics.collected(System.nanoTime() - collectStart);
+            }
+            FlightRecorderEvents.endCollect(collectEvent, request.getDependencies(), request.getRepositories(), root);
+        }
+
+        final MavenResolutionFilterWrap filter = new MavenResolutionFilterWrap(filters,
+            Collections.unmodifiableList(new ArrayList<>(dependenciesForResolution)));
+        final List<DependencyNode> nodes = new ArrayList<>();
+        root.accept(new TreeDependencyVisitor(new FilteringDependencyVisitor(new NodeListGenerator(nodes), filter)));
+        filter.endEvent();
+        // artifacts of the nodes may be resolved later, skip repositories known not to provide them
+        for (DependencyNode node : nodes) {
+            skipKnownMissing(repoSession, node);
+        }
+        return nodes;
+    }
+
+    /**
+     * Resolves dependencies of several independent requests at once.
+     * <p>
+     * The dependency graph of each request is collected separately, so that requests do not affect each other, but
+     * within the same {@code repoSession}, so that artifact descriptors and versions are shared if the session has a
+     * cache. Artifacts of all the graphs are then resolved in a single request, so that each of them is resolved only
+     * once and downloads from the same repository run in parallel.
+     *
+     * @param repoSession The current Maven session
+     * @param requests The requests to be computed, by their keys
+     * @param dependenciesForResolution Dependencies requested by each of the requests, by their keys
+     * @param filters The filters of dependency results
+     * @return Artifacts of the dependency tree built from each of the {@code requests}, by their keys
+     * @throws DependencyCollectionException If a dependency tree could not be collected
+     * @throws ArtifactResolutionException If an artifact could not be resolved
+     */
+    public <K> Map<K, Collection<ArtifactResult>> resolveDependencies(final RepositorySystemSession repoSession,
+            final Map<K, CollectRequest> requests, final Map<K, List<MavenDependency>> dependenciesForResolution,
+            final MavenResolutionFilter[] filters) throws DependencyCollectionException, ArtifactResolutionException {
+
+        // collect all the graphs, remembering nodes accepted by the filters
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(repoSession);
+        final Map<K, List<DependencyNode>> acceptedNodes = new LinkedHashMap<>();
+        final Map<List<Object>, ArtifactRequest> artifactRequests = new LinkedHashMap<>();
+        for (Map.Entry<K, CollectRequest> entry : requests.entrySet()) {
+            final long collectStart = System.nanoTime();
+            final Object collectEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.COLLECT);
+            DependencyNode root = null;
+            try {
+                root = context.repositorySystem().collectDependencies(repoSession, entry.getValue()).getRoot();
+            } finally {
+                if (metrics != null) {
+                    metrics.collected(System.nanoTime() - collectStart);
+                }
+                FlightRecorderEvents.endCollect(collectEvent, entry.getValue().getDependencies(),
+                    entry.getValue().getRepositories(), root);
+            }
+            final MavenResolutionFilterWrap filter = new MavenResolutionFilterWrap(filters, Collections.unmodifiableList(
+                new ArrayList<>(dependenciesForResolution.get(entry.getKey()))));
+            final List<DependencyNode> nodes = new ArrayList<>();
+            root.accept(new TreeDependencyVisitor(new FilteringDependencyVisitor(new NodeListGenerator(nodes),
+                filter)));
+            for (DependencyNode node : nodes) {
+                skipKnownMissing(repoSession, node);
+                artifactRequests.computeIfAbsent(artifactKey(node), key -> new ArtifactRequest(node));
+            }
+            filter.endEvent();
+            acceptedNodes.put(entry.getKey(), nodes);
+        }
+
+        // resolve each distinct artifact only once
+        final List<ArtifactRequest> distinctRequests = new ArrayList<>(artifactRequests.values());
+        final long resolveStart = System.nanoTime();
+        final Object resolveEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.RESOLVE);
+        List<ArtifactResult> distinctResults = Collections.emptyList();
+        try {
+            distinctResults = context.repositorySystem().resolveArtifacts(repoSession, distinctRequests);
+        } finally {
+            if (metrics != null) {
+                metrics.resolved(System.nanoTime() - resolveStart);
+            }
+            FlightRecorderEvents.endResolve(resolveEvent, distinctResults.size());
+        }
+        final Map<List<Object>, ArtifactResult> resolved = new LinkedHashMap<>();
+        final Iterator<ArtifactResult> results = distinctResults.iterator();
+        for (List<Object> key : artifactRequests.keySet()) {
+            resolved.put(key, results.next());
+        }
+
+        // associate resolved artifacts with nodes of each graph
+        final Map<K, Collection<ArtifactResult>> artifactResults = new LinkedHashMap<>();
+        for (Map.Entry<K, List<DependencyNode>> entry : acceptedNodes.entrySet()) {
+            final List<ArtifactResult> nodeResults = new ArrayList<>(entry.getValue().size());
+            for (DependencyNode node : entry.getValue()) {
+                final ArtifactResult result = resolved.get(artifactKey(node));
+                node.setArtifact(result.getArtifact());
+                final ArtifactResult nodeResult = new ArtifactResult(new ArtifactRequest(node));
+                nodeResult.setArtifact(result.getArtifact());
+                nodeResult.setRepository(result.getRepository());
+                nodeResults.add(nodeResult);
+            }
+            artifactResults.put(entry.getKey(), nodeResults);
+        }
+        return artifactResults;
+    }
+
+    /**
+     * Leaves out repositories known not to provide the artifact of a node, see {@link NegativeResolutionCache}
+     */
+    private static void skipKnownMissing(final RepositorySystemSession repoSession, final DependencyNode node) {
+        if (node instanceof DefaultDependencyNode) {
+            ((DefaultDependencyNode) node).setRepositories(NegativeResolutionCache.getInstance().filter(repoSession,
+                node.getArtifact(), node.getRepositories()));
+        }
+    }
+
+    private static List<Object> artifactKey(final DependencyNode node) {
+        return Arrays.asList(ArtifactIdUtils.toId(node.getArtifact()), node.getRepositories(),
+            node.getRequestContext());
+    }
+
     /**
      * Resolves an artifact
      *
@@ -138,6 +352,26 @@ public class MavenRepositorySystem {
         return context.repositorySystem().resolveArtifact(session, request);
     }
 
+    /**
+     * Resolves several artifacts at once, downloads from the same repository run in parallel
+     *
+     * @param session The current Maven session
+     * @param requests The requests to be computed
+     * @return The artifacts, in the order of {@code requests}
+     * @throws ArtifactResolutionException If any of the artifacts could not be fetched
+     */
+    public List<ArtifactResult> resolveArtifacts(final RepositorySystemSession session,
+            final Collection<ArtifactRequest> requests) throws ArtifactResolutionException {
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.RESOLVE);
+        List<ArtifactResult> results = Collections.emptyList();
+        try {
+            results = context.repositorySystem().resolveArtifacts(session, requests);
+            return results;
+        } finally {
+            FlightRecorderEvents.endResolve(event, results.size());
+        }
+    }
+
     /**
      * Resolves versions range
      *
@@ -153,15 +387,29 @@ public class MavenRepositorySystem {
         return context.repositorySystem().resolveVersionRange(session, request);
     }
 
-    /**
-     * Finds a current implementation of repository system. A {@link RepositorySystem} is an entry point to dependency
-     * resolution
-     *
-     * @return Context
-     */
-    private Context getContext() throws UnsupportedOperationException {
-        eu.maveniverse.maven.mima.context.Runtime runtime = Runtimes.INSTANCE.getRuntime();
-        return runtime.create(ContextOverrides.create().checksumPolicy(ContextOverrides.ChecksumPolicy.WARN).build());
+}
+
+/**
+ * Lists nodes carrying a dependency in the order they are visited
+ */
+class NodeListGenerator implements DependencyVisitor {
+    private final List<DependencyNode> nodes;
+
+    NodeListGenerator(final List<DependencyNode> nodes) {
+        this.nodes = nodes;
+    }
+
+    @Override
+    public boolean visitEnter(final DependencyNode node) {
+        if (node.getDependency() != null) {
+            nodes.add(node);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visitLeave(final DependencyNode node) {
+        return true;
     }
 }
 
@@ -170,6 +418,21 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
 
     private final MavenResolutionFilter[] filters;
     private final List<MavenDependency> dependenciesForResolution;
+    private final boolean requiresAncestors;
+
+    /**
+     * Conversions of nodes filtered within this resolution. A node is visited as a candidate and later on as an ancestor
+     * of each of its descendants, so each node is converted only once.
+     */
+    private final Map<DependencyNode, MavenDependency> conversions = new IdentityHashMap<>();
+
+    /**
+     * Flight Recorder event of this filtering, nodes are counted and filters are timed only if it is recorded
+     */
+    private final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.FILTER);
+    private int evaluated;
+    private int rejected;
+    private long filterTimeNanos;
 
     MavenResolutionFilterWrap(final MavenResolutionFilter[] filters,
             final List<MavenDependency> dependenciesForResolution) {
@@ -177,6 +440,12 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
         assert dependenciesForResolution != null : "declaredDependencies must be specified";
         this.dependenciesForResolution = dependenciesForResolution;
         this.filters = filters;
+
+        boolean requiresAncestors = false;
+        for (final MavenResolutionFilter filter : filters) {
+            requiresAncestors |= filter.requiresAncestors();
+        }
+        this.requiresAncestors = requiresAncestors;
     }
 
     /**
@@ -186,26 +455,43 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
      */
     @Override
     public boolean accept(final DependencyNode node, List<DependencyNode> parents) {
+        if (event == null) {
+            return filter(node, parents);
+        }
+        final long start = System.nanoTime();
+        final boolean accepted = filter(node, parents);
+        filterTimeNanos += System.nanoTime() - start;
+        evaluated++;
+        if (!accepted) {
+            rejected++;
+        }
+        return accepted;
+    }
+
+    /**
+     * Commits the Flight Recorder event of this filtering, if it is recorded
+     */
+    void endEvent() {
+        FlightRecorderEvents.endFilter(event, filters, evaluated, rejected, filterTimeNanos);
+    }
+
+    private boolean filter(final DependencyNode node, final List<DependencyNode> parents) {
         Dependency dependency = node.getDependency();
 
         if (dependency == null) {
             return false;
         }
 
-        List<MavenDependency> ancestors = new ArrayList<>();
-        for (DependencyNode parent : parents) {
-            Dependency parentDependency = parent.getDependency();
-            if (parentDependency != null) {
-                ancestors.add(MavenConverter.fromDependency(parentDependency));
-            }
-        }
+        final List<MavenDependency> ancestors = requiresAncestors ? ancestors(parents)
+            : Collections.<MavenDependency>emptyList();
 
         if (log.isLoggable(Level.FINER)) {
             log.log(Level.FINER, "Filtering {0} using {1} filters", new Object[] { dependency, filters.length });
         }
 
+        final MavenDependency candidate = convert(node);
         for (final MavenResolutionFilter filter : filters) {
-            if (!filter.accepts(MavenConverter.fromDependency(dependency), dependenciesForResolution, ancestors)) {
+            if (!filter.accepts(candidate, dependenciesForResolution, ancestors)) {
                 if (log.isLoggable(Level.FINER)) {
                     log.log(Level.FINER, "Dependency {0} rejected by {1}", new Object[] { dependency, filter });
                 }
@@ -220,4 +506,64 @@ class MavenResolutionFilterWrap implements org.eclipse.aether.graph.DependencyFi
         return true;
     }
 
+    private MavenDependency convert(final DependencyNode node) {
+        MavenDependency converted = conversions.get(node);
+        if (converted == null) {
+            converted = MavenConverter.fromDependency(node.getDependency());
+            conversions.put(node, converted);
+        }
+        return converted;
+    }
+
+    /**
+     * Returns ancestors which carry a dependency, in the order of {@code parents}. Only the root node is expected not
+     * to carry any, in which case a view converting nodes on access is returned.
+     */
+    private List<MavenDependency> ancestors(final List<DependencyNode> parents) {
+        final int size = parents.size();
+        int withoutDependency = 0;
+        for (int i = 0; i < size; i++) {
+            if (parents.get(i).getDependency() == null) {
+                withoutDependency++;
+            }
+        }
+
+        if (withoutDependency == 0) {
+            return new AncestorsView(parents, size);
+        }
+        if (withoutDependency == 1 && parents.get(size - 1).getDependency() == null) {
+            return new AncestorsView(parents, size - 1);
+        }
+
+        final List<MavenDependency> ancestors = new ArrayList<>(size - withoutDependency);
+        for (DependencyNode parent : parents) {
+            if (parent.getDependency() != null) {
+                ancestors.add(convert(parent));
+            }
+        }
+        return ancestors;
+    }
+
+    private final class AncestorsView extends AbstractList<MavenDependency> implements RandomAccess {
+        private final List<DependencyNode> parents;
+        private final int size;
+
+        private AncestorsView(final List<DependencyNode> parents, final int size) {
+            this.parents = parents;
+            this.size = size;
+        }
+
+        @Override
+        public MavenDependency get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return convert(parents.get(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
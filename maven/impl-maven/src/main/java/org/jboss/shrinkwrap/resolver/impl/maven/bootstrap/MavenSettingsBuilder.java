@@ -41,6 +41,7 @@ import org.apache.maven.settings.crypto.SettingsDecryptionRequest;
 import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.jboss.shrinkwrap.resolver.api.InvalidConfigurationFileException;
 import org.jboss.shrinkwrap.resolver.impl.maven.internal.decrypt.MavenSettingsDecrypter;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.FlightRecorderEvents;
 
 /**
  * Builds Maven settings from arbitrary settings.xml file
@@ -124,13 +125,35 @@ public class MavenSettingsBuilder {
     }
 
     /**
-     * Builds Maven settings from request.
+     * Builds Maven settings from request. Settings built from the same unmodified files and properties before are
+     * reused, see {@link SettingsCache}.
      *
      * @param request
      * The request for new settings
      * @return The built default maven {@link Settings}
      */
     public Settings buildSettings(SettingsBuildingRequest request) {
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.SETTINGS_BUILD);
+        final SettingsCache.Key key = SettingsCache.key(request, getSecuritySettingsFile());
+        if (key != null) {
+            final Settings settings = SettingsCache.getInstance().get(key);
+            if (settings != null) {
+                FlightRecorderEvents.endSettingsBuild(event, request.getUserSettingsFile(),
+                    request.getGlobalSettingsFile(), true);
+                return settings;
+            }
+        }
+
+        final Settings settings = build(request);
+        if (key != null) {
+            SettingsCache.getInstance().put(key, settings);
+        }
+        FlightRecorderEvents.endSettingsBuild(event, request.getUserSettingsFile(), request.getGlobalSettingsFile(),
+            false);
+        return settings;
+    }
+
+    private Settings build(SettingsBuildingRequest request) {
         SettingsBuildingResult result;
         try {
             SettingsBuilder builder = new DefaultSettingsBuilderFactory().newInstance();
@@ -215,17 +238,19 @@ public class MavenSettingsBuilder {
         return request;
     }
 
-    private Settings decryptPasswords(Settings settings) {
-
-        File securitySettings = new File(DEFAULT_SETTINGS_SECURITY_PATH);
+    private File getSecuritySettingsFile() {
         String altSecuritySettings = SecurityActions.getProperty(ALT_SECURITY_SETTINGS_XML_LOCATION);
 
         // set alternate file
         if (altSecuritySettings != null && !altSecuritySettings.isEmpty()) {
-            securitySettings = new File(altSecuritySettings);
+            return new File(altSecuritySettings);
         }
+        return new File(DEFAULT_SETTINGS_SECURITY_PATH);
+    }
+
+    private Settings decryptPasswords(Settings settings) {
 
-        SettingsDecrypter decrypter = new MavenSettingsDecrypter(securitySettings);
+        SettingsDecrypter decrypter = new MavenSettingsDecrypter(getSecuritySettingsFile());
         SettingsDecryptionRequest request = new DefaultSettingsDecryptionRequest(settings);
         SettingsDecryptionResult result = decrypter.decrypt(request);
 
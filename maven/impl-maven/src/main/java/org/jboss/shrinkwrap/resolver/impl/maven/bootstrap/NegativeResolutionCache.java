@@ -0,0 +1,389 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+
+/**
+ * Process-wide cache of negative resolution results, shared by all the sessions in the JVM.
+ * <p>
+ * An artifact which was not found in a remote repository is not looked up in that repository again until the entry
+ * expires, see {@value #TTL_KEY}. The repository is simply left out of the request, so the artifact is still reported
+ * as not found if it is missing in all the repositories. The repository is identified by its whole definition,
+ * including its authentication, proxy, mirrored repositories and policies, and by the update policy of the session, so
+ * that sessions which do not access the repository the same way do not share the entries. Sessions which always check
+ * the repository for updates do not use the entries at all. Besides that, a repository which did not respond in time as
+ * many times in a row as set by {@value #FAILURE_THRESHOLD_KEY} is not contacted at all until the same time elapses,
+ * its transfers are cancelled right away instead. A transfer which succeeds afterwards closes the
+ * circuit again.
+ * <p>
+ * The cache is disabled by default and is enabled by setting {@value #NEGATIVE_CACHE_KEY} system property to
+ * {@code true}.
+ */
+public final class NegativeResolutionCache {
+
+    private static final Logger log = Logger.getLogger(NegativeResolutionCache.class.getName());
+
+    /**
+     * System property enabling the cache if set to {@code true}
+     */
+    public static final String NEGATIVE_CACHE_KEY = "org.jboss.shrinkwrap.resolver.maven.negative-cache";
+
+    /**
+     * System property setting how many seconds a missing artifact and an unreachable repository are remembered,
+     * defaults to {@value #DEFAULT_TTL_SECONDS}
+     */
+    public static final String TTL_KEY = NEGATIVE_CACHE_KEY + ".ttl";
+
+    /**
+     * System property setting how many consecutive timeouts make a repository skipped, defaults to
+     * {@value #DEFAULT_FAILURE_THRESHOLD}
+     */
+    public static final String FAILURE_THRESHOLD_KEY = NEGATIVE_CACHE_KEY + ".failure-threshold";
+
+    private static final long DEFAULT_TTL_SECONDS = 300L;
+
+    private static final int DEFAULT_FAILURE_THRESHOLD = 1;
+
+    private static final int MAX_ENTRIES = 10000;
+
+    /**
+     * Simple name of the exception thrown by HTTP clients if a connection could not be established in time, such as
+     * {@code org.apache.http.conn.ConnectTimeoutException}
+     */
+    private static final String CONNECT_TIMEOUT_EXCEPTION = "ConnectTimeoutException";
+
+    private static final NegativeResolutionCache INSTANCE = new NegativeResolutionCache();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Expiration of artifacts not found in a repository, keyed by artifact id, repository and update policy of the
+     * session
+     */
+    private final Map<List<Object>, Long> missing = new LinkedHashMap<List<Object>, Long>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Long> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Circuits of repositories which failed to respond, keyed by repository URL
+     */
+    private final Map<String, Circuit> circuits = new HashMap<>();
+
+    private final TransferListener transferListener = new CircuitBreakerListener();
+    private final RepositoryListener repositoryListener = new MissingArtifactListener();
+
+    private NegativeResolutionCache() {
+    }
+
+    /**
+     * Returns the cache shared by the whole process
+     *
+     * @return The cache
+     */
+    public static NegativeResolutionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks whether the cache is enabled
+     *
+     * @return {@code true} if enabled via {@value #NEGATIVE_CACHE_KEY} system property
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(SecurityActions.getProperty(NEGATIVE_CACHE_KEY));
+    }
+
+    /**
+     * Returns repositories where given artifact is not known to be missing, in their original order
+     *
+     * @param session The session the artifact is resolved within
+     * @param artifact The artifact to be resolved
+     * @param repositories The repositories to look the artifact up in
+     * @return The repositories worth looking the artifact up in, {@code repositories} itself if there is no such entry
+     */
+    public List<RemoteRepository> filter(final RepositorySystemSession session, final Artifact artifact,
+            final List<RemoteRepository> repositories) {
+        if (repositories.isEmpty() || !isEnabled()) {
+            return repositories;
+        }
+
+        final String id = ArtifactIdUtils.toId(artifact);
+        final long now = System.nanoTime();
+        List<RemoteRepository> filtered = null;
+        synchronized (missing) {
+            for (int i = 0; i < repositories.size(); i++) {
+                final RemoteRepository repository = repositories.get(i);
+                final List<Object> key = key(session, id, repository);
+                final Long expiration = alwaysUpdated(session, artifact, repository) ? null : missing.get(key);
+                if (expiration != null && expiration - now > 0L) {
+                    hits.incrementAndGet();
+                    if (filtered == null) {
+                        filtered = new ArrayList<>(repositories.subList(0, i));
+                    }
+                } else {
+                    if (expiration != null) {
+                        missing.remove(key);
+                    }
+                    misses.incrementAndGet();
+                    if (filtered != null) {
+                        filtered.add(repository);
+                    }
+                }
+            }
+        }
+        return filtered == null ? repositories : filtered;
+    }
+
+    /**
+     * Remembers that given artifact was not found in given repository
+     *
+     * @param session The session the artifact was resolved within
+     * @param artifact The artifact
+     * @param repository The repository
+     */
+    public void missing(final RepositorySystemSession session, final Artifact artifact,
+            final RemoteRepository repository) {
+        final long expiration = System.nanoTime() + ttl();
+        synchronized (missing) {
+            missing.put(key(session, ArtifactIdUtils.toId(artifact), repository), expiration);
+        }
+    }
+
+    /**
+     * Checks whether a repository is skipped because it failed to respond too many times in a row
+     *
+     * @param repositoryUrl The URL of the repository
+     * @return {@code true} if the circuit of the repository is open, {@code false} otherwise
+     */
+    public boolean isOpen(final String repositoryUrl) {
+        synchronized (circuits) {
+            final Circuit circuit = circuits.get(repositoryUrl);
+            return circuit != null && circuit.isOpen(System.nanoTime());
+        }
+    }
+
+    /**
+     * Forgets all the missing artifacts and closes all the circuits
+     */
+    public void clear() {
+        synchronized (missing) {
+            missing.clear();
+        }
+        synchronized (circuits) {
+            circuits.clear();
+        }
+    }
+
+    /**
+     * Returns how many times a repository was not contacted as it was known not to provide the artifact or not to
+     * respond at all
+     *
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many times an artifact had to be looked up in a repository
+     *
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the listener opening the circuits of repositories which fail to respond and cancelling their transfers
+     *
+     * @return The transfer listener
+     */
+    TransferListener transferListener() {
+        return transferListener;
+    }
+
+    /**
+     * Returns the listener remembering artifacts not found in a repository
+     *
+     * @return The repository listener
+     */
+    RepositoryListener repositoryListener() {
+        return repositoryListener;
+    }
+
+    private void failed(final String repositoryUrl) {
+        final int threshold = threshold();
+        final long ttl = ttl();
+        synchronized (circuits) {
+            final Circuit circuit = circuits.computeIfAbsent(repositoryUrl, url -> new Circuit());
+            if (++circuit.failures >= threshold && !circuit.open) {
+                circuit.open = true;
+                circuit.openUntil = System.nanoTime() + ttl;
+                log.log(Level.WARNING, "Repository {0} failed to respond {1} times in a row, it will be skipped for {2}"
+                    + " seconds", new Object[] { repositoryUrl, circuit.failures, TimeUnit.NANOSECONDS.toSeconds(ttl) });
+            }
+        }
+    }
+
+    private void succeeded(final String repositoryUrl) {
+        synchronized (circuits) {
+            circuits.remove(repositoryUrl);
+        }
+    }
+
+    private static List<Object> key(final RepositorySystemSession session, final String artifactId,
+            final RemoteRepository repository) {
+        // the whole repository is compared, so that authentication, proxy, mirrors and policies are taken into account
+        return Arrays.asList(artifactId, repository, session.getUpdatePolicy());
+    }
+
+    /**
+     * Checks whether given artifact is to be looked up in given repository every time, such as when updates are forced
+     */
+    private static boolean alwaysUpdated(final RepositorySystemSession session, final Artifact artifact,
+            final RemoteRepository repository) {
+        final String updatePolicy = session.getUpdatePolicy() != null ? session.getUpdatePolicy()
+            : repository.getPolicy(artifact.isSnapshot()).getUpdatePolicy();
+        return RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(updatePolicy);
+    }
+
+    private static long ttl() {
+        return TimeUnit.SECONDS.toNanos(longProperty(TTL_KEY, DEFAULT_TTL_SECONDS));
+    }
+
+    private static int threshold() {
+        return (int) Math.max(1L, longProperty(FAILURE_THRESHOLD_KEY, DEFAULT_FAILURE_THRESHOLD));
+    }
+
+    private static long longProperty(final String key, final long defaultValue) {
+        final String value = SecurityActions.getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.log(Level.WARNING, "Invalid value {0} of {1}, using {2} instead", new Object[] { value, key,
+                defaultValue });
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Checks whether a transfer failed because the repository did not respond in time. Refused connections and other
+     * failures which are reported right away are not considered, as retrying them is cheap. Neither are transfers
+     * interrupted by their caller, such as a cancelled asynchronous resolution, as the repository is not to blame.
+     */
+    private static boolean isTimeout(final Throwable exception) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransferCancelledException || cause instanceof ClosedByInterruptException) {
+                return false;
+            }
+            if (cause instanceof SocketTimeoutException
+                || CONNECT_TIMEOUT_EXCEPTION.equals(cause.getClass().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Circuit {
+        private int failures;
+        private long openUntil;
+        private boolean open;
+
+        private boolean isOpen(final long now) {
+            if (open && openUntil - now <= 0L) {
+                // let the next transfer probe the repository again
+                open = false;
+                failures = 0;
+            }
+            return open;
+        }
+    }
+
+    private final class CircuitBreakerListener extends AbstractTransferListener {
+
+        @Override
+        public void transferInitiated(final TransferEvent event) throws TransferCancelledException {
+            final String repositoryUrl = event.getResource().getRepositoryUrl();
+            if (isOpen(repositoryUrl)) {
+                hits.incrementAndGet();
+                throw new TransferCancelledException("Repository " + repositoryUrl + " is skipped as it failed to "
+                    + "respond recently, not transferring " + event.getResource().getResourceName());
+            }
+        }
+
+        @Override
+        public void transferSucceeded(final TransferEvent event) {
+            succeeded(event.getResource().getRepositoryUrl());
+        }
+
+        @Override
+        public void transferFailed(final TransferEvent event) {
+            if (isTimeout(event.getException())) {
+                failed(event.getResource().getRepositoryUrl());
+            }
+        }
+    }
+
+    private final class MissingArtifactListener extends AbstractRepositoryListener {
+
+        @Override
+        public void artifactDownloaded(final RepositoryEvent event) {
+            if (event.getException() instanceof ArtifactNotFoundException
+                && event.getRepository() instanceof RemoteRepository) {
+                missing(event.getSession(), event.getArtifact(), (RemoteRepository) event.getRepository());
+            }
+        }
+    }
+}
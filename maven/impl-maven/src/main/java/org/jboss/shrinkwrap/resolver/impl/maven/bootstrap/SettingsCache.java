@@ -0,0 +1,228 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.building.SettingsBuildingRequest;
+
+/**
+ * Bounded process-wide cache of {@link Settings} built by {@link MavenSettingsBuilder}.
+ * <p>
+ * Building settings requires global and user settings.xml files to be read and validated and all servers and proxies
+ * to be decrypted. Settings are therefore reused as long as the settings files and the security settings file are the
+ * same and unmodified, and so are the properties used for interpolation and the system properties overriding the
+ * local repository and offline mode. Settings are mutable, so only copies are handed out.
+ */
+public final class SettingsCache {
+
+    private static final int MAX_ENTRIES = 16;
+
+    private static final SettingsCache INSTANCE = new SettingsCache();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Map<Key, Settings> entries = new LinkedHashMap<Key, Settings>(MAX_ENTRIES, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Settings> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private SettingsCache() {
+    }
+
+    /**
+     * Returns the cache shared by the whole process
+     *
+     * @return The cache
+     */
+    public static SettingsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a copy of the settings built for given key
+     *
+     * @param key The key of the request, see {@link #key(SettingsBuildingRequest, File)}
+     * @return A copy of the settings, or {@code null} if they were not built yet
+     */
+    Settings get(final Key key) {
+        final Settings settings;
+        synchronized (entries) {
+            settings = entries.get(key);
+        }
+        if (settings == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return settings.clone();
+    }
+
+    /**
+     * Stores a copy of the settings built for given key
+     *
+     * @param key The key of the request
+     * @param settings The settings
+     */
+    void put(final Key key, final Settings settings) {
+        final Settings copy = settings.clone();
+        synchronized (entries) {
+            entries.put(key, copy);
+        }
+    }
+
+    /**
+     * Removes all the settings
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns how many times settings were reused
+     *
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many times settings had to be built
+     *
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Creates the key of a settings building request
+     *
+     * @param request The request
+     * @param securitySettings The security settings file used to decrypt passwords
+     * @return The key, or {@code null} if the request can not be cached as its settings are not read from files
+     */
+    static Key key(final SettingsBuildingRequest request, final File securitySettings) {
+        if (request.getGlobalSettingsSource() != null || request.getUserSettingsSource() != null) {
+            return null;
+        }
+        return new Key(new FileState(request.getGlobalSettingsFile()), new FileState(request.getUserSettingsFile()),
+            new FileState(securitySettings), new HashMap<>(request.getSystemProperties()),
+            new HashMap<>(request.getUserProperties()), new String[] {
+                SecurityActions.getProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION),
+                SecurityActions.getProperty(MavenSettingsBuilder.ALT_MAVEN_OFFLINE) });
+    }
+
+    static final class Key {
+        private final FileState globalSettings;
+        private final FileState userSettings;
+        private final FileState securitySettings;
+        private final Map<Object, Object> systemProperties;
+        private final Map<Object, Object> userProperties;
+        private final String[] overrides;
+        private final int hashCode;
+
+        private Key(FileState globalSettings, FileState userSettings, FileState securitySettings,
+                Map<Object, Object> systemProperties, Map<Object, Object> userProperties, String[] overrides) {
+            this.globalSettings = globalSettings;
+            this.userSettings = userSettings;
+            this.securitySettings = securitySettings;
+            this.systemProperties = systemProperties;
+            this.userProperties = userProperties;
+            this.overrides = overrides;
+            this.hashCode = Objects.hash(globalSettings, userSettings, securitySettings, systemProperties,
+                userProperties, Arrays.hashCode(overrides));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && globalSettings.equals(other.globalSettings)
+                && userSettings.equals(other.userSettings) && securitySettings.equals(other.securitySettings)
+                && systemProperties.equals(other.systemProperties) && userProperties.equals(other.userProperties)
+                && Arrays.equals(overrides, other.overrides);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Canonical path, size and modification time of a file, if any
+     */
+    private static final class FileState {
+        private final String path;
+        private final long length;
+        private final long lastModified;
+
+        private FileState(File file) {
+            if (file == null) {
+                this.path = null;
+                this.length = 0L;
+                this.lastModified = 0L;
+                return;
+            }
+            String path;
+            try {
+                path = file.getCanonicalPath();
+            } catch (IOException e) {
+                path = file.getAbsolutePath();
+            }
+            this.path = path;
+            this.length = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileState)) {
+                return false;
+            }
+            final FileState other = (FileState) obj;
+            return Objects.equals(path, other.path) && length == other.length && lastModified == other.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, length, lastModified);
+        }
+    }
+}
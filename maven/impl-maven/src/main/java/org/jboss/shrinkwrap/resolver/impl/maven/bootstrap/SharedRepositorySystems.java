@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtimes;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JVM-wide pool of MIMA {@link Context}s, and hence of Maven Resolver {@link org.eclipse.aether.RepositorySystem}s,
+ * shared by all {@link MavenRepositorySystem} instances.
+ * <p>
+ * Booting a repository system is expensive, while the repository system itself is thread-safe and keeps no per-session
+ * state. Contexts are therefore keyed by the {@link ContextOverrides} that influence the repository system, which
+ * currently is the checksum policy only. The pool is a static singleton, a context is created on first use, shared by
+ * all the sessions for the lifetime of the JVM and closed by a shutdown hook when the JVM exits.
+ * <p>
+ * Contexts are deliberately not reference counted. A {@link MavenRepositorySystem} is owned by a working session, and
+ * neither has a close method, resolvers are simply dropped once resolved. No reference would therefore ever be
+ * released and a context could not be closed any earlier than by the shutdown hook. There is one context per checksum
+ * policy at most, so keeping them for the lifetime of the JVM is bounded.
+ * <p>
+ * Setting the {@link #SHARED_REPOSITORY_SYSTEM_KEY} system property to {@code false} restores the isolated behavior,
+ * where every {@link MavenRepositorySystem} boots a context of its own. Same as before the pool was introduced, such a
+ * context is not closed explicitly.
+ */
+final class SharedRepositorySystems {
+    private static final Logger log = Logger.getLogger(SharedRepositorySystems.class.getName());
+
+    /**
+     * System property that allows to disable sharing of repository systems, defaults to {@code true}
+     */
+    static final String SHARED_REPOSITORY_SYSTEM_KEY = "org.jboss.shrinkwrap.resolver.maven.shared-repository-system";
+
+    private static final Map<ContextOverrides.ChecksumPolicy, Context> contexts =
+        new EnumMap<>(ContextOverrides.ChecksumPolicy.class);
+
+    private static boolean shutdownHookRegistered;
+
+    /**
+     * No instantiation
+     */
+    private SharedRepositorySystems() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Returns whether repository systems are shared in this JVM
+     *
+     * @return {@code true} unless disabled via {@link #SHARED_REPOSITORY_SYSTEM_KEY} system property
+     */
+    static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(SecurityActions.getProperty(SHARED_REPOSITORY_SYSTEM_KEY));
+    }
+
+    /**
+     * Returns the context for given checksum policy, creating it if none is available yet
+     *
+     * @param checksumPolicy The checksum policy of the repository system
+     * @return A shared context
+     */
+    static synchronized Context get(final ContextOverrides.ChecksumPolicy checksumPolicy) {
+        Context context = contexts.get(checksumPolicy);
+        if (context == null) {
+            context = create(checksumPolicy);
+            contexts.put(checksumPolicy, context);
+            registerShutdownHook();
+        }
+        return context;
+    }
+
+    /**
+     * Closes all the shared contexts
+     */
+    static synchronized void shutdown() {
+        for (Context context : contexts.values()) {
+            try {
+                context.close();
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Unable to close shared repository system", e);
+            }
+        }
+        contexts.clear();
+    }
+
+    /**
+     * Boots a new context, which is an entry point to dependency resolution
+     *
+     * @param checksumPolicy The checksum policy of the repository system
+     * @return A new context
+     */
+    static Context create(final ContextOverrides.ChecksumPolicy checksumPolicy) {
+        eu.maveniverse.maven.mima.context.Runtime runtime = Runtimes.INSTANCE.getRuntime();
+        return runtime.create(ContextOverrides.create().checksumPolicy(checksumPolicy).build());
+    }
+
+    private static void registerShutdownHook() {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(SharedRepositorySystems::shutdown,
+                "shrinkwrap-resolver-repository-system-shutdown"));
+            shutdownHookRegistered = true;
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
 import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenRepositorySystem;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.NegativeResolutionCache;
 import org.jboss.shrinkwrap.resolver.impl.maven.convert.MavenConverter;
 
 /**
@@ -127,7 +128,9 @@ public class MavenModelResolver implements ModelResolver {
         throws UnresolvableModelException {
         Artifact pomArtifact = new DefaultArtifact(groupId, artifactId, "", "pom", version);
         try {
-            final ArtifactRequest request = new ArtifactRequest(pomArtifact, repositories, null);
+            // repositories known not to provide the POM are not asked for it again
+            final ArtifactRequest request = new ArtifactRequest(pomArtifact,
+                NegativeResolutionCache.getInstance().filter(session, pomArtifact, repositories), null);
             pomArtifact = system.resolveArtifact(session, request).getArtifact();
 
         } catch (ArtifactResolutionException e) {
@@ -0,0 +1,240 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.model.Model;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.transfer.TransferEvent;
+
+/**
+ * Emits JDK Flight Recorder events for the phases of a resolution.
+ * <p>
+ * Every event is started by {@link #begin(Type)}, which returns an opaque handle, and committed by the {@code end}
+ * method of its type. The handle is {@code null} unless the event type is enabled in a running recording, so all the
+ * {@code end} methods return right away and nothing is computed when nothing is recorded. This class does not refer to
+ * {@code jdk.jfr} at all, the events are emitted only if the JVM provides Flight Recorder and it is not disabled by
+ * setting {@value #FLIGHT_RECORDER_KEY} system property to {@code false}.
+ */
+public final class FlightRecorderEvents {
+
+    private static final Logger log = Logger.getLogger(FlightRecorderEvents.class.getName());
+
+    /**
+     * System property disabling the events if set to {@code false}
+     */
+    public static final String FLIGHT_RECORDER_KEY = "org.jboss.shrinkwrap.resolver.maven.jfr";
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    /**
+     * Types of the events
+     */
+    public enum Type {
+        /**
+         * Creation of a repository system session
+         */
+        SESSION_BOOTSTRAP,
+        /**
+         * Building of Maven settings
+         */
+        SETTINGS_BUILD,
+        /**
+         * Building of an effective POM
+         */
+        EFFECTIVE_POM_BUILD,
+        /**
+         * Collection of a dependency graph
+         */
+        COLLECT,
+        /**
+         * Resolution of artifacts of a dependency graph
+         */
+        RESOLVE,
+        /**
+         * Transfer of a single file from or to a repository
+         */
+        TRANSFER,
+        /**
+         * Filtering of a dependency graph by resolution filters
+         */
+        FILTER,
+        /**
+         * Conversion of resolved artifacts to the requested format
+         */
+        FORMAT
+    }
+
+    /**
+     * No instantiation
+     */
+    private FlightRecorderEvents() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    /**
+     * Checks whether events can be emitted at all
+     *
+     * @return {@code true} if Flight Recorder is available and not disabled, {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Starts an event
+     *
+     * @param type The type of the event
+     * @return Handle of the event, or {@code null} if the event is not recorded
+     */
+    public static Object begin(final Type type) {
+        return AVAILABLE ? FlightRecorderSupport.begin(type) : null;
+    }
+
+    /**
+     * Commits a {@link Type#SESSION_BOOTSTRAP} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param localRepository The local repository of the session
+     * @param offline Whether the session is offline
+     */
+    public static void endSessionBootstrap(final Object event, final String localRepository, final boolean offline) {
+        if (event != null) {
+            FlightRecorderSupport.endSessionBootstrap(event, localRepository, offline);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#SETTINGS_BUILD} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param userSettings The user settings file, may be {@code null}
+     * @param globalSettings The global settings file, may be {@code null}
+     * @param cached Whether the settings were reused rather than built
+     */
+    public static void endSettingsBuild(final Object event, final File userSettings, final File globalSettings,
+            final boolean cached) {
+        if (event != null) {
+            FlightRecorderSupport.endSettingsBuild(event, userSettings, globalSettings, cached);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#EFFECTIVE_POM_BUILD} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param pomFile The pom.xml file
+     * @param model The effective model
+     * @param cached Whether the model was reused rather than built
+     */
+    public static void endEffectivePomBuild(final Object event, final File pomFile, final Model model,
+            final boolean cached) {
+        if (event != null) {
+            FlightRecorderSupport.endEffectivePomBuild(event, pomFile, model, cached);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#COLLECT} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param dependencies The dependencies the graph is collected for
+     * @param repositories The repositories the graph is collected from
+     * @param root The root of the collected graph, {@code null} if the collection failed
+     */
+    public static void endCollect(final Object event, final List<Dependency> dependencies,
+            final List<RemoteRepository> repositories, final DependencyNode root) {
+        if (event != null) {
+            FlightRecorderSupport.endCollect(event, dependencies, repositories, root);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#RESOLVE} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param artifacts The number of resolved artifacts
+     */
+    public static void endResolve(final Object event, final int artifacts) {
+        if (event != null) {
+            FlightRecorderSupport.endResolve(event, artifacts);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#TRANSFER} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param transfer The event finishing the transfer
+     */
+    public static void endTransfer(final Object event, final TransferEvent transfer) {
+        if (event != null) {
+            FlightRecorderSupport.endTransfer(event, transfer);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#FILTER} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param filters The filters applied
+     * @param evaluated The number of nodes evaluated by the filters
+     * @param rejected The number of nodes rejected by the filters
+     * @param filterTimeNanos The time spent in the filters
+     */
+    public static void endFilter(final Object event, final Object[] filters, final int evaluated, final int rejected,
+            final long filterTimeNanos) {
+        if (event != null) {
+            FlightRecorderSupport.endFilter(event, filters, evaluated, rejected, filterTimeNanos);
+        }
+    }
+
+    /**
+     * Commits a {@link Type#FORMAT} event
+     *
+     * @param event The handle returned by {@link #begin(Type)}
+     * @param format The requested format
+     * @param artifacts The artifacts converted
+     */
+    public static void endFormat(final Object event, final Class<?> format, final Collection<?> artifacts) {
+        if (event != null) {
+            FlightRecorderSupport.endFormat(event, format, artifacts.size());
+        }
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        if ("false".equalsIgnoreCase(SecurityActions.getProperty(FLIGHT_RECORDER_KEY))) {
+            return false;
+        }
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            // load the events eagerly, so that a broken Flight Recorder is detected right away
+            FlightRecorderSupport.begin(Type.FORMAT);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.log(Level.FINE, "Flight Recorder is not available, no events will be emitted", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.jfr;
+
+import java.io.File;
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import org.apache.maven.model.Model;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+
+/**
+ * Flight Recorder events emitted by {@link FlightRecorderEvents}. This class is the only one referring to
+ * {@code jdk.jfr}, so it must not be loaded unless Flight Recorder is available.
+ */
+final class FlightRecorderSupport {
+
+    /**
+     * No instantiation
+     */
+    private FlightRecorderSupport() {
+        throw new UnsupportedOperationException("No instantiation");
+    }
+
+    static Object begin(final FlightRecorderEvents.Type type) {
+        final Event event;
+        switch (type) {
+            case SESSION_BOOTSTRAP:
+                event = new SessionBootstrapEvent();
+                break;
+            case SETTINGS_BUILD:
+                event = new SettingsBuildEvent();
+                break;
+            case EFFECTIVE_POM_BUILD:
+                event = new EffectivePomBuildEvent();
+                break;
+            case COLLECT:
+                event = new CollectEvent();
+                break;
+            case RESOLVE:
+                event = new ResolveEvent();
+                break;
+            case TRANSFER:
+                event = new TransferEvent();
+                break;
+            case FILTER:
+                event = new FilterEvent();
+                break;
+            case FORMAT:
+                event = new FormatEvent();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown event type " + type);
+        }
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endSessionBootstrap(final Object handle, final String localRepository, final boolean offline) {
+        final SessionBootstrapEvent event = (SessionBootstrapEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.localRepository = localRepository;
+            event.offline = offline;
+            event.commit();
+        }
+    }
+
+    static void endSettingsBuild(final Object handle, final File userSettings, final File globalSettings,
+            final boolean cached) {
+        final SettingsBuildEvent event = (SettingsBuildEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.userSettings = path(userSettings);
+            event.globalSettings = path(globalSettings);
+            event.cached = cached;
+            event.commit();
+        }
+    }
+
+    static void endEffectivePomBuild(final Object handle, final File pomFile, final Model model,
+            final boolean cached) {
+        final EffectivePomBuildEvent event = (EffectivePomBuildEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.pomFile = path(pomFile);
+            event.coordinates = model.getGroupId() + ":" + model.getArtifactId() + ":" + model.getPackaging() + ":"
+                + model.getVersion();
+            event.dependencies = model.getDependencies().size();
+            event.cached = cached;
+            event.commit();
+        }
+    }
+
+    static void endCollect(final Object handle, final List<Dependency> dependencies,
+            final List<RemoteRepository> repositories, final DependencyNode root) {
+        final CollectEvent event = (CollectEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            final StringBuilder coordinates = new StringBuilder();
+            for (Dependency dependency : dependencies) {
+                if (coordinates.length() > 0) {
+                    coordinates.append(", ");
+                }
+                coordinates.append(dependency.getArtifact());
+            }
+            event.dependencies = coordinates.toString();
+            event.repositories = repositoryIds(repositories);
+            event.nodes = root == null ? 0 : countNodes(root);
+            event.commit();
+        }
+    }
+
+    static void endResolve(final Object handle, final int artifacts) {
+        final ResolveEvent event = (ResolveEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.artifacts = artifacts;
+            event.commit();
+        }
+    }
+
+    static void endTransfer(final Object handle, final org.eclipse.aether.transfer.TransferEvent transfer) {
+        final TransferEvent event = (TransferEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            final TransferResource resource = transfer.getResource();
+            event.repositoryId = resource.getRepositoryId();
+            event.repositoryUrl = resource.getRepositoryUrl();
+            event.resource = resource.getResourceName();
+            event.requestType = transfer.getRequestType().name();
+            event.size = transfer.getTransferredBytes();
+            event.succeeded = transfer.getException() == null;
+            event.failure = transfer.getException() == null ? null : transfer.getException().getMessage();
+            event.commit();
+        }
+    }
+
+    static void endFilter(final Object handle, final Object[] filters, final int evaluated, final int rejected,
+            final long filterTimeNanos) {
+        final FilterEvent event = (FilterEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            final StringBuilder names = new StringBuilder();
+            for (Object filter : filters) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                }
+                names.append(filter.getClass().getSimpleName());
+            }
+            event.filters = names.toString();
+            event.evaluated = evaluated;
+            event.rejected = rejected;
+            event.filterTime = filterTimeNanos;
+            event.commit();
+        }
+    }
+
+    static void endFormat(final Object handle, final Class<?> format, final int artifacts) {
+        final FormatEvent event = (FormatEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.format = format.getName();
+            event.artifacts = artifacts;
+            event.commit();
+        }
+    }
+
+    private static String path(final File file) {
+        return file == null ? null : file.getAbsolutePath();
+    }
+
+    private static String repositoryIds(final List<RemoteRepository> repositories) {
+        final StringBuilder ids = new StringBuilder();
+        for (RemoteRepository repository : repositories) {
+            if (ids.length() > 0) {
+                ids.append(", ");
+            }
+            ids.append(repository.getId());
+        }
+        return ids.toString();
+    }
+
+    private static int countNodes(final DependencyNode root) {
+        final int[] count = new int[1];
+        root.accept(new DependencyVisitor() {
+            @Override
+            public boolean visitEnter(final DependencyNode node) {
+                count[0]++;
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(final DependencyNode node) {
+                return true;
+            }
+        });
+        return count[0];
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.SessionBootstrap")
+    @Label("Session Bootstrap")
+    @Description("Creation of a repository system session")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    static final class SessionBootstrapEvent extends Event {
+        @Label("Local Repository")
+        String localRepository;
+
+        @Label("Offline")
+        boolean offline;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.SettingsBuild")
+    @Label("Settings Build")
+    @Description("Building of Maven settings")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    static final class SettingsBuildEvent extends Event {
+        @Label("User Settings")
+        String userSettings;
+
+        @Label("Global Settings")
+        String globalSettings;
+
+        @Label("Cached")
+        boolean cached;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.EffectivePomBuild")
+    @Label("Effective POM Build")
+    @Description("Building of an effective POM from a pom.xml file")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    static final class EffectivePomBuildEvent extends Event {
+        @Label("POM File")
+        String pomFile;
+
+        @Label("Coordinates")
+        String coordinates;
+
+        @Label("Dependencies")
+        int dependencies;
+
+        @Label("Cached")
+        boolean cached;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.Collect")
+    @Label("Dependency Collection")
+    @Description("Collection of a dependency graph")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    static final class CollectEvent extends Event {
+        @Label("Dependencies")
+        String dependencies;
+
+        @Label("Repositories")
+        String repositories;
+
+        @Label("Nodes")
+        int nodes;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.Resolve")
+    @Label("Artifact Resolution")
+    @Description("Resolution of artifacts of collected dependency graphs")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    static final class ResolveEvent extends Event {
+        @Label("Artifacts")
+        int artifacts;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.Transfer")
+    @Label("Artifact Transfer")
+    @Description("Transfer of a single file from or to a remote repository")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    @StackTrace(false)
+    static final class TransferEvent extends Event {
+        @Label("Repository Id")
+        String repositoryId;
+
+        @Label("Repository URL")
+        String repositoryUrl;
+
+        @Label("Resource")
+        String resource;
+
+        @Label("Request Type")
+        String requestType;
+
+        @Label("Size")
+        @DataAmount
+        long size;
+
+        @Label("Succeeded")
+        boolean succeeded;
+
+        @Label("Failure")
+        String failure;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.Filter")
+    @Label("Dependency Filtering")
+    @Description("Filtering of a collected dependency graph by resolution filters")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    @StackTrace(false)
+    static final class FilterEvent extends Event {
+        @Label("Filters")
+        String filters;
+
+        @Label("Evaluated Nodes")
+        int evaluated;
+
+        @Label("Rejected Nodes")
+        int rejected;
+
+        @Label("Filter Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long filterTime;
+    }
+
+    @Name("org.jboss.shrinkwrap.resolver.maven.Format")
+    @Label("Format Conversion")
+    @Description("Conversion of resolved artifacts to the requested format")
+    @Category({ "ShrinkWrap Resolver", "Maven" })
+    static final class FormatEvent extends Event {
+        @Label("Format")
+        String format;
+
+        @Label("Artifacts")
+        int artifacts;
+    }
+}
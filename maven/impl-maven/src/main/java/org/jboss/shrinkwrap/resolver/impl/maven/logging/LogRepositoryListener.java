@@ -28,7 +28,8 @@ import org.eclipse.aether.RepositoryEvent;
 /**
  * A listener which reports Maven repository event to a logger.
  * <p>
- * The logger is shared with {@link LogTransferListener}
+ * The logger is shared with {@link LogTransferListener}. Resolved and downloaded artifacts are also recorded by the
+ * {@link ResolutionMetricsRecorder} of the session, if any.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  *
@@ -111,6 +112,25 @@ public class LogRepositoryListener extends AbstractRepositoryListener {
     @Override
     public void artifactResolved(RepositoryEvent event) {
         log.fine("Resolved artifact " + event.getArtifact() + " from " + event.getRepository());
+
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(event.getSession());
+        if (metrics != null && event.getException() == null && event.getArtifact().getFile() != null) {
+            metrics.artifactResolved(event.getArtifact());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.eclipse.aether.util.listener.AbstractRepositoryListener#artifactDownloaded
+     * (org.eclipse.aether.RepositoryEvent)
+     */
+    @Override
+    public void artifactDownloaded(RepositoryEvent event) {
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(event.getSession());
+        if (metrics != null && event.getException() == null) {
+            metrics.artifactDownloaded();
+        }
     }
 
     /*
@@ -30,11 +30,13 @@ import java.util.logging.Logger;
 import org.eclipse.aether.transfer.AbstractTransferListener;
 import org.eclipse.aether.transfer.TransferEvent;
 import org.eclipse.aether.transfer.TransferResource;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.FlightRecorderEvents;
 
 /**
  * A listener which reports Maven transfer events to a logger.
  * <p>
- * The logger is shared with {@link LogRepositoryListener}.
+ * The logger is shared with {@link LogRepositoryListener}. Transfers are also recorded by the
+ * {@link ResolutionMetricsRecorder} of the session, if any.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  *
@@ -46,6 +48,9 @@ public class LogTransferListener extends AbstractTransferListener {
     // a map of transferred data sizes for the last notification
     private final Map<TransferResource, Long> downloads = new ConcurrentHashMap<>();
 
+    // Flight Recorder events of transfers in progress, empty unless transfers are recorded
+    private final Map<TransferResource, Object> transferEvents = new ConcurrentHashMap<>();
+
     // a minimal amount of data transferred for an artifact required to inform
     // the user
     private static final long TRANSFER_THRESHOLD = 1024 * 50;
@@ -62,6 +67,10 @@ public class LogTransferListener extends AbstractTransferListener {
         String string = (event.getRequestType() == TransferEvent.RequestType.PUT ? "Uploading" : "Downloading") + ":" +
                 resource.getRepositoryUrl() + resource.getResourceName();
         downloads.put(resource, 0L);
+        final Object transferEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.TRANSFER);
+        if (transferEvent != null) {
+            transferEvents.put(resource, transferEvent);
+        }
         log.fine(string);
     }
 
@@ -96,6 +105,14 @@ public class LogTransferListener extends AbstractTransferListener {
         TransferResource resource = event.getResource();
 
         downloads.remove(resource);
+        if (!transferEvents.isEmpty()) {
+            FlightRecorderEvents.endTransfer(transferEvents.remove(resource), event);
+        }
+
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(event.getSession());
+        if (metrics != null) {
+            metrics.transferSucceeded(event);
+        }
 
         long contentLength = event.getTransferredBytes();
         if (contentLength >= 0) {
@@ -122,6 +139,14 @@ public class LogTransferListener extends AbstractTransferListener {
         TransferResource resource = event.getResource();
 
         downloads.remove(resource);
+        if (!transferEvents.isEmpty()) {
+            FlightRecorderEvents.endTransfer(transferEvents.remove(resource), event);
+        }
+
+        final ResolutionMetricsRecorder metrics = ResolutionMetricsRecorder.get(event.getSession());
+        if (metrics != null) {
+            metrics.transferFailed();
+        }
 
         StringBuilder sb = new StringBuilder().append("Failed")
             .append(event.getRequestType() == TransferEvent.RequestType.PUT ? " uploading " : " downloading ")
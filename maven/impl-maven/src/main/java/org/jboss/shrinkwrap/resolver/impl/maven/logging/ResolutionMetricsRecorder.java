@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+
+/**
+ * Records {@link ResolutionMetrics} of a single resolution.
+ * <p>
+ * The recorder is stored in the configuration of the repository system session for the duration of the resolution, so
+ * that {@link LogTransferListener} and {@link LogRepositoryListener} can feed it with events of any thread. Unlike the
+ * session data, the configuration is not shared by copies of the session, so resolutions running concurrently in forked
+ * sessions are recorded separately, while copies made by Maven Resolver itself inherit the recorder. Sessions without a
+ * recorder cost the listeners a single lookup. This class is thread-safe.
+ */
+public final class ResolutionMetricsRecorder {
+
+    private static final String KEY = ResolutionMetricsRecorder.class.getName();
+
+    private final AtomicLong collectTimeNanos = new AtomicLong();
+    private final AtomicLong resolveTimeNanos = new AtomicLong();
+    private final AtomicInteger descriptors = new AtomicInteger();
+    private final AtomicInteger resolvedArtifacts = new AtomicInteger();
+    private final AtomicInteger downloadedArtifacts = new AtomicInteger();
+    private final AtomicInteger failedTransfers = new AtomicInteger();
+    private final Map<String, LongAdder> downloadedBytes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> transferTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Starts recording metrics of a resolution done within given session
+     *
+     * @param session The repository system session
+     * @return The recorder
+     */
+    public static ResolutionMetricsRecorder start(final DefaultRepositorySystemSession session) {
+        final ResolutionMetricsRecorder recorder = new ResolutionMetricsRecorder();
+        session.setConfigProperty(KEY, recorder);
+        return recorder;
+    }
+
+    /**
+     * Returns the recorder of the resolution currently done within given session
+     *
+     * @param session The repository system session
+     * @return The recorder, or {@code null} if metrics are not recorded
+     */
+    public static ResolutionMetricsRecorder get(final RepositorySystemSession session) {
+        return session == null ? null : (ResolutionMetricsRecorder) session.getConfigProperties().get(KEY);
+    }
+
+    /**
+     * Stops recording metrics within given session
+     *
+     * @param session The repository system session
+     * @return Metrics recorded so far
+     */
+    public ResolutionMetrics stop(final DefaultRepositorySystemSession session) {
+        session.setConfigProperty(KEY, null);
+        return snapshot();
+    }
+
+    /**
+     * Adds time spent collecting the dependency graph
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public void collected(final long nanos) {
+        collectTimeNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Adds time spent resolving artifacts of the dependency graph
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public void resolved(final long nanos) {
+        resolveTimeNanos.addAndGet(nanos);
+    }
+
+    void artifactResolved(final Artifact artifact) {
+        resolvedArtifacts.incrementAndGet();
+        if ("pom".equals(artifact.getExtension())) {
+            descriptors.incrementAndGet();
+        }
+    }
+
+    void artifactDownloaded() {
+        downloadedArtifacts.incrementAndGet();
+    }
+
+    void transferSucceeded(final TransferEvent event) {
+        if (event.getRequestType() != TransferEvent.RequestType.GET) {
+            return;
+        }
+        final TransferResource resource = event.getResource();
+        downloadedBytes.computeIfAbsent(resource.getRepositoryId(), id -> new LongAdder())
+            .add(event.getTransferredBytes());
+        transferTimes.computeIfAbsent(resource.getRepositoryUrl() + resource.getResourceName(), url -> new LongAdder())
+            .add(System.currentTimeMillis() - resource.getTransferStartTime());
+    }
+
+    void transferFailed() {
+        failedTransfers.incrementAndGet();
+    }
+
+    /**
+     * Returns metrics recorded so far
+     *
+     * @return The metrics
+     */
+    public ResolutionMetrics snapshot() {
+        final ResolutionMetrics.Builder builder = new ResolutionMetrics.Builder()
+            .collectTimeNanos(collectTimeNanos.get())
+            .resolveTimeNanos(resolveTimeNanos.get())
+            .descriptorCount(descriptors.get())
+            .resolvedArtifactCount(resolvedArtifacts.get())
+            .downloadedArtifactCount(downloadedArtifacts.get())
+            .failedTransferCount(failedTransfers.get());
+        for (Map.Entry<String, LongAdder> entry : downloadedBytes.entrySet()) {
+            builder.downloadedBytes(entry.getKey(), entry.getValue().sum());
+        }
+        for (Map.Entry<String, LongAdder> entry : transferTimes.entrySet()) {
+            builder.transferTimeMillis(entry.getKey(), entry.getValue().sum());
+        }
+        return builder.build();
+    }
+}
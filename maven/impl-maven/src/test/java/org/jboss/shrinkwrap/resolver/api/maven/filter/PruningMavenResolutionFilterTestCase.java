@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.api.maven.filter;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests pruning by {@link PruningMavenResolutionFilter} implementations.
+ */
+public class PruningMavenResolutionFilterTestCase {
+
+    private static final List<MavenDependency> NO_ANCESTORS = Collections.emptyList();
+
+    @Test
+    public void rejectDependenciesFilterPrunesBannedDependency() {
+        final RejectDependenciesFilter filter = new RejectDependenciesFilter("org.example:framework");
+        final MavenDependency parent = dependency("org.example:app:1.0", ScopeType.COMPILE);
+
+        Assert.assertTrue(filter.prunes(dependency("org.example:framework:1.0", ScopeType.COMPILE), NO_ANCESTORS));
+        Assert.assertTrue(filter.prunes(dependency("org.example:framework:2.0", ScopeType.RUNTIME),
+            Collections.singletonList(parent)));
+        Assert.assertFalse(filter.prunes(dependency("org.example:library:1.0", ScopeType.COMPILE), NO_ANCESTORS));
+    }
+
+    @Test
+    public void rejectDependenciesFilterKeepsTransitivesIfRequested() {
+        final RejectDependenciesFilter filter = new RejectDependenciesFilter(false, "org.example:framework");
+        Assert.assertFalse(filter.prunes(dependency("org.example:framework:1.0", ScopeType.COMPILE), NO_ANCESTORS));
+    }
+
+    @Test
+    public void scopeFilterDoesNotPrune() {
+        // dependencies rejected by their scope still take part in version mediation
+        Assert.assertFalse(PruningMavenResolutionFilter.class.isAssignableFrom(ScopeFilter.class));
+    }
+
+    private static MavenDependency dependency(String coordinates, ScopeType scope) {
+        return MavenDependencies.createDependency(coordinates, scope, false);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.Iterator;
+
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link DependencyManagementSet}.
+ */
+public class DependencyManagementSetTestCase {
+
+    @Test
+    public void lookupIgnoresVersion() {
+        final DependencyManagementSet set = new DependencyManagementSet();
+        set.add(dependency("org.example:managed:jar:1.0"));
+
+        Assert.assertEquals("1.0", set.get(dependency("org.example:managed:jar:?")).getVersion());
+        Assert.assertNull(set.get(dependency("org.example:managed:jar:tests:?")));
+        Assert.assertNull(set.get(dependency("org.example:other:jar:?")));
+    }
+
+    @Test
+    public void firstAddedDependencyWins() {
+        final DependencyManagementSet set = new DependencyManagementSet();
+        Assert.assertTrue(set.add(dependency("org.example:managed:jar:1.0")));
+        Assert.assertFalse(set.add(dependency("org.example:managed:jar:2.0")));
+
+        Assert.assertEquals(1, set.size());
+        Assert.assertEquals("1.0", set.get(dependency("org.example:managed:jar:?")).getVersion());
+    }
+
+    @Test
+    public void removalKeepsIndexConsistent() {
+        final DependencyManagementSet set = new DependencyManagementSet();
+        set.add(dependency("org.example:first:jar:1.0"));
+        set.add(dependency("org.example:second:jar:1.0"));
+
+        final Iterator<MavenDependency> iterator = set.iterator();
+        Assert.assertEquals("first", iterator.next().getArtifactId());
+        iterator.remove();
+
+        Assert.assertNull(set.get(dependency("org.example:first:jar:?")));
+        Assert.assertNotNull(set.get(dependency("org.example:second:jar:?")));
+
+        set.clear();
+        Assert.assertNull(set.get(dependency("org.example:second:jar:?")));
+    }
+
+    private static MavenDependency dependency(String coordinates) {
+        return MavenDependencies.createDependency(coordinates, ScopeType.COMPILE, false);
+    }
+}
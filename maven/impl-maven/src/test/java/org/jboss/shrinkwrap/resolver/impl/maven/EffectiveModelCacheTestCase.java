@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.apache.maven.model.Model;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that effective models are reused by {@link EffectiveModelCache} until any of their inputs changes.
+ */
+public class EffectiveModelCacheTestCase {
+
+    private static final File DIRECTORY = new File("target/effective-model-cache");
+    private static final File CHILD = new File(DIRECTORY, "test-child.xml");
+    private static final File PARENT = new File(DIRECTORY, "test-parent.xml");
+
+    @Before
+    public void copyPoms() throws Exception {
+        TestFileUtil.removeDirectory(DIRECTORY);
+        Files.createDirectories(DIRECTORY.toPath());
+        Files.copy(new File("target/poms/test-child.xml").toPath(), CHILD.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(new File("target/poms/test-parent.xml").toPath(), PARENT.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @After
+    public void removePoms() throws Exception {
+        TestFileUtil.removeDirectory(DIRECTORY);
+    }
+
+    @Test
+    public void modelIsBuiltOnce() {
+        final EffectiveModelCache cache = EffectiveModelCache.getInstance();
+        final long misses = cache.getMissCount();
+        final long hits = cache.getHitCount();
+
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals("test-child", loadModel().getArtifactId());
+        }
+
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+        Assert.assertEquals(hits + 199, cache.getHitCount());
+    }
+
+    @Test
+    public void modelIsCopied() {
+        loadModel().setArtifactId("modified");
+        Assert.assertEquals("test-child", loadModel().getArtifactId());
+    }
+
+    @Test
+    public void modifiedPomIsRebuilt() {
+        loadModel();
+        assertRebuiltAfterModification(CHILD);
+    }
+
+    @Test
+    public void modifiedParentIsRebuilt() {
+        loadModel();
+        assertRebuiltAfterModification(PARENT);
+    }
+
+    @Test
+    public void differentPropertiesAreNotReused() {
+        loadModel();
+
+        final EffectiveModelCache cache = EffectiveModelCache.getInstance();
+        final long misses = cache.getMissCount();
+        final Properties properties = new Properties();
+        properties.setProperty("effective.model.cache", "true");
+        new MavenWorkingSessionImpl().loadPomFromFile(CHILD, properties);
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void differentProfilesAreNotReused() {
+        loadModel();
+
+        final EffectiveModelCache cache = EffectiveModelCache.getInstance();
+        final long misses = cache.getMissCount();
+        Maven.resolver().loadPomFromFile(CHILD, "some-profile");
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void differentRepositoriesAreNotReused() {
+        loadModel();
+
+        final EffectiveModelCache cache = EffectiveModelCache.getInstance();
+        final long misses = cache.getMissCount();
+        Maven.configureResolver().withRemoteRepo("effective-model-cache", "http://localhost:1/repository", "default")
+            .loadPomFromFile(CHILD);
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void offlineModeIsNotReused() {
+        loadModel();
+
+        final EffectiveModelCache cache = EffectiveModelCache.getInstance();
+        final long misses = cache.getMissCount();
+        Maven.configureResolver().workOffline().loadPomFromFile(CHILD);
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    private void assertRebuiltAfterModification(File file) {
+        Assert.assertTrue(file.setLastModified(file.lastModified() - 10000L));
+
+        final EffectiveModelCache cache = EffectiveModelCache.getInstance();
+        final long misses = cache.getMissCount();
+        loadModel();
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    private static Model loadModel() {
+        final MavenWorkingSession session = ((MavenWorkingSessionContainer) Maven.resolver().loadPomFromFile(CHILD))
+            .getMavenWorkingSession();
+        return session.getParsedPomFile().getModel();
+    }
+}
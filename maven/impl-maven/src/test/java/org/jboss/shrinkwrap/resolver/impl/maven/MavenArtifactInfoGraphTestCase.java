@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that artifacts of a single resolution share their dependency graph
+ */
+public class MavenArtifactInfoGraphTestCase {
+
+    @Test
+    public void sharedNodeIsMaterializedOnce() {
+        final DefaultDependencyNode shared = node("org.example:shared:1");
+        shared.setChildren(Collections.singletonList(node("org.example:leaf:1")));
+
+        final DefaultDependencyNode first = node("org.example:first:1");
+        first.setChildren(Collections.singletonList(shared));
+        final DefaultDependencyNode second = node("org.example:second:1");
+        second.setChildren(Collections.singletonList(shared));
+
+        final MavenArtifactInfoGraph graph = new MavenArtifactInfoGraph();
+        final MavenResolvedArtifact firstArtifact = MavenResolvedArtifactImpl.fromArtifactResult(result(first), graph);
+        final MavenResolvedArtifact secondArtifact = MavenResolvedArtifactImpl.fromArtifactResult(result(second), graph);
+
+        final MavenArtifactInfo sharedInfo = firstArtifact.getDependencies()[0];
+        Assert.assertEquals("shared", sharedInfo.getCoordinate().getArtifactId());
+        Assert.assertSame(sharedInfo, secondArtifact.getDependencies()[0]);
+        Assert.assertSame(firstArtifact.getDependencies(), firstArtifact.getDependencies());
+        Assert.assertEquals("leaf", sharedInfo.getDependencies()[0].getCoordinate().getArtifactId());
+        Assert.assertEquals(0, sharedInfo.getDependencies()[0].getDependencies().length);
+    }
+
+    @Test
+    public void cyclicGraphIsCopied() {
+        final DefaultDependencyNode first = node("org.example:first:1");
+        final DefaultDependencyNode second = node("org.example:second:1");
+        first.setChildren(Collections.singletonList(second));
+        second.setChildren(Collections.singletonList(first));
+
+        final MavenArtifactInfo info = new MavenArtifactInfoGraph().getArtifactInfos(
+            Collections.singletonList(first))[0];
+        Assert.assertSame(info, info.getDependencies()[0].getDependencies()[0]);
+    }
+
+    @Test
+    public void subclassCanMaterializeDependenciesEagerly() {
+        final DefaultDependencyNode node = node("org.example:first:1");
+        node.setChildren(Collections.singletonList(node("org.example:leaf:1")));
+
+        final EagerArtifactInfo info = new EagerArtifactInfo(node);
+        Assert.assertSame(info.getDependencies(), info.dependencies);
+        Assert.assertEquals("leaf", info.dependencies[0].getCoordinate().getArtifactId());
+    }
+
+    private static DefaultDependencyNode node(String coordinates) {
+        return new DefaultDependencyNode(new Dependency(new DefaultArtifact(coordinates)
+            .setFile(new File("target/" + coordinates.replace(':', '-') + ".jar")), "compile"));
+    }
+
+    /**
+     * Subclass using the constructor which materializes dependencies right away
+     */
+    private static final class EagerArtifactInfo extends MavenArtifactInfoImpl {
+        private EagerArtifactInfo(DependencyNode node) {
+            super(node.getArtifact(), ScopeType.COMPILE, node.getChildren(), false);
+        }
+    }
+
+    private static ArtifactResult result(DefaultDependencyNode node) {
+        final ArtifactResult result = new ArtifactResult(new ArtifactRequest(node));
+        result.setArtifact(node.getArtifact());
+        return result;
+    }
+}
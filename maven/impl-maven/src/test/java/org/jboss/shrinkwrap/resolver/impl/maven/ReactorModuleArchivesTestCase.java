@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.ZipFile;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Ensures that {@link ReactorModuleArchives} packages a directory only once for each of its states.
+ */
+public class ReactorModuleArchivesTestCase {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private File cacheDirectory;
+    private File moduleDirectory;
+
+    @Before
+    public void setCacheDirectory() throws Exception {
+        cacheDirectory = tempFolder.newFolder("cache");
+        moduleDirectory = tempFolder.newFolder("classes");
+        Files.write(new File(moduleDirectory, "a.txt").toPath(), "a".getBytes(StandardCharsets.UTF_8));
+        System.setProperty(ReactorModuleArchives.CACHE_DIRECTORY_KEY, cacheDirectory.getAbsolutePath());
+    }
+
+    @After
+    public void clearCacheDirectory() {
+        System.clearProperty(ReactorModuleArchives.CACHE_DIRECTORY_KEY);
+    }
+
+    @Test
+    public void unchangedDirectoryIsPackagedOnce() throws Exception {
+        final File archive = ReactorModuleArchives.archive(moduleDirectory, "module", "jar");
+        Assert.assertTrue(archive.setLastModified(archive.lastModified() - 10000L));
+        final long lastModified = archive.lastModified();
+
+        Assert.assertEquals(archive, ReactorModuleArchives.archive(moduleDirectory, "module", "jar"));
+        Assert.assertEquals(lastModified, archive.lastModified());
+        Assert.assertTrue(archive.getName().startsWith("module-"));
+        Assert.assertTrue(archive.getName().endsWith(".jar"));
+    }
+
+    @Test
+    public void changedDirectoryIsRepackaged() throws Exception {
+        final File archive = ReactorModuleArchives.archive(moduleDirectory, "module", "jar");
+
+        final File subdirectory = new File(moduleDirectory, "sub");
+        Assert.assertTrue(subdirectory.mkdir());
+        Files.write(new File(subdirectory, "b.txt").toPath(), "b".getBytes(StandardCharsets.UTF_8));
+        final File repackaged = ReactorModuleArchives.archive(moduleDirectory, "module", "jar");
+
+        Assert.assertNotEquals(archive, repackaged);
+        Assert.assertTrue("Recent archive of previous state was removed", archive.exists());
+        try (ZipFile zipFile = new ZipFile(repackaged)) {
+            Assert.assertNotNull(zipFile.getEntry("a.txt"));
+            Assert.assertNotNull(zipFile.getEntry("sub/b.txt"));
+            Assert.assertEquals(2, zipFile.size());
+        }
+    }
+
+    @Test
+    public void oldArchiveOfPreviousStateIsRemoved() throws Exception {
+        final File archive = ReactorModuleArchives.archive(moduleDirectory, "module", "jar");
+        final long old = System.currentTimeMillis() - 2 * ReactorModuleArchives.STALE_ARCHIVE_AGE;
+        Assert.assertTrue(archive.setLastModified(old));
+
+        Files.write(new File(moduleDirectory, "b.txt").toPath(), "b".getBytes(StandardCharsets.UTF_8));
+        final File repackaged = ReactorModuleArchives.archive(moduleDirectory, "module", "jar");
+
+        Assert.assertNotEquals(archive, repackaged);
+        Assert.assertFalse("Old archive of previous state was not removed", archive.exists());
+    }
+
+    @Test
+    public void sameSizeChangeWithOlderTimestampIsRepackaged() throws Exception {
+        final File file = new File(moduleDirectory, "a.txt");
+        Assert.assertTrue(file.setLastModified(file.lastModified() - 20000L));
+        final File archive = ReactorModuleArchives.archive(moduleDirectory, "module", "jar");
+
+        final long lastModified = file.lastModified();
+        Files.write(file.toPath(), "c".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(file.setLastModified(lastModified - 10000L));
+
+        Assert.assertNotEquals(archive, ReactorModuleArchives.archive(moduleDirectory, "module", "jar"));
+    }
+
+    @Test
+    public void differentDirectoriesAreNotShared() throws Exception {
+        final File otherDirectory = tempFolder.newFolder("other-classes");
+        Files.write(new File(otherDirectory, "a.txt").toPath(), "a".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(otherDirectory.setLastModified(moduleDirectory.lastModified()));
+
+        Assert.assertNotEquals(ReactorModuleArchives.archive(moduleDirectory, "module", "jar"),
+            ReactorModuleArchives.archive(otherDirectory, "module", "jar"));
+    }
+
+    @Test
+    public void reactorModuleIsPackagedOnDemand() throws Exception {
+        final File module = tempFolder.newFolder("module");
+        final File pom = new File(module, "pom.xml");
+        Files.write(pom.toPath(), "<project/>".getBytes(StandardCharsets.UTF_8));
+        final File classes = new File(module, "target/classes");
+        Assert.assertTrue(classes.mkdirs());
+        Files.write(new File(classes, "a.txt").toPath(), "a".getBytes(StandardCharsets.UTF_8));
+
+        final Artifact artifact = new DefaultArtifact("org.jboss.shrinkwrap.test:module:jar:1.0.0").setFile(pom);
+        final ArtifactResult result = new ArtifactResult(new ArtifactRequest(new DefaultDependencyNode(
+            new Dependency(artifact, "compile")))).setArtifact(artifact);
+        final MavenResolvedArtifact resolvedArtifact = MavenResolvedArtifactImpl.fromArtifactResult(result);
+
+        Assert.assertEquals(classes, resolvedArtifact.getExplodedDirectory());
+        Assert.assertEquals(0, cacheDirectory.list().length);
+
+        final File archive = resolvedArtifact.asFile();
+        Assert.assertEquals(cacheDirectory, archive.getParentFile());
+        try (ZipFile zipFile = new ZipFile(archive)) {
+            Assert.assertNotNull(zipFile.getEntry("a.txt"));
+        }
+    }
+
+    @Test
+    public void missingDirectoryIsPackagedEmpty() throws Exception {
+        final File archive = ReactorModuleArchives.archive(new File(moduleDirectory, "missing"), "module", "jar");
+        try (ZipFile zipFile = new ZipFile(archive)) {
+            Assert.assertEquals(0, zipFile.size());
+        }
+    }
+}
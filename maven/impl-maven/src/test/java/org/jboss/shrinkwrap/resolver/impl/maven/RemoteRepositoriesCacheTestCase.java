@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.maven.settings.Settings;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link RemoteRepositoriesCache} recomputes the effective repositories only if the inputs change
+ */
+public class RemoteRepositoriesCacheTestCase {
+
+    private static final RemoteRepository FOO = new RemoteRepository.Builder("foo", "default", "http://foo.example.org")
+        .build();
+    private static final RemoteRepository BAR = new RemoteRepository.Builder("bar", "default", "http://bar.example.org")
+        .build();
+
+    @Test
+    public void sameInputsAreCached() {
+        final RemoteRepositoriesCache cache = new RemoteRepositoriesCache();
+        final Settings settings = new Settings();
+        final AtomicInteger loads = new AtomicInteger();
+        final Supplier<List<RemoteRepository>> loader = countingLoader(loads);
+
+        final long hits = RemoteRepositoriesCache.getHitCount();
+        final long misses = RemoteRepositoriesCache.getMissCount();
+
+        final List<RemoteRepository> first = cache.get(settings, Collections.singletonList(FOO), true, loader);
+        final List<RemoteRepository> second = cache.get(settings, Arrays.asList(FOO), true, loader);
+
+        Assert.assertEquals("Effective repositories were computed only once", 1, loads.get());
+        Assert.assertSame(first, second);
+        Assert.assertEquals(hits + 1, RemoteRepositoriesCache.getHitCount());
+        Assert.assertEquals(misses + 1, RemoteRepositoriesCache.getMissCount());
+    }
+
+    @Test
+    public void changedRepositoriesAreRecomputed() {
+        final RemoteRepositoriesCache cache = new RemoteRepositoriesCache();
+        final Settings settings = new Settings();
+        final AtomicInteger loads = new AtomicInteger();
+        final Supplier<List<RemoteRepository>> loader = countingLoader(loads);
+
+        cache.get(settings, Collections.singletonList(FOO), true, loader);
+        cache.get(settings, Arrays.asList(FOO, BAR), true, loader);
+
+        Assert.assertEquals("Effective repositories were recomputed after a repository was added", 2, loads.get());
+    }
+
+    @Test
+    public void changedSettingsAreRecomputed() {
+        final RemoteRepositoriesCache cache = new RemoteRepositoriesCache();
+        final AtomicInteger loads = new AtomicInteger();
+        final Supplier<List<RemoteRepository>> loader = countingLoader(loads);
+
+        cache.get(new Settings(), Collections.singletonList(FOO), true, loader);
+        cache.get(new Settings(), Collections.singletonList(FOO), true, loader);
+
+        Assert.assertEquals("Effective repositories were recomputed for different settings", 2, loads.get());
+    }
+
+    @Test
+    public void changedCentralFlagIsRecomputed() {
+        final RemoteRepositoriesCache cache = new RemoteRepositoriesCache();
+        final Settings settings = new Settings();
+        final AtomicInteger loads = new AtomicInteger();
+        final Supplier<List<RemoteRepository>> loader = countingLoader(loads);
+
+        cache.get(settings, Collections.singletonList(FOO), true, loader);
+        cache.get(settings, Collections.singletonList(FOO), false, loader);
+
+        Assert.assertEquals("Effective repositories were recomputed after Maven Central was disabled", 2, loads.get());
+    }
+
+    private static Supplier<List<RemoteRepository>> countingLoader(final AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return Arrays.asList(FOO, BAR);
+        };
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven;
+
+import java.io.File;
+import java.util.Map;
+
+import org.eclipse.aether.ConfigurationProperties;
+import org.jboss.shrinkwrap.resolver.api.maven.ConfigurableMavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenDependencyCollector;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Ensures that tuning of the repository system is applied to the session of a single resolver system only.
+ */
+public class ResolverTuningTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    @Test
+    public void tuningIsAppliedToSession() {
+        final ConfigurableMavenResolverSystem resolver = Maven.configureResolver()
+            .withDownloadThreads(3)
+            .withDependencyCollector(MavenDependencyCollector.BREADTH_FIRST)
+            .withCollectorThreads(2)
+            .withMaxConnectionsPerRepository(10)
+            .withMaxConnectionsPerRepository("central", 4);
+
+        final Map<String, Object> properties = configProperties(resolver);
+        Assert.assertEquals(3, properties.get("aether.connector.basic.threads"));
+        Assert.assertEquals("bf", properties.get("aether.dependencyCollector.impl"));
+        Assert.assertEquals(2, properties.get("aether.dependencyCollector.bf.threads"));
+        Assert.assertEquals(10, properties.get(ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE));
+        Assert.assertEquals(4, properties.get(ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE + ".central"));
+    }
+
+    @Test
+    public void tuningSurvivesSettingsReload() {
+        final ConfigurableMavenResolverSystem resolver = Maven.configureResolver().withDownloadThreads(3);
+        resolver.fromFile(SETTINGS);
+
+        Assert.assertEquals(3, configProperties(resolver).get("aether.connector.basic.threads"));
+    }
+
+    @Test
+    public void tuningIsNotShared() {
+        Maven.configureResolver().withDependencyCollector(MavenDependencyCollector.BREADTH_FIRST);
+
+        Assert.assertNull(configProperties(Maven.configureResolver()).get("aether.dependencyCollector.impl"));
+    }
+
+    @Test
+    public void resolveWithBreadthFirstCollector() {
+        final File[] files = Maven.configureResolver()
+            .withDependencyCollector(MavenDependencyCollector.BREADTH_FIRST)
+            .withCollectorThreads(2)
+            .withDownloadThreads(2)
+            .fromFile(SETTINGS)
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+            .withTransitivity()
+            .asFile();
+
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(files);
+    }
+
+    @Test
+    public void lazyDownloadUsesSessionOfResolution() throws Exception {
+        final File localRepository = new File("target/lazy-tuning-repository");
+        TestFileUtil.removeDirectory(localRepository);
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, localRepository.getPath());
+        try {
+            final ConfigurableMavenResolverSystem resolver = Maven.configureResolver().withLazyDownload(true);
+            resolver.fromFile(SETTINGS);
+            final MavenResolvedArtifact artifact = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+                .withoutTransitivity().asSingleResolvedArtifact();
+
+            // changes of the session after the resolution do not affect the download
+            ((ConfigurableMavenWorkingSessionImpl) ((MavenWorkingSessionContainer) resolver).getMavenWorkingSession())
+                .getSession().setOffline(true);
+            Assert.assertTrue(artifact.asFile().isFile());
+        } finally {
+            System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+            TestFileUtil.removeDirectory(localRepository);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidDownloadThreads() {
+        Maven.configureResolver().withDownloadThreads(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void singleCollectorThread() {
+        Maven.configureResolver().withCollectorThreads(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingRepositoryId() {
+        Maven.configureResolver().withMaxConnectionsPerRepository("", 4);
+    }
+
+    private static Map<String, Object> configProperties(ConfigurableMavenResolverSystem resolver) {
+        return ((ConfigurableMavenWorkingSessionImpl) ((MavenWorkingSessionContainer) resolver)
+            .getMavenWorkingSession()).getSession().getConfigProperties();
+    }
+}
@@ -17,7 +17,10 @@
 package org.jboss.shrinkwrap.resolver.impl.maven.aether;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
 
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.junit.Rule;
 import org.junit.Test;
@@ -110,12 +113,44 @@ public class ClassPathScanningTestCase {
         testFindArtifactReturnsNotNull("test-revision-custom");
     }
 
-    private void testFindArtifactReturnsNotNull(String testDirName) {
-        final File classesDir = new File("target/poms/" + testDirName + "/child/target/classes");
-        // create empty target/classes dir (would otherwise require a dummy file in src because git does not like empty dirs)
-        if (!classesDir.isDirectory() && !classesDir.mkdirs()) {
-            throw new IllegalStateException("Could not create " + classesDir.getAbsolutePath());
+    /**
+     * Tests that {@code ClasspathWorkspaceReader} reports versions of artifacts present on the class path.
+     * <p/>
+     * Test data: {@code src/test/resources/poms/test-ordinary}
+     */
+    @Test
+    public void findVersionsOfDirectoryEntry() {
+        System.setProperty(SUREFIRE_CLASS_PATH_KEY, createClassesDir("test-ordinary").getAbsolutePath());
+
+        ClasspathWorkspaceReader reader = new ClasspathWorkspaceReader();
+
+        assertThat(reader.findVersions(new DefaultArtifact("org.jboss.shrinkwrap.test:test-ordinary-child:[1,)")),
+            is(Collections.singletonList("1.0.0")));
+        assertThat(reader.findVersions(new DefaultArtifact("foo:bar:[1,)")).isEmpty(), is(true));
+    }
+
+    /**
+     * Tests that the first of the matching class path entries wins, regardless of whether it is a directory or a file
+     */
+    @Test
+    public void firstMatchingEntryWins() throws IOException {
+        final File jar = new File("target/poms/jars/test-ordinary-child-1.0.0.jar");
+        jar.getParentFile().mkdirs();
+        if (!jar.isFile() && !jar.createNewFile()) {
+            throw new IllegalStateException("Could not create " + jar.getAbsolutePath());
         }
+        final String classesDir = createClassesDir("test-ordinary").getAbsolutePath();
+        final Artifact artifact = new DefaultArtifact("org.jboss.shrinkwrap.test:test-ordinary-child:1.0.0");
+
+        System.setProperty(SUREFIRE_CLASS_PATH_KEY, jar.getAbsolutePath() + File.pathSeparator + classesDir);
+        assertThat(new ClasspathWorkspaceReader().findArtifact(artifact), is(jar.getAbsoluteFile()));
+
+        System.setProperty(SUREFIRE_CLASS_PATH_KEY, classesDir + File.pathSeparator + jar.getAbsolutePath());
+        assertThat(new ClasspathWorkspaceReader().findArtifact(artifact).getName(), is("pom.xml"));
+    }
+
+    private void testFindArtifactReturnsNotNull(String testDirName) {
+        final File classesDir = createClassesDir(testDirName);
         System.setProperty(SUREFIRE_CLASS_PATH_KEY, classesDir.getAbsolutePath());
 
         ClasspathWorkspaceReader reader = new ClasspathWorkspaceReader();
@@ -123,4 +158,13 @@ public class ClassPathScanningTestCase {
         File file = reader.findArtifact(new DefaultArtifact("org.jboss.shrinkwrap.test:" + testDirName + "-child:1.0.0"));
         assertThat(file, is(notNullValue()));
     }
+
+    private File createClassesDir(String testDirName) {
+        final File classesDir = new File("target/poms/" + testDirName + "/child/target/classes");
+        // create empty target/classes dir (would otherwise require a dummy file in src because git does not like empty dirs)
+        if (!classesDir.isDirectory() && !classesDir.mkdirs()) {
+            throw new IllegalStateException("Could not create " + classesDir.getAbsolutePath());
+        }
+        return classesDir;
+    }
 }
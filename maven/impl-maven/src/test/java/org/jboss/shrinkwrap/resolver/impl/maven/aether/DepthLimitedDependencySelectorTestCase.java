@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link DepthLimitedDependencySelector}.
+ */
+public class DepthLimitedDependencySelectorTestCase {
+
+    private static final Dependency DEPENDENCY = new Dependency(new DefaultArtifact("org.example:example:1.0"),
+        "compile");
+
+    @Test
+    public void selectsUpToMaxDepth() {
+        // root of the request without a root dependency
+        final DependencySelector direct = new DepthLimitedDependencySelector(2).deriveChildSelector(context(null));
+        Assert.assertTrue(direct.selectDependency(DEPENDENCY));
+
+        final DependencySelector transitive = direct.deriveChildSelector(context(DEPENDENCY));
+        Assert.assertTrue(transitive.selectDependency(DEPENDENCY));
+
+        final DependencySelector deeper = transitive.deriveChildSelector(context(DEPENDENCY));
+        Assert.assertFalse(deeper.selectDependency(DEPENDENCY));
+        Assert.assertFalse(deeper.deriveChildSelector(context(DEPENDENCY)).selectDependency(DEPENDENCY));
+    }
+
+    @Test
+    public void equalSelectorsForEqualDepth() {
+        final DependencySelector first = new DepthLimitedDependencySelector(1).deriveChildSelector(context(DEPENDENCY));
+        final DependencySelector second = new DepthLimitedDependencySelector(1).deriveChildSelector(context(DEPENDENCY));
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+        Assert.assertNotEquals(first, new DepthLimitedDependencySelector(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxDepth() {
+        new DepthLimitedDependencySelector(0);
+    }
+
+    private static DependencyCollectionContext context(final Dependency dependency) {
+        return new DependencyCollectionContext() {
+            @Override
+            public RepositorySystemSession getSession() {
+                return null;
+            }
+
+            @Override
+            public Artifact getArtifact() {
+                return dependency != null ? dependency.getArtifact() : null;
+            }
+
+            @Override
+            public Dependency getDependency() {
+                return dependency;
+            }
+
+            @Override
+            public List<Dependency> getManagedDependencies() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
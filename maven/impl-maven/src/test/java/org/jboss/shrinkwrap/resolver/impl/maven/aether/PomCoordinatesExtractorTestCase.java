@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link PomCoordinatesExtractor}.
+ */
+public class PomCoordinatesExtractorTestCase {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void inheritsFromParent() throws Exception {
+        final Artifact artifact = PomCoordinatesExtractor.extract(new File("target/poms/test-ordinary/child/pom.xml"));
+
+        assertThat(artifact.toString(), is("org.jboss.shrinkwrap.test:test-ordinary-child:jar:1.0.0"));
+    }
+
+    @Test
+    public void ignoresNestedCoordinates() throws Exception {
+        final Artifact artifact = PomCoordinatesExtractor.extract(writePom(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<!-- comment -->\n"
+            + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <parent><groupId>parent.group</groupId><artifactId>parent</artifactId><version>1</version></parent>\n"
+            + "  <dependencies>\n"
+            + "    <dependency><groupId>foo</groupId><artifactId>bar</artifactId><version>2</version></dependency>\n"
+            + "  </dependencies>\n"
+            + "  <artifactId> child </artifactId>\n"
+            + "  <version>3</version>\n"
+            + "  <packaging>war</packaging>\n"
+            + "</project>\n"));
+
+        assertThat(artifact.toString(), is("parent.group:child:war:3"));
+    }
+
+    @Test
+    public void stopsOnceCoordinatesAreKnown() throws Exception {
+        // the unclosed element would make the parser fail if the dependencies were read
+        final Artifact artifact = PomCoordinatesExtractor.extract(writePom(
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "  <groupId>group</groupId>\n"
+            + "  <artifactId>artifact</artifactId>\n"
+            + "  <version>1</version>\n"
+            + "  <packaging>war</packaging>\n"
+            + "  <dependencies><dependency>\n"
+            + "</project>\n"));
+
+        assertThat(artifact.toString(), is("group:artifact:war:1"));
+    }
+
+    @Test
+    public void readsPackagingAfterOtherSections() throws Exception {
+        final Artifact artifact = PomCoordinatesExtractor.extract(writePom(
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "  <parent><groupId>parent.group</groupId><artifactId>parent</artifactId><version>1</version></parent>\n"
+            + "  <artifactId>child</artifactId>\n"
+            + "  <properties><packaging>ear</packaging></properties>\n"
+            + "  <dependencies><dependency><artifactId>dep</artifactId></dependency></dependencies>\n"
+            + "  <packaging>war</packaging>\n"
+            + "</project>\n"));
+
+        assertThat(artifact.toString(), is("parent.group:child:war:1"));
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void malformedPom() throws Exception {
+        PomCoordinatesExtractor.extract(writePom("<project><groupId>foo</project>"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingCoordinates() throws Exception {
+        PomCoordinatesExtractor.extract(writePom("<settings><groupId>foo</groupId></settings>"));
+    }
+
+    private File writePom(String content) throws IOException {
+        final File pom = temporaryFolder.newFile("pom.xml");
+        Files.write(pom.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return pom;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.aether;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.AcceptAllFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.PruningMavenResolutionFilter;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.RejectDependenciesFilter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link PruningDependencySelector}.
+ */
+public class PruningDependencySelectorTestCase {
+
+    private static final Dependency APP = dependency("org.example:app:1.0");
+    private static final Dependency LIBRARY = dependency("org.example:library:1.0");
+    private static final Dependency FRAMEWORK = dependency("org.example:framework:1.0");
+
+    @Test
+    public void noSelectorWithoutPruningFilters() {
+        Assert.assertNull(PruningDependencySelector.fromFilters(new MavenResolutionFilter[] { AcceptAllFilter.INSTANCE }));
+        Assert.assertNull(PruningDependencySelector.fromFilters(new MavenResolutionFilter[0]));
+    }
+
+    @Test
+    public void prunedDependencyIsNotSelected() {
+        final DependencySelector selector = PruningDependencySelector.fromFilters(new MavenResolutionFilter[] {
+            AcceptAllFilter.INSTANCE, new RejectDependenciesFilter("org.example:framework") }).deriveChildSelector(
+            context(null));
+
+        Assert.assertFalse(selector.selectDependency(FRAMEWORK));
+        Assert.assertTrue(selector.selectDependency(LIBRARY));
+        Assert.assertFalse(selector.deriveChildSelector(context(LIBRARY)).selectDependency(FRAMEWORK));
+    }
+
+    @Test
+    public void ancestorsArePassedClosestFirst() {
+        final List<List<String>> seenAncestors = new ArrayList<>();
+        final DependencySelector selector = PruningDependencySelector.fromFilters(new MavenResolutionFilter[] {
+            new RecordingFilter(seenAncestors) });
+
+        selector.selectDependency(APP);
+        selector.deriveChildSelector(context(APP)).deriveChildSelector(context(LIBRARY)).selectDependency(FRAMEWORK);
+
+        Assert.assertEquals(Collections.emptyList(), seenAncestors.get(0));
+        Assert.assertEquals(Arrays.asList("library", "app"), seenAncestors.get(1));
+    }
+
+    @Test
+    public void transitiveSelectorsAreEqualUnlessAncestorsAreRequired() {
+        final DependencySelector selector = PruningDependencySelector.fromFilters(new MavenResolutionFilter[] {
+            new RejectDependenciesFilter(false, "org.example:framework") });
+
+        Assert.assertEquals(selector.deriveChildSelector(context(APP)), selector.deriveChildSelector(context(LIBRARY)));
+        Assert.assertNotEquals(selector, selector.deriveChildSelector(context(APP)));
+
+        final DependencySelector requiringAncestors = PruningDependencySelector.fromFilters(
+            new MavenResolutionFilter[] { new RejectDependenciesFilter("org.example:framework") });
+        Assert.assertNotEquals(requiringAncestors.deriveChildSelector(context(APP)),
+            requiringAncestors.deriveChildSelector(context(LIBRARY)));
+        Assert.assertEquals(requiringAncestors.deriveChildSelector(context(APP)),
+            requiringAncestors.deriveChildSelector(context(APP)));
+    }
+
+    private static Dependency dependency(String coordinates) {
+        return new Dependency(new DefaultArtifact(coordinates), "compile");
+    }
+
+    private static DependencyCollectionContext context(final Dependency dependency) {
+        return new DependencyCollectionContext() {
+            @Override
+            public RepositorySystemSession getSession() {
+                return null;
+            }
+
+            @Override
+            public Artifact getArtifact() {
+                return dependency != null ? dependency.getArtifact() : null;
+            }
+
+            @Override
+            public Dependency getDependency() {
+                return dependency;
+            }
+
+            @Override
+            public List<Dependency> getManagedDependencies() {
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    private static final class RecordingFilter implements PruningMavenResolutionFilter {
+        private final List<List<String>> seenAncestors;
+
+        private RecordingFilter(List<List<String>> seenAncestors) {
+            this.seenAncestors = seenAncestors;
+        }
+
+        @Override
+        public boolean prunes(MavenDependency dependency, List<MavenDependency> dependencyAncestors) {
+            final List<String> artifactIds = new ArrayList<>();
+            for (MavenDependency ancestor : dependencyAncestors) {
+                artifactIds.add(ancestor.getArtifactId());
+            }
+            seenAncestors.add(artifactIds);
+            return false;
+        }
+
+        @Override
+        public boolean accepts(MavenDependency dependency, List<MavenDependency> dependenciesForResolution,
+            List<MavenDependency> dependencyAncestors) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependency;
+import org.jboss.shrinkwrap.resolver.api.maven.filter.MavenResolutionFilter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link MavenResolutionFilterWrap}.
+ */
+public class MavenResolutionFilterWrapTestCase {
+
+    private final DependencyNode root = new DefaultDependencyNode((Dependency) null);
+    private final DependencyNode parent = node("org.example:parent:1");
+    private final DependencyNode child = node("org.example:child:1");
+
+    @Test
+    public void ancestorsExcludeRootAndAreConvertedOnce() {
+        final RecordingFilter filter = new RecordingFilter(true);
+        final MavenResolutionFilterWrap wrap = wrap(filter);
+
+        Assert.assertTrue(wrap.accept(parent, Collections.singletonList(root)));
+        Assert.assertTrue(wrap.accept(child, Arrays.asList(parent, root)));
+
+        Assert.assertEquals(0, filter.ancestors.get(0).size());
+        final List<MavenDependency> childAncestors = filter.ancestors.get(1);
+        Assert.assertEquals(1, childAncestors.size());
+        Assert.assertSame("Ancestor reuses conversion of the previously filtered node", filter.candidates.get(0),
+            childAncestors.get(0));
+    }
+
+    @Test
+    public void ancestorsAreSkippedIfNotRequired() {
+        final RecordingFilter filter = new RecordingFilter(false);
+        final MavenResolutionFilterWrap wrap = wrap(filter);
+
+        Assert.assertTrue(wrap.accept(child, Arrays.asList(parent, root)));
+        Assert.assertTrue(filter.ancestors.get(0).isEmpty());
+    }
+
+    @Test
+    public void rootIsRejected() {
+        Assert.assertFalse(wrap(new RecordingFilter(true)).accept(root, Collections.<DependencyNode>emptyList()));
+    }
+
+    private static MavenResolutionFilterWrap wrap(MavenResolutionFilter filter) {
+        return new MavenResolutionFilterWrap(new MavenResolutionFilter[] { filter },
+            Collections.<MavenDependency>emptyList());
+    }
+
+    private static DependencyNode node(String coordinates) {
+        return new DefaultDependencyNode(new Dependency(new DefaultArtifact(coordinates), "compile"));
+    }
+
+    private static final class RecordingFilter implements MavenResolutionFilter {
+        private final boolean requiresAncestors;
+        private final List<MavenDependency> candidates = new ArrayList<>();
+        private final List<List<MavenDependency>> ancestors = new ArrayList<>();
+
+        private RecordingFilter(boolean requiresAncestors) {
+            this.requiresAncestors = requiresAncestors;
+        }
+
+        @Override
+        public boolean accepts(MavenDependency dependency, List<MavenDependency> dependenciesForResolution,
+                List<MavenDependency> dependencyAncestors) {
+            candidates.add(dependency);
+            ancestors.add(dependencyAncestors);
+            return true;
+        }
+
+        @Override
+        public boolean requiresAncestors() {
+            return requiresAncestors;
+        }
+    }
+}
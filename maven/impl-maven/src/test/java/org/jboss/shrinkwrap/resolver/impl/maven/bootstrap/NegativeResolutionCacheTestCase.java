@@ -0,0 +1,265 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import org.eclipse.aether.util.repository.AuthenticationBuilder;
+import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that {@link NegativeResolutionCache} prevents repositories from being asked for missing artifacts again and
+ * skips repositories which fail to respond.
+ */
+public class NegativeResolutionCacheTestCase {
+
+    private static final File DIRECTORY = new File("target/negative-cache");
+    private static final File LOCAL_REPOSITORY = new File(DIRECTORY, "local");
+    private static final File REMOTE_REPOSITORY = new File(DIRECTORY, "remote");
+
+    private static final String ARTIFACT = "org.jboss.shrinkwrap.test:negative-cache:1.0.0";
+
+    private final NegativeResolutionCache cache = NegativeResolutionCache.getInstance();
+
+    @Before
+    public void prepareRepositories() throws Exception {
+        TestFileUtil.removeDirectory(DIRECTORY);
+        Files.createDirectories(REMOTE_REPOSITORY.toPath());
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY.getAbsolutePath());
+        System.setProperty(NegativeResolutionCache.NEGATIVE_CACHE_KEY, "true");
+        cache.clear();
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        System.clearProperty(NegativeResolutionCache.TTL_KEY);
+        System.clearProperty(NegativeResolutionCache.NEGATIVE_CACHE_KEY);
+        cache.clear();
+        TestFileUtil.removeDirectory(DIRECTORY);
+    }
+
+    @Test
+    public void missingArtifactIsNotLookedUpAgain() throws Exception {
+        final long misses = cache.getMissCount();
+        assertNotResolvable(REMOTE_REPOSITORY.toURI().toString());
+        Assert.assertTrue("Remote repository should have been asked for the artifact", cache.getMissCount() > misses);
+
+        // the artifact is still reported as missing, as the repository is not asked for it again
+        deploy();
+        final long hits = cache.getHitCount();
+        assertNotResolvable(REMOTE_REPOSITORY.toURI().toString());
+        Assert.assertTrue("Remote repository should not have been asked for the artifact", cache.getHitCount() > hits);
+
+        cache.clear();
+        Assert.assertEquals("negative-cache-1.0.0.jar", resolve(REMOTE_REPOSITORY.toURI().toString()).getName());
+    }
+
+    @Test
+    public void expiredMissIsLookedUpAgain() throws Exception {
+        System.setProperty(NegativeResolutionCache.TTL_KEY, "0");
+        assertNotResolvable(REMOTE_REPOSITORY.toURI().toString());
+
+        deploy();
+        Assert.assertEquals("negative-cache-1.0.0.jar", resolve(REMOTE_REPOSITORY.toURI().toString()).getName());
+    }
+
+    @Test
+    public void disabledCacheLooksUpMissingArtifactAgain() throws Exception {
+        System.setProperty(NegativeResolutionCache.NEGATIVE_CACHE_KEY, "false");
+        assertNotResolvable(REMOTE_REPOSITORY.toURI().toString());
+
+        deploy();
+        Assert.assertEquals("negative-cache-1.0.0.jar", resolve(REMOTE_REPOSITORY.toURI().toString()).getName());
+    }
+
+    @Test
+    public void cacheIsDisabledByDefault() {
+        System.clearProperty(NegativeResolutionCache.NEGATIVE_CACHE_KEY);
+        Assert.assertFalse(NegativeResolutionCache.isEnabled());
+    }
+
+    @Test
+    public void repositoryWithDifferentCredentialsIsAskedAgain() {
+        final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        final Artifact artifact = new DefaultArtifact(ARTIFACT);
+        final RemoteRepository anonymous = new RemoteRepository.Builder("repository", "default",
+            "http://localhost/repository/").build();
+        final RemoteRepository authenticated = new RemoteRepository.Builder(anonymous).setAuthentication(
+            new AuthenticationBuilder().addUsername("user").addPassword("secret").build()).build();
+
+        cache.missing(session, artifact, anonymous);
+        Assert.assertTrue(cache.filter(session, artifact, Collections.singletonList(anonymous)).isEmpty());
+        Assert.assertEquals(Collections.singletonList(authenticated), cache.filter(session, artifact,
+            Collections.singletonList(authenticated)));
+    }
+
+    @Test
+    public void sessionWithDifferentUpdatePolicyAsksAgain() {
+        final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        final Artifact artifact = new DefaultArtifact(ARTIFACT);
+        final List<RemoteRepository> repositories = Collections.singletonList(new RemoteRepository.Builder(
+            "repository", "default", "http://localhost/repository/").build());
+
+        cache.missing(session, artifact, repositories.get(0));
+        Assert.assertTrue(cache.filter(session, artifact, repositories).isEmpty());
+
+        session.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_DAILY);
+        Assert.assertEquals(repositories, cache.filter(session, artifact, repositories));
+
+        // forced updates never skip the repository
+        session.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_ALWAYS);
+        cache.missing(session, artifact, repositories.get(0));
+        Assert.assertEquals(repositories, cache.filter(session, artifact, repositories));
+    }
+
+    @Test
+    public void silentRepositoryIsContactedOnce() throws Exception {
+        System.setProperty(ConfigurationProperties.REQUEST_TIMEOUT, "500");
+        // connections are accepted by the system but nothing is ever read nor written
+        try (ServerSocket socket = new ServerSocket(0, 50)) {
+            final String url = "http://localhost:" + socket.getLocalPort() + "/repository/";
+
+            assertNotResolvable(url);
+            Assert.assertTrue("Repository which timed out should be skipped", cache.isOpen(url));
+
+            final long hits = cache.getHitCount();
+            assertNotResolvable(url);
+            Assert.assertTrue("Transfers from skipped repository should be cancelled", cache.getHitCount() > hits);
+        } finally {
+            System.clearProperty(ConfigurationProperties.REQUEST_TIMEOUT);
+        }
+    }
+
+    @Test
+    public void refusedConnectionDoesNotOpenCircuit() throws Exception {
+        final String url = "http://localhost:" + unusedPort() + "/repository/";
+        assertNotResolvable(url);
+        Assert.assertFalse(cache.isOpen(url));
+    }
+
+    @Test
+    public void circuitIsClosedBySuccessfulTransfer() throws Exception {
+        final String url = "http://localhost/repository/";
+        final TransferListener listener = cache.transferListener();
+
+        listener.transferFailed(event(url, new SocketTimeoutException("Read timed out")));
+        Assert.assertTrue(cache.isOpen(url));
+        Assert.assertThrows(TransferCancelledException.class, () -> listener.transferInitiated(event(url, null)));
+
+        // cancelled transfer does not count as a failure of the repository
+        listener.transferFailed(event(url, new TransferCancelledException()));
+        listener.transferSucceeded(event(url, null));
+        Assert.assertFalse(cache.isOpen(url));
+        listener.transferInitiated(event(url, null));
+    }
+
+    @Test
+    public void missingResourceDoesNotOpenCircuit() {
+        final String url = "http://localhost/repository/";
+        cache.transferListener().transferFailed(event(url, new IOException("Not Found")));
+        Assert.assertFalse(cache.isOpen(url));
+    }
+
+    @Test
+    public void interruptedTransferDoesNotOpenCircuit() {
+        final String url = "http://localhost/repository/";
+        final TransferListener listener = cache.transferListener();
+
+        listener.transferFailed(event(url, new InterruptedIOException()));
+        listener.transferFailed(event(url, new IOException(new ClosedByInterruptException())));
+        Assert.assertFalse(cache.isOpen(url));
+
+        // a timeout reported to a thread which was interrupted is caused by the interruption
+        Thread.currentThread().interrupt();
+        try {
+            listener.transferFailed(event(url, new SocketTimeoutException("Read timed out")));
+        } finally {
+            Thread.interrupted();
+        }
+        Assert.assertFalse(cache.isOpen(url));
+    }
+
+    @Test
+    public void connectTimeoutOpensCircuit() {
+        final String url = "http://localhost/repository/";
+        cache.transferListener().transferFailed(event(url, new IOException(new ConnectTimeoutException())));
+        Assert.assertTrue(cache.isOpen(url));
+    }
+
+    private static void assertNotResolvable(final String url) {
+        Assert.assertThrows(NoResolvedResultException.class, () -> resolve(url));
+    }
+
+    private static File resolve(final String url) {
+        return Maven.configureResolver().withMavenCentralRepo(false).withRemoteRepo("negative-cache", url, "default")
+            .fromFile("target/settings/profiles/settings.xml").resolve(ARTIFACT).withoutTransitivity().asSingleFile();
+    }
+
+    private static void deploy() throws IOException {
+        final File directory = new File(REMOTE_REPOSITORY, "org/jboss/shrinkwrap/test/negative-cache/1.0.0");
+        Files.createDirectories(directory.toPath());
+        Files.write(new File(directory, "negative-cache-1.0.0.pom").toPath(), ("<project><modelVersion>4.0.0"
+            + "</modelVersion><groupId>org.jboss.shrinkwrap.test</groupId><artifactId>negative-cache</artifactId>"
+            + "<version>1.0.0</version></project>").getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(directory, "negative-cache-1.0.0.jar").toPath(), new byte[0]);
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static TransferEvent event(final String url, final Exception exception) {
+        return new TransferEvent.Builder(new DefaultRepositorySystemSession(),
+            new TransferResource("repository", url, "org/example/example.jar", null, null)).setException(exception)
+            .build();
+    }
+
+    /**
+     * Stands for the exception of an HTTP client failing to connect in time, recognized by its name
+     */
+    private static final class ConnectTimeoutException extends InterruptedIOException {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.building.DefaultSettingsBuildingRequest;
+import org.apache.maven.settings.building.SettingsBuildingRequest;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that settings are reused by {@link SettingsCache} until any of their inputs changes.
+ */
+public class SettingsCacheTestCase {
+
+    private static final File DIRECTORY = new File("target/settings-cache");
+    private static final File USER_SETTINGS = new File(DIRECTORY, "settings.xml");
+
+    @Before
+    public void copySettings() throws Exception {
+        TestFileUtil.removeDirectory(DIRECTORY);
+        Files.createDirectories(DIRECTORY.toPath());
+        Files.copy(new File("target/settings/profiles/settings-auth-encrypted.xml").toPath(), USER_SETTINGS.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+        System.setProperty(MavenSettingsBuilder.ALT_SECURITY_SETTINGS_XML_LOCATION,
+            "target/settings/profiles/settings-security.xml");
+    }
+
+    @After
+    public void removeSettings() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_SECURITY_SETTINGS_XML_LOCATION);
+        TestFileUtil.removeDirectory(DIRECTORY);
+    }
+
+    @Test
+    public void settingsAreBuiltOnce() {
+        final SettingsCache cache = SettingsCache.getInstance();
+        final long misses = cache.getMissCount();
+        final long hits = cache.getHitCount();
+
+        final Settings settings = build();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(settings.getServers().get(0).getPassword(), build().getServers().get(0).getPassword());
+        }
+
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+        Assert.assertEquals(hits + 100, cache.getHitCount());
+    }
+
+    @Test
+    public void settingsAreCopied() {
+        final Settings settings = build();
+        final boolean offline = settings.isOffline();
+        settings.setOffline(!offline);
+        settings.getServers().get(0).setPassword("modified");
+
+        final Settings copy = build();
+        Assert.assertEquals(offline, copy.isOffline());
+        Assert.assertNotEquals("modified", copy.getServers().get(0).getPassword());
+    }
+
+    @Test
+    public void modifiedSettingsAreRebuilt() {
+        build();
+        Assert.assertTrue(USER_SETTINGS.setLastModified(USER_SETTINGS.lastModified() - 10000L));
+
+        final SettingsCache cache = SettingsCache.getInstance();
+        final long misses = cache.getMissCount();
+        build();
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void differentLocalRepositoryIsNotReused() {
+        build();
+
+        final SettingsCache cache = SettingsCache.getInstance();
+        final long misses = cache.getMissCount();
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, "target/settings-cache/repository");
+        try {
+            Assert.assertEquals("target/settings-cache/repository", build().getLocalRepository());
+        } finally {
+            System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        }
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    private static Settings build() {
+        final SettingsBuildingRequest request = new DefaultSettingsBuildingRequest()
+            .setUserSettingsFile(USER_SETTINGS).setSystemProperties(System.getProperties());
+        return new MavenSettingsBuilder().buildSettings(request);
+    }
+}
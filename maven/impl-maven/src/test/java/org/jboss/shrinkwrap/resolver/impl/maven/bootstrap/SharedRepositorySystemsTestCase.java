@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.bootstrap;
+
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
+
+/**
+ * Verifies that {@link MavenRepositorySystem} instances borrow their repository system from {@link SharedRepositorySystems}
+ */
+public class SharedRepositorySystemsTestCase {
+
+    private static final ContextOverrides.ChecksumPolicy POLICY = ContextOverrides.ChecksumPolicy.WARN;
+
+    @Rule
+    public final RestoreSystemProperties restoreSystemProperties = new RestoreSystemProperties();
+
+    @Test
+    public void repositorySystemIsShared() {
+        final MavenRepositorySystem first = new MavenRepositorySystem();
+        final MavenRepositorySystem second = new MavenRepositorySystem();
+        Assert.assertSame(first.getContext(), second.getContext());
+        Assert.assertSame(SharedRepositorySystems.get(POLICY), first.getContext());
+    }
+
+    @Test
+    public void repositorySystemIsIsolatedIfSharingIsDisabled() {
+        System.setProperty(SharedRepositorySystems.SHARED_REPOSITORY_SYSTEM_KEY, "false");
+
+        final MavenRepositorySystem system = new MavenRepositorySystem();
+        Assert.assertNotSame("Isolated repository system is not pooled", SharedRepositorySystems.get(POLICY),
+            system.getContext());
+        system.getContext().close();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.format;
+
+import java.io.File;
+
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.spi.format.FileFormatProcessor;
+import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessor;
+import org.jboss.shrinkwrap.resolver.spi.format.FormatProcessors;
+import org.jboss.shrinkwrap.resolver.spi.loader.ServiceRegistry;
+import org.jboss.shrinkwrap.resolver.spi.loader.SpiServiceLoader;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link FormatProcessors} lookup.
+ */
+public class FormatProcessorsTestCase {
+
+    @Before
+    public void registerServices() {
+        ServiceRegistry.register(new ServiceRegistry(new SpiServiceLoader()));
+    }
+
+    @Test
+    public void findProcessorDeclaringSupertype() {
+        final FormatProcessor<? super MavenResolvedArtifact, File> processor = FormatProcessors.find(
+                MavenResolvedArtifact.class, File.class);
+        Assert.assertSame(FileFormatProcessor.INSTANCE, processor);
+    }
+
+    @Test
+    public void repeatedLookupReturnsSameProcessor() {
+        final FormatProcessor<? super MavenResolvedArtifact, MavenCoordinate> processor = FormatProcessors.find(
+                MavenResolvedArtifact.class, MavenCoordinate.class);
+        Assert.assertTrue(processor instanceof MavenCoordinateProcessor);
+        Assert.assertSame(processor, FormatProcessors.find(MavenResolvedArtifact.class, MavenCoordinate.class));
+    }
+
+    @Test
+    public void newRegistryIsConsulted() {
+        final FormatProcessor<? super MavenResolvedArtifact, MavenCoordinate> processor = FormatProcessors.find(
+                MavenResolvedArtifact.class, MavenCoordinate.class);
+
+        registerServices();
+        Assert.assertNotSame(processor, FormatProcessors.find(MavenResolvedArtifact.class, MavenCoordinate.class));
+    }
+
+    @Test
+    public void unsupportedReturnType() {
+        try {
+            FormatProcessors.find(MavenResolvedArtifact.class, StringBuilder.class);
+            Assert.fail("UnsupportedOperationException was expected");
+        } catch (UnsupportedOperationException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("No format processor for java.lang.StringBuilder"));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains(MavenCoordinateProcessor.class.getName()));
+        }
+    }
+}
@@ -183,6 +183,36 @@ public class AsMavenResolvedArtifactTestCase {
         assertEquals(ScopeType.RUNTIME, child2.getScope());
     }
 
+    /**
+     * Tests that getDependencies of a non-transitive resolution lists direct dependencies only, these are not
+     * collected any further.
+     */
+    @Test
+    public void resolvedArtifactInfoDependenciesWithoutTransitivity() {
+        // given
+        final String artifactCanonicalForm = "org.jboss.shrinkwrap.test:test-dependency-test:jar:1.0.0";
+        final MavenCoordinate grandchildParentCoordinate = MavenCoordinates
+                .createCoordinate("org.jboss.shrinkwrap.test:test-deps-g:jar:1.0.0");
+
+        // when
+        final MavenResolvedArtifact nonTransitive = Maven.resolver().resolve(artifactCanonicalForm)
+                .withoutTransitivity().asSingleResolvedArtifact();
+        final MavenResolvedArtifact transitive = Maven.resolver().resolve(artifactCanonicalForm).withTransitivity()
+                .asResolvedArtifact()[0];
+
+        // then
+        assertEquals("Resolved artifact should have children", 3, nonTransitive.getDependencies().length);
+        assertEquals("Resolved artifact should have children", 3, transitive.getDependencies().length);
+
+        final MavenArtifactInfo nonTransitiveChild = nonTransitive.getDependencies()[2];
+        assertEquals(grandchildParentCoordinate, nonTransitiveChild.getCoordinate());
+        assertEquals("Dependencies of children are not collected", 0, nonTransitiveChild.getDependencies().length);
+
+        final MavenArtifactInfo transitiveChild = transitive.getDependencies()[2];
+        assertEquals(grandchildParentCoordinate, transitiveChild.getCoordinate());
+        assertEquals("Dependencies of children are collected", 1, transitiveChild.getDependencies().length);
+    }
+
     /**
      * Tests getDependencies of with optional dependency and that this flag is preserved
      */
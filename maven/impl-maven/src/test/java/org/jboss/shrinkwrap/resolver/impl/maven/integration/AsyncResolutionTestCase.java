@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Ensures that resolution can be run asynchronously, cancelled and timed out.
+ */
+public class AsyncResolutionTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    @Test
+    public void resolveAsync() throws Exception {
+        final MavenFormatStage stage = Maven.configureResolver().fromFile(SETTINGS)
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0").withTransitivityAsync().get(60, TimeUnit.SECONDS);
+
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(stage.asFile());
+    }
+
+    @Test
+    public void independentResolutionsOfSameResolver() throws Exception {
+        final MavenResolverSystem resolver = Maven.configureResolver().fromFile(SETTINGS);
+
+        // dependencies are taken over by the first resolution, the resolver is free to be used again right away
+        final CompletableFuture<MavenFormatStage> first = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+            .withTransitivityAsync();
+        final CompletableFuture<MavenFormatStage> second = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-a:1.0.0")
+            .withoutTransitivityAsync();
+
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(first.get(60, TimeUnit.SECONDS).asFile());
+        new ValidationUtil("test-deps-a-1.0.0.jar").validate(second.get(60, TimeUnit.SECONDS).asFile());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noDependencies() {
+        Maven.configureResolver().fromFile(SETTINGS).resolve().withTransitivityAsync();
+    }
+
+    @Test
+    public void cancelledResolution() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<MavenFormatStage> future = Maven.configureResolver().fromFile(SETTINGS)
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0").withTransitivityAsync(delayingExecutor(release));
+
+        Assert.assertTrue(future.cancel(true));
+        release.countDown();
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            Assert.fail("Cancelled resolution must not complete");
+        } catch (CancellationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void timedOutResolution() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<MavenFormatStage> future = Maven.configureResolver().fromFile(SETTINGS)
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+            .usingAsync(TransitiveStrategy.INSTANCE, delayingExecutor(release), 100L, TimeUnit.MILLISECONDS);
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            Assert.fail("Resolution must time out");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Runs each task in a new thread once released
+     */
+    private static Executor delayingExecutor(final CountDownLatch release) {
+        return task -> new Thread(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            task.run();
+        }).start();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.NoResolvedResultException;
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.PomlessResolveStage;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Ensures that several independent sets of dependencies can be resolved in a single call.
+ */
+public class BatchResolutionTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    @Test
+    public void resolveIndependentSets() {
+        final Map<String, List<String>> sets = new LinkedHashMap<>();
+        sets.put("c", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0"));
+        sets.put("g", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-g:1.0.0"));
+        sets.put("c+g", Arrays.asList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0",
+            "org.jboss.shrinkwrap.test:test-deps-g:1.0.0"));
+
+        final Map<String, MavenFormatStage> resolved = Maven.configureResolver().fromFile(SETTINGS).resolveAll(sets,
+            TransitiveStrategy.INSTANCE);
+
+        Assert.assertEquals(Arrays.asList("c", "g", "c+g"), Arrays.asList(resolved.keySet().toArray()));
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(resolved.get("c").asFile());
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-g.tree"))
+            .validate(resolved.get("g").asFile());
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c+g.tree"))
+            .validate(resolved.get("c+g").asFile());
+    }
+
+    @Test
+    public void sameResultAsSeparateResolution() {
+        final MavenResolverSystem resolver = Maven.configureResolver().fromFile(SETTINGS);
+        final Map<String, MavenFormatStage> resolved = resolver.resolveAll(Collections.singletonMap("c",
+            Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")), TransitiveStrategy.INSTANCE);
+
+        final File[] expected = resolver.resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0").withTransitivity()
+            .asFile();
+        Assert.assertArrayEquals(expected, resolved.get("c").asFile());
+    }
+
+    @Test
+    public void strategyIsApplied() {
+        final Map<String, MavenFormatStage> resolved = Maven.configureResolver().fromFile(SETTINGS).resolveAll(
+            Collections.singletonMap("c", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")),
+            NonTransitiveStrategy.INSTANCE);
+
+        new ValidationUtil("test-deps-c-1.0.0.jar").validate(resolved.get("c").asFile());
+    }
+
+    @Test
+    public void dependenciesAddedBeforeAreKept() {
+        final MavenResolverSystem resolver = Maven.configureResolver().fromFile(SETTINGS);
+        final PomlessResolveStage stage = resolver.addDependency(MavenDependencies.createDependency(
+            "org.jboss.shrinkwrap.test:test-deps-a:1.0.0", ScopeType.COMPILE, false));
+
+        final Map<String, MavenFormatStage> resolved = resolver.resolveAll(Collections.singletonMap("c",
+            Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")), TransitiveStrategy.INSTANCE);
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(resolved.get("c").asFile());
+
+        new ValidationUtil("test-deps-a-1.0.0.jar").validate(stage.resolve().withoutTransitivity().asFile());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptySet() {
+        Maven.configureResolver().fromFile(SETTINGS).resolveAll(Collections.singletonMap("empty",
+            Collections.<String>emptyList()), TransitiveStrategy.INSTANCE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noSets() {
+        Maven.configureResolver().fromFile(SETTINGS).resolveAll(Collections.<String, List<String>>emptyMap(),
+            TransitiveStrategy.INSTANCE);
+    }
+
+    @Test(expected = NoResolvedResultException.class)
+    public void missingArtifact() {
+        final Map<String, List<String>> sets = new LinkedHashMap<>();
+        sets.put("c", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-c:1.0.0"));
+        sets.put("missing", Collections.singletonList("org.jboss.shrinkwrap.test:test-deps-missing:1.0.0"));
+        Maven.configureResolver().fromFile(SETTINGS).resolveAll(sets, TransitiveStrategy.INSTANCE);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenCoordinate;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.NonTransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that a dependency graph can be collected without downloading any artifact.
+ */
+public class CollectDependenciesTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    private static final String LOCAL_REPOSITORY = "target/collect-repository";
+
+    private static final String ARTIFACT = "org.jboss.shrinkwrap.test:test-deps-c:1.0.0";
+
+    @Before
+    public void useEmptyLocalRepository() throws Exception {
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY);
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+    }
+
+    @Test
+    public void collectDoesNotDownloadArtifacts() throws Exception {
+        final MavenArtifactInfo[] collected = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).collect();
+
+        Assert.assertEquals(2, collected.length);
+        // only descriptors of test-deps-c and test-deps-b are needed to build the graph
+        Assert.assertEquals(2, filesWithExtension(".pom").size());
+        Assert.assertTrue(filesWithExtension(".jar").isEmpty());
+    }
+
+    @Test
+    public void collectMatchesResolution() {
+        final MavenArtifactInfo[] collected = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).collect();
+        final MavenCoordinate[] resolved = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivity().as(MavenCoordinate.class);
+
+        Assert.assertEquals(resolved.length, collected.length);
+        for (int i = 0; i < resolved.length; i++) {
+            Assert.assertEquals(resolved[i], collected[i].getCoordinate());
+        }
+
+        // the graph is available as well
+        final MavenArtifactInfo root = collected[0];
+        Assert.assertEquals("test-deps-c", root.getCoordinate().getArtifactId());
+        Assert.assertEquals(1, root.getDependencies().length);
+        Assert.assertEquals("test-deps-b", root.getDependencies()[0].getCoordinate().getArtifactId());
+        Assert.assertSame(collected[1], root.getDependencies()[0]);
+    }
+
+    @Test
+    public void collectWithStrategy() throws Exception {
+        final MavenArtifactInfo[] collected = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .collect(NonTransitiveStrategy.INSTANCE);
+
+        Assert.assertEquals(1, collected.length);
+        Assert.assertEquals("test-deps-c", collected[0].getCoordinate().getArtifactId());
+        Assert.assertTrue(filesWithExtension(".jar").isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void collectRequiresDependencies() {
+        Maven.configureResolver().fromFile(SETTINGS).resolve(new ArrayList<String>()).collect();
+    }
+
+    private static List<Path> filesWithExtension(final String extension) throws IOException {
+        try (Stream<Path> files = Files.walk(new File(LOCAL_REPOSITORY).toPath())) {
+            return files.filter(file -> file.getFileName().toString().endsWith(extension))
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolverSystem;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenWorkingSession;
+import org.jboss.shrinkwrap.resolver.api.maven.coordinate.MavenDependencies;
+import org.jboss.shrinkwrap.resolver.impl.maven.MavenWorkingSessionContainer;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Ensures that a resolver system in concurrent resolution mode may be used from multiple threads at the same time.
+ */
+public class ConcurrentResolutionTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    @Test
+    public void resolveFromMultipleThreads() throws Exception {
+        final MavenResolverSystem resolver = Maven.configureResolver().withConcurrentResolution(true)
+            .fromFile(SETTINGS);
+
+        final List<Callable<File[]>> withoutTransitivity = new ArrayList<>();
+        final List<Callable<File[]>> withTransitivity = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            withoutTransitivity.add(() -> resolver.resolve("org.jboss.shrinkwrap.test:test-deps-a:1.0.0")
+                .withoutTransitivity().asFile());
+            withTransitivity.add(() -> resolver.resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0")
+                .withTransitivity().asFile());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<File[]>> withoutTransitivityResults = new ArrayList<>();
+            final List<Future<File[]>> withTransitivityResults = new ArrayList<>();
+            for (int i = 0; i < withoutTransitivity.size(); i++) {
+                withoutTransitivityResults.add(executor.submit(withoutTransitivity.get(i)));
+                withTransitivityResults.add(executor.submit(withTransitivity.get(i)));
+            }
+
+            for (Future<File[]> result : withoutTransitivityResults) {
+                new ValidationUtil("test-deps-a-1.0.0.jar").validate(result.get());
+            }
+            for (Future<File[]> result : withTransitivityResults) {
+                ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+                    .validate(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void resolutionDoesNotModifySharedSession() {
+        final MavenResolverSystem resolver = Maven.configureResolver().withConcurrentResolution(true)
+            .fromFile(SETTINGS);
+        final MavenWorkingSession session = ((MavenWorkingSessionContainer) resolver).getMavenWorkingSession();
+
+        resolver.addDependency(MavenDependencies.createDependency("org.jboss.shrinkwrap.test:test-deps-a:1.0.0", null,
+            false));
+        resolver.loadPomFromFile("target/poms/test-bom.xml");
+
+        Assert.assertTrue(session.getDependenciesForResolution().isEmpty());
+        Assert.assertTrue(session.getDependencyManagement().isEmpty());
+    }
+
+    @Test
+    public void resolutionWithoutConcurrentModeModifiesSession() {
+        final MavenResolverSystem resolver = Maven.configureResolver().fromFile(SETTINGS);
+        final MavenWorkingSession session = ((MavenWorkingSessionContainer) resolver).getMavenWorkingSession();
+
+        resolver.addDependency(MavenDependencies.createDependency("org.jboss.shrinkwrap.test:test-deps-a:1.0.0", null,
+            false));
+
+        Assert.assertEquals(1, session.getDependenciesForResolution().size());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.jfr.FlightRecorderEvents;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that each phase of a resolution emits a Flight Recorder event.
+ */
+public class FlightRecorderEventsTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    private static final String LOCAL_REPOSITORY = "target/jfr-repository";
+
+    private static final String POM = "target/poms/test-deps-c.xml";
+
+    private static final String EVENT_PREFIX = "org.jboss.shrinkwrap.resolver.maven.";
+
+    @Before
+    public void useEmptyLocalRepository() throws Exception {
+        Assume.assumeTrue(FlightRecorderEvents.isAvailable());
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY);
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+    }
+
+    @Test
+    public void everyPhaseIsRecorded() throws Exception {
+        final List<RecordedEvent> events = record(() -> Maven.configureResolver().fromFile(SETTINGS)
+            .loadPomFromFile(POM).importCompileAndRuntimeDependencies().resolve().withTransitivity().asFile());
+
+        Assert.assertFalse(find(events, "SessionBootstrap").isEmpty());
+        Assert.assertFalse(find(events, "SettingsBuild").isEmpty());
+
+        final RecordedEvent pom = find(events, "EffectivePomBuild").get(0);
+        Assert.assertEquals("org.jboss.shrinkwrap.test:test-deps-c:jar:1.0.0", pom.getString("coordinates"));
+        Assert.assertEquals(new File(POM).getAbsolutePath(), pom.getString("pomFile"));
+        Assert.assertEquals(1, pom.getInt("dependencies"));
+
+        final RecordedEvent collect = find(events, "Collect").get(0);
+        Assert.assertTrue(collect.getString("dependencies").contains("test-deps-b"));
+        Assert.assertTrue(collect.getString("repositories").contains("test-repository"));
+        Assert.assertTrue(collect.getInt("nodes") >= 2);
+
+        final RecordedEvent resolve = find(events, "Resolve").get(0);
+        final int artifacts = resolve.getInt("artifacts");
+        Assert.assertTrue(artifacts > 0);
+
+        final RecordedEvent filter = find(events, "Filter").get(0);
+        Assert.assertEquals(artifacts, filter.getInt("evaluated") - filter.getInt("rejected"));
+        // filtering is timed on its own, neither collection nor resolution of artifacts is part of it
+        Assert.assertFalse(filter.getStartTime().isBefore(collect.getEndTime()));
+        Assert.assertFalse(filter.getEndTime().isAfter(resolve.getStartTime()));
+
+        final RecordedEvent format = find(events, "Format").get(0);
+        Assert.assertEquals(File.class.getName(), format.getString("format"));
+        Assert.assertEquals(artifacts, format.getInt("artifacts"));
+    }
+
+    @Test
+    public void transfersAreRecorded() throws Exception {
+        final List<RecordedEvent> events = record(() -> Maven.configureResolver().fromFile(SETTINGS)
+            .resolve("org.jboss.shrinkwrap.test:test-deps-c:1.0.0").withTransitivity().asFile());
+
+        // test-deps-c depends on test-deps-b, both have a pom and a jar
+        final List<RecordedEvent> transfers = find(events, "Transfer");
+        Assert.assertEquals(4, transfers.size());
+        for (RecordedEvent transfer : transfers) {
+            Assert.assertEquals("test-repository", transfer.getString("repositoryId"));
+            Assert.assertEquals("GET", transfer.getString("requestType"));
+            Assert.assertTrue(transfer.getBoolean("succeeded"));
+            Assert.assertTrue(transfer.getLong("size") > 0L);
+            Assert.assertTrue(transfer.getString("resource").contains("test-deps-"));
+        }
+    }
+
+    private static List<RecordedEvent> record(final Runnable resolution) throws Exception {
+        final Path file = Files.createTempFile("shrinkwrap-resolver", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                for (String name : new String[] { "SessionBootstrap", "SettingsBuild", "EffectivePomBuild", "Collect",
+                    "Resolve", "Transfer", "Filter", "Format" }) {
+                    recording.enable(EVENT_PREFIX + name);
+                }
+                recording.start();
+                resolution.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> find(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> found = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(EVENT_PREFIX + name)) {
+                found.add(event);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that artifacts can be downloaded on their first access rather than during resolution.
+ */
+public class LazyDownloadTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    private static final String LOCAL_REPOSITORY = "target/lazy-repository";
+
+    private static final String ARTIFACT = "org.jboss.shrinkwrap.test:test-deps-c:1.0.0";
+
+    private static final String LAZY_DOWNLOAD_KEY = "org.jboss.shrinkwrap.resolver.maven.lazy-download";
+
+    @Before
+    public void useEmptyLocalRepository() throws Exception {
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY);
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        System.clearProperty(LAZY_DOWNLOAD_KEY);
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+    }
+
+    @Test
+    public void artifactIsDownloadedOnFirstAccess() throws Exception {
+        final MavenResolvedArtifact[] artifacts = Maven.configureResolver().withLazyDownload(true).fromFile(SETTINGS)
+            .resolve(ARTIFACT).withTransitivity().asResolvedArtifact();
+
+        Assert.assertEquals(2, artifacts.length);
+        Assert.assertEquals("test-deps-b", artifacts[0].getDependencies()[0].getCoordinate().getArtifactId());
+        Assert.assertTrue(filesWithExtension(".jar").isEmpty());
+
+        final File file = artifacts[1].asFile();
+        Assert.assertTrue(file.isFile());
+        Assert.assertEquals("test-deps-b-1.0.0.jar", file.getName());
+        Assert.assertEquals(1, filesWithExtension(".jar").size());
+        Assert.assertSame(file, artifacts[1].asFile());
+
+        Assert.assertEquals("test-deps-c-1.0.0.jar", artifacts[0].asFile().getName());
+        Assert.assertEquals(2, filesWithExtension(".jar").size());
+    }
+
+    @Test
+    public void formatStageDownloadsAllArtifacts() throws Exception {
+        final File[] files = Maven.configureResolver().withLazyDownload(true).fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivity().asFile();
+
+        Assert.assertEquals(2, files.length);
+        for (File file : files) {
+            Assert.assertTrue(file.isFile());
+        }
+        Assert.assertEquals(2, filesWithExtension(".jar").size());
+    }
+
+    @Test
+    public void lazyDownloadBySystemProperty() throws Exception {
+        System.setProperty(LAZY_DOWNLOAD_KEY, "true");
+        final MavenResolvedArtifact[] artifacts = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivity().asResolvedArtifact();
+
+        Assert.assertEquals(2, artifacts.length);
+        Assert.assertTrue(filesWithExtension(".jar").isEmpty());
+        Assert.assertTrue(artifacts[0].asFile().isFile());
+    }
+
+    @Test
+    public void resolutionIsEagerByDefault() throws Exception {
+        final MavenResolvedArtifact[] artifacts = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivity().asResolvedArtifact();
+
+        Assert.assertEquals(2, artifacts.length);
+        Assert.assertEquals(2, filesWithExtension(".jar").size());
+    }
+
+    private static List<Path> filesWithExtension(final String extension) throws IOException {
+        try (Stream<Path> files = Files.walk(new File(LOCAL_REPOSITORY).toPath())) {
+            return files.filter(file -> file.getFileName().toString().endsWith(extension))
+                .collect(Collectors.toList());
+        }
+    }
+}
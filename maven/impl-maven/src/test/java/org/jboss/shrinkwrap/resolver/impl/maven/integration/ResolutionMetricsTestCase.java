@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenFormatStage;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.InMemoryResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetrics;
+import org.jboss.shrinkwrap.resolver.api.maven.metrics.ResolutionMetricsListeners;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.TransitiveStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that metrics of a resolution are provided by the format stage and by the listeners registered globally.
+ */
+public class ResolutionMetricsTestCase {
+
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+
+    private static final String LOCAL_REPOSITORY = "target/metrics-repository";
+
+    private static final String ARTIFACT = "org.jboss.shrinkwrap.test:test-deps-c:1.0.0";
+
+    @Before
+    public void useEmptyLocalRepository() throws Exception {
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY);
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+    }
+
+    @Test
+    public void downloadsAreRecorded() {
+        final ResolutionMetrics metrics = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivity().getResolutionMetrics();
+
+        // test-deps-c depends on test-deps-b, both have a pom and a jar
+        Assert.assertEquals(2, metrics.getDescriptorCount());
+        Assert.assertEquals(4, metrics.getDownloadedArtifactCount());
+        Assert.assertEquals(0, metrics.getLocalArtifactCount());
+        Assert.assertTrue(metrics.getCollectTimeNanos() > 0L);
+        Assert.assertTrue(metrics.getResolveTimeNanos() > 0L);
+        Assert.assertEquals(Collections.singleton("test-repository"), metrics.getDownloadedBytesByRepository().keySet());
+        Assert.assertTrue(metrics.getDownloadedBytes() > 0L);
+        Assert.assertEquals(metrics.getDownloadedBytes(), metrics.toMap().get("bytes.downloaded.test-repository")
+            .longValue());
+        Assert.assertFalse(metrics.getTransferTimesMillis().isEmpty());
+    }
+
+    @Test
+    public void localArtifactsAreRecorded() {
+        Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).withTransitivity().asFile();
+
+        final ResolutionMetrics metrics = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivity().getResolutionMetrics();
+        Assert.assertEquals(0, metrics.getDownloadedArtifactCount());
+        Assert.assertEquals(0L, metrics.getDownloadedBytes());
+        Assert.assertEquals(metrics.getResolvedArtifactCount(), metrics.getLocalArtifactCount());
+        Assert.assertTrue(metrics.getLocalArtifactCount() > 0);
+    }
+
+    @Test
+    public void globalListenerIsNotified() {
+        final InMemoryResolutionMetrics listener = new InMemoryResolutionMetrics();
+        ResolutionMetricsListeners.register(listener);
+        final ResolutionMetrics first;
+        final ResolutionMetrics second;
+        try {
+            first = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).withTransitivity()
+                .getResolutionMetrics();
+            second = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).withoutTransitivity()
+                .getResolutionMetrics();
+        } finally {
+            ResolutionMetricsListeners.unregister(listener);
+        }
+        Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).withTransitivity();
+
+        Assert.assertEquals(2L, listener.getResolutionCount());
+        Assert.assertSame(second, listener.getLast());
+        Assert.assertEquals(first.getResolvedArtifactCount() + second.getResolvedArtifactCount(),
+            listener.getTotal().getResolvedArtifactCount());
+
+        final Map<String, Long> exported = listener.export();
+        Assert.assertEquals(Long.valueOf(2L), exported.get("resolutions"));
+        Assert.assertEquals(Long.valueOf(first.getDownloadedBytes()), exported.get("bytes.downloaded"));
+
+        listener.reset();
+        Assert.assertEquals(0L, listener.getResolutionCount());
+        Assert.assertSame(ResolutionMetrics.EMPTY, listener.getTotal());
+    }
+
+    @Test
+    public void asynchronousResolutionProvidesMetrics() throws Exception {
+        final ResolutionMetrics metrics = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT)
+            .withTransitivityAsync().get(1, TimeUnit.MINUTES).getResolutionMetrics();
+        Assert.assertEquals(4, metrics.getDownloadedArtifactCount());
+    }
+
+    @Test
+    public void batchResolutionProvidesMetrics() {
+        final Map<String, MavenFormatStage> resolved = Maven.configureResolver().fromFile(SETTINGS).resolveAll(
+            Collections.singletonMap("c", Collections.singletonList(ARTIFACT)), TransitiveStrategy.INSTANCE);
+        Assert.assertEquals(4, resolved.get("c").getResolutionMetrics().getDownloadedArtifactCount());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.impl.maven.ResolutionResultCache;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.ValidationUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that results of resolution are stored in and reused from {@link ResolutionResultCache}.
+ */
+public class ResolutionResultCacheTestCase {
+
+    private static final String CACHE_DIRECTORY = "target/resolution-cache";
+    private static final String LOCAL_REPOSITORY = "target/resolution-cache-repository";
+    private static final String SETTINGS = "target/settings/profiles/settings.xml";
+    private static final String ARTIFACT = "org.jboss.shrinkwrap.test:test-deps-c:1.0.0";
+    private static final String ACTIVATION_PROPERTY = "org.jboss.shrinkwrap.test.activation";
+
+    @Before
+    public void enableCache() throws Exception {
+        TestFileUtil.removeDirectory(new File(CACHE_DIRECTORY));
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+        System.setProperty(ResolutionResultCache.CACHE_DIRECTORY_KEY, CACHE_DIRECTORY);
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY);
+    }
+
+    @After
+    public void disableCache() throws Exception {
+        System.clearProperty(ResolutionResultCache.CACHE_DIRECTORY_KEY);
+        System.clearProperty(ResolutionResultCache.REFRESH_KEY);
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        System.clearProperty(ACTIVATION_PROPERTY);
+        TestFileUtil.removeDirectory(new File(CACHE_DIRECTORY));
+        TestFileUtil.removeDirectory(new File(LOCAL_REPOSITORY));
+    }
+
+    @Test
+    public void resultIsReused() {
+        final MavenResolvedArtifact[] resolved = resolve();
+        Assert.assertEquals(1, countEntries());
+
+        final long hits = ResolutionResultCache.getHitCount();
+        final MavenResolvedArtifact[] cached = resolve();
+        Assert.assertEquals(hits + 1, ResolutionResultCache.getHitCount());
+
+        Assert.assertEquals(resolved.length, cached.length);
+        final File[] files = new File[cached.length];
+        for (int i = 0; i < resolved.length; i++) {
+            assertSameArtifact(resolved[i], cached[i]);
+            Assert.assertEquals(resolved[i].asFile().getAbsoluteFile(), cached[i].asFile());
+            files[i] = cached[i].asFile();
+        }
+        ValidationUtil.fromDependencyTree(new File("src/test/resources/dependency-trees/test-deps-c.tree"))
+            .validate(files);
+    }
+
+    @Test
+    public void modifiedFileInvalidatesEntry() {
+        final MavenResolvedArtifact[] resolved = resolve();
+        final File file = resolved[0].asFile();
+        Assert.assertTrue(file.setLastModified(file.lastModified() - 10000L));
+
+        final long hits = ResolutionResultCache.getHitCount();
+        resolve();
+        Assert.assertEquals(hits, ResolutionResultCache.getHitCount());
+        Assert.assertEquals(1, countEntries());
+
+        resolve();
+        Assert.assertEquals(hits + 1, ResolutionResultCache.getHitCount());
+    }
+
+    @Test
+    public void refreshBypassesEntries() {
+        resolve();
+
+        System.setProperty(ResolutionResultCache.REFRESH_KEY, "true");
+        final long hits = ResolutionResultCache.getHitCount();
+        resolve();
+        Assert.assertEquals(hits, ResolutionResultCache.getHitCount());
+    }
+
+    @Test
+    public void clearRemovesEntries() {
+        resolve();
+        Assert.assertEquals(1, countEntries());
+
+        ResolutionResultCache.fromSystemProperties().clear();
+        Assert.assertEquals(0, countEntries());
+    }
+
+    @Test
+    public void differentStrategyIsNotReused() {
+        resolve();
+
+        final long hits = ResolutionResultCache.getHitCount();
+        final File[] files = Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).withoutTransitivity()
+            .asFile();
+        new ValidationUtil("test-deps-c-1.0.0.jar").validate(files);
+        Assert.assertEquals(hits, ResolutionResultCache.getHitCount());
+        Assert.assertEquals(2, countEntries());
+    }
+
+    @Test
+    public void differentSystemPropertiesAreNotReused() {
+        resolve();
+
+        // system properties might activate profiles of dependency POMs
+        System.setProperty(ACTIVATION_PROPERTY, "true");
+        final long hits = ResolutionResultCache.getHitCount();
+        resolve();
+        Assert.assertEquals(hits, ResolutionResultCache.getHitCount());
+        Assert.assertEquals(2, countEntries());
+    }
+
+    @Test
+    public void processSpecificSystemPropertiesAreIgnored() {
+        resolve();
+
+        // set lazily by the JVM and per fork by surefire, neither activates profiles
+        final String timezone = System.getProperty("user.timezone");
+        final String classPath = System.getProperty("surefire.real.class.path");
+        System.setProperty("user.timezone", "UTC");
+        System.setProperty("surefire.real.class.path", "surefirebooter-other.jar");
+        try {
+            final long hits = ResolutionResultCache.getHitCount();
+            resolve();
+            Assert.assertEquals(hits + 1, ResolutionResultCache.getHitCount());
+            Assert.assertEquals(1, countEntries());
+        } finally {
+            restoreProperty("user.timezone", timezone);
+            restoreProperty("surefire.real.class.path", classPath);
+        }
+    }
+
+    @Test
+    public void versionRangeIsNotCached() {
+        Maven.configureResolver().fromFile(SETTINGS).resolve("org.jboss.shrinkwrap.test:test-deps-c:[1.0.0]")
+            .withTransitivity().asFile();
+        Assert.assertEquals(0, countEntries());
+    }
+
+    private static MavenResolvedArtifact[] resolve() {
+        return Maven.configureResolver().fromFile(SETTINGS).resolve(ARTIFACT).withTransitivity()
+            .asResolvedArtifact();
+    }
+
+    private static void restoreProperty(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+    }
+
+    private static int countEntries() {
+        final File[] entries = new File(CACHE_DIRECTORY).listFiles((dir, name) -> name.endsWith(".bin"));
+        return entries == null ? 0 : entries.length;
+    }
+
+    private static void assertSameArtifact(MavenArtifactInfo expected, MavenArtifactInfo actual) {
+        Assert.assertEquals(expected.getCoordinate(), actual.getCoordinate());
+        Assert.assertEquals(expected.getResolvedVersion(), actual.getResolvedVersion());
+        Assert.assertEquals(expected.isSnapshotVersion(), actual.isSnapshotVersion());
+        Assert.assertEquals(expected.getExtension(), actual.getExtension());
+        Assert.assertEquals(expected.getScope(), actual.getScope());
+        Assert.assertEquals(expected.isOptional(), actual.isOptional());
+        Assert.assertEquals(expected.getDependencies().length, actual.getDependencies().length);
+        for (int i = 0; i < expected.getDependencies().length; i++) {
+            assertSameArtifact(expected.getDependencies()[i], actual.getDependencies()[i]);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.impl.maven.integration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.resolver.api.maven.Maven;
+import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
+import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
+import org.jboss.shrinkwrap.resolver.api.maven.strategy.AcceptScopesStrategy;
+import org.jboss.shrinkwrap.resolver.impl.maven.bootstrap.MavenSettingsBuilder;
+import org.jboss.shrinkwrap.resolver.impl.maven.util.TestFileUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that dependencies rejected by their scope still take part in version mediation, same as in Maven.
+ */
+public class ScopeFilterMediationTestCase {
+
+    private static final File DIRECTORY = new File("target/scope-mediation");
+    private static final File LOCAL_REPOSITORY = new File(DIRECTORY, "local");
+    private static final File REMOTE_REPOSITORY = new File(DIRECTORY, "remote");
+    private static final File POM = new File(DIRECTORY, "pom.xml");
+
+    private static final String GROUP_ID = "org.jboss.shrinkwrap.test.mediation";
+
+    @Before
+    public void prepareRepositories() throws Exception {
+        TestFileUtil.removeDirectory(DIRECTORY);
+        System.setProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION, LOCAL_REPOSITORY.getAbsolutePath());
+
+        // app -> middle -> shared:1.0, test-lib -> shared:2.0 and managed
+        deploy("app", "1.0", dependency("middle", "1.0", null));
+        deploy("middle", "1.0", dependency("shared", "1.0", null));
+        deploy("test-lib", "1.0", dependency("shared", "2.0", null) + dependency("managed", "1.0", null));
+        deploy("shared", "1.0", "");
+        deploy("shared", "2.0", "");
+        deploy("managed", "1.0", "");
+
+        write(POM, project("project", "1.0", dependency("app", "1.0", "compile")
+            + dependency("test-lib", "1.0", "test"), "<dependencyManagement><dependencies>"
+            + dependency("managed", "1.0", "compile") + "</dependencies></dependencyManagement>"));
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.clearProperty(MavenSettingsBuilder.ALT_LOCAL_REPOSITORY_LOCATION);
+        TestFileUtil.removeDirectory(DIRECTORY);
+    }
+
+    @Test
+    public void testDependencyTakesPartInMediation() {
+        final Map<String, MavenResolvedArtifact> artifacts = resolveCompileScope();
+
+        // shared:2.0 is nearer, it is brought by the test dependency but gets compile scope from app
+        Assert.assertEquals("2.0", artifacts.get("shared").getResolvedVersion());
+        Assert.assertEquals(ScopeType.COMPILE, artifacts.get("shared").getScope());
+        Assert.assertFalse(artifacts.containsKey("test-lib"));
+    }
+
+    @Test
+    public void managedScopeOfTransitiveTestDependencyIsKept() {
+        final Map<String, MavenResolvedArtifact> artifacts = resolveCompileScope();
+
+        Assert.assertTrue(artifacts.containsKey("managed"));
+        Assert.assertEquals(ScopeType.COMPILE, artifacts.get("managed").getScope());
+    }
+
+    private static Map<String, MavenResolvedArtifact> resolveCompileScope() {
+        final MavenResolvedArtifact[] resolved = Maven.configureResolver().withMavenCentralRepo(false)
+            .withRemoteRepo("mediation", REMOTE_REPOSITORY.toURI().toString(), "default")
+            .fromFile("target/settings/profiles/settings.xml").loadPomFromFile(POM)
+            .importDependencies(ScopeType.COMPILE, ScopeType.TEST).resolve()
+            .using(new AcceptScopesStrategy(ScopeType.COMPILE)).asResolvedArtifact();
+
+        final Map<String, MavenResolvedArtifact> artifacts = new HashMap<>();
+        for (MavenResolvedArtifact artifact : resolved) {
+            artifacts.put(artifact.getCoordinate().getArtifactId(), artifact);
+        }
+        return artifacts;
+    }
+
+    private static void deploy(final String artifactId, final String version, final String dependencies)
+            throws IOException {
+        final File directory = new File(REMOTE_REPOSITORY, GROUP_ID.replace('.', '/') + "/" + artifactId + "/"
+            + version);
+        write(new File(directory, artifactId + "-" + version + ".pom"), project(artifactId, version, dependencies,
+            ""));
+        Files.write(new File(directory, artifactId + "-" + version + ".jar").toPath(), new byte[0]);
+    }
+
+    private static String project(final String artifactId, final String version, final String dependencies,
+            final String dependencyManagement) {
+        return "<project><modelVersion>4.0.0</modelVersion><groupId>" + GROUP_ID + "</groupId><artifactId>"
+            + artifactId + "</artifactId><version>" + version + "</version>" + dependencyManagement
+            + "<dependencies>" + dependencies + "</dependencies></project>";
+    }
+
+    private static String dependency(final String artifactId, final String version, final String scope) {
+        return "<dependency><groupId>" + GROUP_ID + "</groupId><artifactId>" + artifactId + "</artifactId><version>"
+            + version + "</version>" + (scope == null ? "" : "<scope>" + scope + "</scope>") + "</dependency>";
+    }
+
+    private static void write(final File file, final String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -33,7 +33,6 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.jboss.shrinkwrap.resolver.api.maven.Maven;
 import org.jboss.shrinkwrap.resolver.api.maven.MavenArtifactInfo;
-import org.jboss.shrinkwrap.resolver.api.maven.MavenResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.api.maven.ScopeType;
 
 /**
@@ -93,16 +92,16 @@ public class DependencyTreeMojo extends AbstractResolverMojo {
         ClassLoader cls = getCombinedClassLoader(classRealmManager);
 
         // skip resolution if no dependencies are in the project (e.g. parent aggregator)
-        MavenResolvedArtifact[] artifacts;
+        MavenArtifactInfo[] artifacts;
 
         if (project.getDependencies() == null || project.getDependencies().isEmpty()) {
-            artifacts = new MavenResolvedArtifact[0];
+            artifacts = new MavenArtifactInfo[0];
         } else {
+            // only coordinates are printed, so the graph is collected without downloading any artifact
             artifacts = Maven.configureResolverViaPlugin(cls)
                 .importDependencies(scopes)
                 .resolve()
-                .withTransitivity()
-                .asResolvedArtifact();
+                .collect();
         }
 
         StringBuilder projectGAV = new StringBuilder();
@@ -17,33 +17,49 @@
 package org.jboss.shrinkwrap.resolver.spi.format;
 
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.shrinkwrap.resolver.api.ResolvedArtifact;
 import org.jboss.shrinkwrap.resolver.spi.loader.ServiceRegistry;
 
 /**
+ * Finds a {@link FormatProcessor} able to convert a resolved artifact type to a return type.
+ * <p>
+ * Registered processors are consulted only the first time a pair of resolved and return types is looked up, the
+ * processor found is then kept in a dispatch table. As processors are asked via {@link FormatProcessor#handles(Class)},
+ * a processor declaring a supertype of the resolved type, such as {@link ResolvedArtifact}, is found as well. The
+ * dispatch table is discarded once a different set of processors is registered in the {@link ServiceRegistry}.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  *
  */
 public final class FormatProcessors {
 
+    private static volatile DispatchTable dispatchTable;
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <RESOLVEDTYPE extends ResolvedArtifact<RESOLVEDTYPE>, RETURNTYPE> FormatProcessor<? super RESOLVEDTYPE, RETURNTYPE> find(
             final Class<RESOLVEDTYPE> resolvedTypeClass, final Class<RETURNTYPE> returnTypeClass) {
 
-        ServiceRegistry registry = ServiceRegistry.getInstance();
-        Collection<FormatProcessor> processors = registry.all(FormatProcessor.class);
+        final Collection<FormatProcessor> processors = ServiceRegistry.getInstance().all(FormatProcessor.class);
+
+        DispatchTable table = dispatchTable;
+        if (table == null || table.processors != processors) {
+            table = new DispatchTable(processors);
+            dispatchTable = table;
+        }
+
+        final FormatProcessor processor = table.find(resolvedTypeClass, returnTypeClass);
+        if (processor != null) {
+            return processor;
+        }
 
         StringBuilder unsupportedFormatMessage = new StringBuilder("No format processor for ")
                 .append(returnTypeClass.getName()).append(
                         " was found. Supported processors are: ");
-
-        for (FormatProcessor processor : processors) {
-            if (processor.handles(resolvedTypeClass) && processor.returns(returnTypeClass)) {
-                return processor;
-            }
-            unsupportedFormatMessage.append(processor.getClass()).append(", ");
+        for (FormatProcessor unsupported : processors) {
+            unsupportedFormatMessage.append(unsupported.getClass()).append(", ");
         }
         // trim
         if (unsupportedFormatMessage.indexOf(", ") != -1) {
@@ -53,4 +69,40 @@ public final class FormatProcessors {
         throw new UnsupportedOperationException(unsupportedFormatMessage.toString());
     }
 
+    /**
+     * Processors found for a particular set of registered processors, indexed by resolved type and return type
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final class DispatchTable {
+
+        private final Collection<FormatProcessor> processors;
+
+        private final ClassValue<ConcurrentMap<Class<?>, FormatProcessor>> byResolvedType = new ClassValue<ConcurrentMap<Class<?>, FormatProcessor>>() {
+            @Override
+            protected ConcurrentMap<Class<?>, FormatProcessor> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        DispatchTable(Collection<FormatProcessor> processors) {
+            this.processors = processors;
+        }
+
+        FormatProcessor find(Class<?> resolvedTypeClass, Class<?> returnTypeClass) {
+            final ConcurrentMap<Class<?>, FormatProcessor> byReturnType = byResolvedType.get(resolvedTypeClass);
+            FormatProcessor processor = byReturnType.get(returnTypeClass);
+            if (processor != null) {
+                return processor;
+            }
+            for (FormatProcessor candidate : processors) {
+                if (candidate.handles(resolvedTypeClass) && candidate.returns(returnTypeClass)) {
+                    // first processor found wins, even if another thread looked it up concurrently
+                    processor = byReturnType.putIfAbsent(returnTypeClass, candidate);
+                    return processor != null ? processor : candidate;
+                }
+            }
+            // misses are not remembered, they end up with an exception anyway
+            return null;
+        }
+    }
 }
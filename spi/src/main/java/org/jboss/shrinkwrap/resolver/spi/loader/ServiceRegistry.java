@@ -18,12 +18,15 @@ package org.jboss.shrinkwrap.resolver.spi.loader;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A simple singleton (application scoped) registry that fulfills {@link ServiceLoader} contract. This registry uses underlying
  * {@link ServiceLoader} implementation to load the service while storing cached instances in a local map.
+ * <p>
+ * Once a service is cached, looking it up does not acquire any lock. If several threads load the same service
+ * concurrently, the instances cached by the first one are returned to all of them.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  *
@@ -32,9 +35,9 @@ public class ServiceRegistry implements ServiceLoader {
 
     private final ServiceLoader serviceLoader;
 
-    private final Map<Class<?>, Collection<?>> cachedServiceInstances;
+    private final ConcurrentMap<Class<?>, Collection<?>> cachedServiceInstances;
 
-    private static ServiceRegistry instance;
+    private static volatile ServiceRegistry instance;
 
     /**
      * Creates a service registry with a {@link ServiceLoader} to load service instances until they are cached
@@ -43,7 +46,7 @@ public class ServiceRegistry implements ServiceLoader {
      */
     public ServiceRegistry(ServiceLoader serviceLoader) {
         this.serviceLoader = serviceLoader;
-        this.cachedServiceInstances = Collections.synchronizedMap(new HashMap<>());
+        this.cachedServiceInstances = new ConcurrentHashMap<>();
     }
 
     /**
@@ -52,11 +55,12 @@ public class ServiceRegistry implements ServiceLoader {
      * @return The singleton instance of {@link ServiceRegistry}
      * @throws IllegalStateException If no service registry was registered yet
      */
-    public static synchronized ServiceRegistry getInstance() throws IllegalStateException {
-        if (instance == null) {
+    public static ServiceRegistry getInstance() throws IllegalStateException {
+        final ServiceRegistry registry = instance;
+        if (registry == null) {
             throw new IllegalStateException("Unable to get instance of Service Registry, it was not initialized.");
         }
-        return instance;
+        return registry;
     }
 
     /**
@@ -64,7 +68,7 @@ public class ServiceRegistry implements ServiceLoader {
      *
      * @param registry The {@link ServiceRegistry} instance to register
      */
-    public static synchronized void register(ServiceRegistry registry) {
+    public static void register(ServiceRegistry registry) {
         instance = registry;
     }
 
@@ -76,14 +80,11 @@ public class ServiceRegistry implements ServiceLoader {
             throw new IllegalArgumentException("ServiceClass must be provided");
         }
 
-        synchronized (cachedServiceInstances) {
-            if (cachedServiceInstances.containsKey(serviceClass)) {
-                return (Collection<T>) cachedServiceInstances.get(serviceClass);
-            }
-            Collection<Object> services = (Collection<Object>) serviceLoader.all(serviceClass);
-            cachedServiceInstances.put(serviceClass, services);
-            return (Collection<T>) services;
+        Collection<?> services = cachedServiceInstances.get(serviceClass);
+        if (services == null) {
+            services = cache(serviceClass, serviceLoader.all(serviceClass));
         }
+        return (Collection<T>) services;
     }
 
     @SuppressWarnings("unchecked")
@@ -95,14 +96,11 @@ public class ServiceRegistry implements ServiceLoader {
             throw new IllegalArgumentException("ServiceClass must be provided");
         }
 
-        synchronized (cachedServiceInstances) {
-            if (cachedServiceInstances.containsKey(serviceClass)) {
-                return (T) cachedServiceInstances.get(serviceClass).iterator().next();
-            }
-            T service = serviceLoader.onlyOne(serviceClass);
-            cachedServiceInstances.put(serviceClass, Collections.singleton(service));
-            return service;
+        Collection<?> services = cachedServiceInstances.get(serviceClass);
+        if (services == null) {
+            services = cache(serviceClass, Collections.singleton(serviceLoader.onlyOne(serviceClass)));
         }
+        return (T) services.iterator().next();
     }
 
     @SuppressWarnings("unchecked")
@@ -115,14 +113,25 @@ public class ServiceRegistry implements ServiceLoader {
             throw new IllegalArgumentException("ServiceClass must be provided");
         }
 
-        synchronized (cachedServiceInstances) {
-            if (cachedServiceInstances.containsKey(serviceClass)) {
-                return (T) cachedServiceInstances.get(serviceClass).iterator().next();
-            }
-            T service = serviceLoader.onlyOne(serviceClass, defaultImplementationClass);
-            cachedServiceInstances.put(serviceClass, Collections.singleton(service));
-            return service;
+        Collection<?> services = cachedServiceInstances.get(serviceClass);
+        if (services == null) {
+            services = cache(serviceClass,
+                    Collections.singleton(serviceLoader.onlyOne(serviceClass, defaultImplementationClass)));
         }
+        return (T) services.iterator().next();
+    }
+
+    /**
+     * Caches loaded services unless another thread has cached them in the meantime. Services are loaded outside of
+     * any lock, so that loading a service may look up other services in this registry.
+     *
+     * @param serviceClass The service class
+     * @param services The loaded services
+     * @return The services cached for {@code serviceClass}
+     */
+    private Collection<?> cache(Class<?> serviceClass, Collection<?> services) {
+        final Collection<?> cached = cachedServiceInstances.putIfAbsent(serviceClass, services);
+        return cached != null ? cached : services;
     }
 
 }
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.shrinkwrap.resolver.spi.loader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Ensures that {@link ServiceRegistry} hands out the same service instances to all the threads looking them up
+ * concurrently on a cold registry.
+ */
+public class ServiceRegistryTestCase {
+
+    private static final int THREADS = 16;
+
+    private ExecutorService executor;
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void shutdownExecutor() throws Exception {
+        executor.shutdownNow();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void concurrentLookupsReturnSameInstances() throws Exception {
+        final CreatingServiceLoader loader = new CreatingServiceLoader();
+        final ServiceRegistry registry = new ServiceRegistry(loader);
+
+        final List<Collection<Runnable>> all = lookUp(() -> registry.all(Runnable.class));
+        final List<Runnable> onlyOne = lookUp(() -> registry.onlyOne(Runnable.class));
+
+        for (Collection<Runnable> services : all) {
+            Assert.assertSame(all.get(0), services);
+        }
+        for (Runnable service : onlyOne) {
+            Assert.assertSame(onlyOne.get(0), service);
+        }
+        Assert.assertSame(all.get(0), registry.all(Runnable.class));
+        Assert.assertSame(onlyOne.get(0), registry.onlyOne(Runnable.class));
+        Assert.assertTrue("Lookups did not run concurrently", loader.loads.get() > 1);
+    }
+
+    @Test
+    public void concurrentRegistrationIsVisible() throws Exception {
+        final ServiceRegistry registry = new ServiceRegistry(new CreatingServiceLoader());
+        ServiceRegistry.register(registry);
+
+        for (ServiceRegistry found : lookUp(ServiceRegistry::getInstance)) {
+            Assert.assertSame(registry, found);
+        }
+    }
+
+    /**
+     * Runs the lookup from all the threads at once
+     */
+    private <T> List<T> lookUp(final Callable<T> lookup) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return lookup.call();
+            }));
+        }
+        start.countDown();
+
+        final List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    /**
+     * Creates new service instances on every call and gives other threads a chance to load them at the same time
+     */
+    private static final class CreatingServiceLoader implements ServiceLoader {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public <T> Collection<T> all(Class<T> serviceClass) {
+            return Collections.singletonList(onlyOne(serviceClass));
+        }
+
+        @Override
+        public <T> T onlyOne(Class<T> serviceClass) {
+            loads.incrementAndGet();
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return serviceClass.cast((Runnable) () -> {
+            });
+        }
+
+        @Override
+        public <T> T onlyOne(Class<T> serviceClass, Class<? extends T> defaultImplementationClass) {
+            return onlyOne(serviceClass);
+        }
+    }
+}